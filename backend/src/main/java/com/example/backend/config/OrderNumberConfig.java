@@ -0,0 +1,18 @@
+package com.example.backend.config;
+
+import com.example.backend.service.OrderNumberGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.ZoneId;
+
+@Configuration
+public class OrderNumberConfig {
+
+    // 서버(인스턴스)마다 다른 노드 ID를 지정해야 서버 간 주문번호가 겹치지 않음
+    @Bean
+    public OrderNumberGenerator orderNumberGenerator(@Value("${order.number.node-id:0}") long nodeId) {
+        return new OrderNumberGenerator(nodeId, ZoneId.systemDefault());
+    }
+}
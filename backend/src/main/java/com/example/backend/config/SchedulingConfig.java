@@ -0,0 +1,10 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (조회수 일괄 반영 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,23 @@
+package com.example.backend.config;
+
+import com.example.backend.service.TossPaymentClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TossPaymentConfig {
+
+    // 토스 응답이 늦어도 요청 스레드를 오래 잡지 않도록 연결/응답 시간 제한
+    @Bean
+    public TossPaymentClient tossPaymentClient(@Value("${toss.payments.base-url:https://api.tosspayments.com}") String baseUrl,
+                                               @Value("${toss.payments.secret-key}") String secretKey,
+                                               @Value("${toss.payments.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                                               @Value("${toss.payments.read-timeout-ms:10000}") long readTimeoutMillis,
+                                               @Value("${toss.payments.max-connections:50}") int maxConnections) {
+        return new TossPaymentClient(baseUrl, secretKey, Duration.ofMillis(connectTimeoutMillis),
+                Duration.ofMillis(readTimeoutMillis), maxConnections);
+    }
+}
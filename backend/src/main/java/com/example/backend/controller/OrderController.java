@@ -1,10 +1,12 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.OrderCreateRequest;
+import com.example.backend.service.IdempotencyService;
 import com.example.backend.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,11 +17,19 @@ public class OrderController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    // Idempotency-Key 헤더가 있으면 같은 키의 재시도에 처음 응답 반환 (중복 주문 방지)
     @PostMapping("/orders")
-    public Map<String, Object> createOrder(@RequestBody OrderCreateRequest request) {
+    public Map<String, Object> createOrder(@RequestBody OrderCreateRequest request,
+                                           @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Map<String, Object> map = new HashMap<>();
         try {
-            Map<String, Object> order = orderService.createOrder(request);
+            Map<String, Object> order = idempotencyKey != null && !idempotencyKey.isBlank()
+                    ? idempotencyService.execute("orders:" + idempotencyKey.trim(), request.getUserId(), request,
+                            () -> orderService.createOrder(request))
+                    : orderService.createOrder(request);
             map.put("rt", "OK");
             map.put("item", order);
         } catch (Exception e) {
@@ -30,13 +40,20 @@ public class OrderController {
     }
 
     // 사용자별 주문 목록 조회
+    // cursor 또는 limit을 주면 커서 페이징 (items, hasNext, nextCursor), 없으면 전체 목록
     @GetMapping("/orders")
-    public Map<String, Object> getOrders(@RequestParam("userId") int userId) {
+    public Map<String, Object> getOrders(@RequestParam("userId") int userId,
+                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "limit", required = false) Integer limit) {
         Map<String, Object> map = new HashMap<>();
         try {
-            List<Map<String, Object>> orders = orderService.getOrdersByUserId(userId);
+            if (cursor != null || limit != null) {
+                map.putAll(orderService.getOrdersPageByUserId(userId, cursor, limit));
+            } else {
+                List<Map<String, Object>> orders = orderService.getOrdersByUserId(userId);
+                map.put("items", orders);
+            }
             map.put("rt", "OK");
-            map.put("items", orders);
             System.out.println(map);
         } catch (Exception e) {
             map.put("rt", "FAIL");
@@ -77,13 +94,42 @@ public class OrderController {
         return map;
     }
 
+    // 판매자 주문 목록 조회
+    // cursor, limit 또는 필터를 주면 커서 페이징 (items, hasNext, nextCursor), 없으면 전체 목록
+    // status: PAID, DELIVERING, DELIVERED, CONFIRMED, CANCELLED, REFUNDED, REFUND_REQUESTED (쉼표로 여러 개)
+    // from, to: 주문일 yyyy-MM-dd, keyword: 주문번호 또는 수령인 이름
     @GetMapping("/seller/orders")
-    public Map<String, Object> getSellerOrders(@RequestParam("sellerId") int sellerId) {
+    public Map<String, Object> getSellerOrders(@RequestParam("sellerId") int sellerId,
+                                               @RequestParam(value = "status", required = false) String status,
+                                               @RequestParam(value = "from", required = false) String from,
+                                               @RequestParam(value = "to", required = false) String to,
+                                               @RequestParam(value = "keyword", required = false) String keyword,
+                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                               @RequestParam(value = "limit", required = false) Integer limit) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            if (cursor != null || limit != null || status != null || from != null || to != null || keyword != null) {
+                map.putAll(orderService.getSellerOrdersPage(sellerId, status, from, to, keyword, cursor, limit));
+            } else {
+                List<Map<String, Object>> orders = orderService.getSellerOrders(sellerId);
+                map.put("items", orders);
+            }
+            map.put("rt", "OK");
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+
+    // 판매자 주문 상태별 건수 (대시보드 배지용)
+    @GetMapping("/seller/orders/counts")
+    public Map<String, Object> getSellerOrderCounts(@RequestParam("sellerId") int sellerId) {
         Map<String, Object> map = new HashMap<>();
         try {
-            List<Map<String, Object>> orders = orderService.getSellerOrders(sellerId);
+            Map<String, Long> counts = orderService.getSellerOrderCounts(sellerId);
             map.put("rt", "OK");
-            map.put("items", orders);
+            map.put("item", counts);
         } catch (Exception e) {
             map.put("rt", "FAIL");
             map.put("message", e.getMessage());
@@ -107,6 +153,29 @@ public class OrderController {
         return map;
     }
 
+    // 판매자 주문상세 일괄 상태 변경 (orderItemIds, status: DELIVERING/DELIVERED/CONFIRMED, 주문상세별 성공/실패 반환)
+    @PostMapping("/seller/orders/bulk-status")
+    public Map<String, Object> updateOrderItemStatuses(@RequestBody Map<String, Object> request) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            int sellerId = ((Number) request.get("sellerId")).intValue();
+            List<Integer> orderItemIds = new ArrayList<>();
+            if (request.get("orderItemIds") instanceof List<?> ids) {
+                for (Object id : ids) {
+                    orderItemIds.add(((Number) id).intValue());
+                }
+            }
+            Map<String, Object> result = orderService.updateOrderItemStatusesBySeller(
+                    orderItemIds, sellerId, (String) request.get("status"));
+            map.put("rt", "OK");
+            map.put("item", result);
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+
     @PostMapping("/seller/orders/{orderItemId}/cancel")
     public Map<String, Object> cancelOrderItemBySeller(@PathVariable("orderItemId") int orderItemId,
                                                        @RequestBody Map<String, Object> request) {
@@ -1,11 +1,13 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.PaymentConfirmRequest;
+import com.example.backend.dto.StockHoldRequest;
 import com.example.backend.service.PaymentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
@@ -17,11 +19,44 @@ public class PaymentController {
     @Autowired
     private PaymentService paymentService;
 
+    // 결제창을 열기 전 재고 선점 (만료 시 자동 복구)
+    @PostMapping("/payments/hold")
+    public Map<String, Object> holdStock(@RequestBody StockHoldRequest request) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            Map<String, Object> hold = paymentService.holdStock(request);
+            map.put("rt", "OK");
+            map.put("item", hold);
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+
+    // 결제 취소/실패 시 선점 해제
+    @PostMapping("/payments/hold/release")
+    public Map<String, Object> releaseStock(@RequestBody Map<String, Object> request) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            String orderId = (String) request.get("orderId");
+            int userId = ((Number) request.get("userId")).intValue();
+            paymentService.releaseStock(orderId, userId);
+            map.put("rt", "OK");
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+
+    // 결제 승인 후 주문 생성 (같은 Idempotency-Key/주문번호로 재시도하면 처음 응답 반환)
     @PostMapping("/payments/confirm")
-    public Map<String, Object> confirmPayment(@RequestBody PaymentConfirmRequest request) {
+    public Map<String, Object> confirmPayment(@RequestBody PaymentConfirmRequest request,
+                                              @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Map<String, Object> map = new HashMap<>();
         try {
-            Map<String, Object> order = paymentService.confirmPayment(request);
+            Map<String, Object> order = paymentService.confirmPayment(request, idempotencyKey);
             map.put("rt", "OK");
             map.put("item", order);
         } catch (Exception e) {
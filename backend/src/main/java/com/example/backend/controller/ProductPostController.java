@@ -3,7 +3,10 @@ package com.example.backend.controller;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import com.example.backend.service.HomeFeedService;
 import com.example.backend.service.ProductPostService;
+import com.example.backend.service.SuggestIndex;
+import com.example.backend.service.SuggestService;
 import com.example.backend.dto.ProductPostDTO;
 import com.example.backend.dto.ProductDTO;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -17,6 +20,12 @@ public class ProductPostController {
     @Autowired
     private ProductPostService productPostService;
     
+    @Autowired
+    private SuggestService suggestService;
+    
+    @Autowired
+    private HomeFeedService homeFeedService;
+    
     // 게시물 등록 API
     @PostMapping("/productposts")
     public Map<String, Object> createProductPost(
@@ -94,7 +103,7 @@ public class ProductPostController {
         return map;
     }
     
-    // 모든 게시물 목록 조회 API (필터링 지원)
+    // 모든 게시물 목록 조회 API (필터링, 정렬, 페이징 지원)
     @GetMapping("/productposts")
     public Map<String, Object> getAllProductPosts(
             @RequestParam(value = "category", required = false) String category,
@@ -103,56 +112,26 @@ public class ProductPostController {
             @RequestParam(value = "color", required = false) List<String> colors,
             @RequestParam(value = "size", required = false) List<String> sizes,
             @RequestParam(value = "season", required = false) List<String> seasons,
-            @RequestParam(value = "sort", required = false, defaultValue = "newest") String sort) {
+            @RequestParam(value = "inStock", required = false, defaultValue = "false") boolean inStock,
+            @RequestParam(value = "sort", required = false, defaultValue = "newest") String sort,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "pageSize", required = false) Integer pageSize,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         Map<String, Object> map = new HashMap<>();
         
         try {
-            List<Map<String, Object>> productPosts = productPostService.findWithFilters(
-                category, gender, search, colors, sizes, seasons);
-            
-            // 정렬 적용
-            switch (sort) {
-                case "popular":
-                    productPosts.sort((a, b) -> {
-                        Integer wishCountA = (Integer) a.getOrDefault("wishCount", 0);
-                        Integer wishCountB = (Integer) b.getOrDefault("wishCount", 0);
-                        return wishCountB.compareTo(wishCountA);
-                    });
-                    break;
-                case "newest":
-                    productPosts.sort((a, b) -> {
-                        String dateAStr = (String) a.get("createdAt");
-                        String dateBStr = (String) b.get("createdAt");
-                        if (dateAStr == null && dateBStr == null) return 0;
-                        if (dateAStr == null) return 1;
-                        if (dateBStr == null) return -1;
-                        return dateBStr.compareTo(dateAStr);
-                    });
-                    break;
-                case "price-low":
-                    productPosts.sort((a, b) -> {
-                        Integer priceA = getDisplayPrice(a);
-                        Integer priceB = getDisplayPrice(b);
-                        if (priceA == null && priceB == null) return 0;
-                        if (priceA == null) return 1;
-                        if (priceB == null) return -1;
-                        return priceA.compareTo(priceB);
-                    });
-                    break;
-                case "price-high":
-                    productPosts.sort((a, b) -> {
-                        Integer priceA = getDisplayPrice(a);
-                        Integer priceB = getDisplayPrice(b);
-                        if (priceA == null && priceB == null) return 0;
-                        if (priceA == null) return 1;
-                        if (priceB == null) return -1;
-                        return priceB.compareTo(priceA);
-                    });
-                    break;
-            }
+            // pageSize가 없으면 limit 사용 (size 파라미터는 사이즈 필터로 사용 중)
+            Integer resolvedPageSize = pageSize != null ? pageSize : limit;
+            // cursor 파라미터가 있으면 커서 페이징 (첫 페이지는 빈 값, 이후 응답의 nextCursor 전달)
+            Map<String, Object> result = cursor != null
+                ? productPostService.findWithFiltersByCursor(
+                    category, gender, search, colors, sizes, seasons, inStock, sort, cursor, resolvedPageSize)
+                : productPostService.findWithFilters(
+                    category, gender, search, colors, sizes, seasons, inStock, sort, page, resolvedPageSize);
             
             map.put("rt", "OK");
-            map.put("items", productPosts);
+            map.putAll(result);
         } catch (Exception e) {
             e.printStackTrace();
             map.put("rt", "FAIL");
@@ -162,20 +141,68 @@ public class ProductPostController {
         return map;
     }
     
-    // 표시 가격 계산 (할인가 우선, 없으면 원가)
-    private Integer getDisplayPrice(Map<String, Object> item) {
-        Integer discountPrice = (Integer) item.get("discountPrice");
-        Integer price = (Integer) item.get("price");
-        return discountPrice != null ? discountPrice : price;
+    // 필터 패싯별 상품 수 조회 API (목록 조회와 같은 필터 파라미터)
+    @GetMapping("/productposts/facets")
+    public Map<String, Object> getProductPostFacets(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "gender", required = false) String gender,
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "color", required = false) List<String> colors,
+            @RequestParam(value = "size", required = false) List<String> sizes,
+            @RequestParam(value = "season", required = false) List<String> seasons,
+            @RequestParam(value = "inStock", required = false, defaultValue = "false") boolean inStock) {
+        Map<String, Object> map = new HashMap<>();
+        
+        try {
+            Map<String, Object> result = productPostService.findFacetCounts(
+                category, gender, search, colors, sizes, seasons, inStock);
+            
+            map.put("rt", "OK");
+            map.putAll(result);
+        } catch (Exception e) {
+            e.printStackTrace();
+            map.put("rt", "FAIL");
+            map.put("message", "필터 개수 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        
+        return map;
+    }
+    
+    // 검색어 자동완성 API (게시물명/브랜드/카테고리명 접두어 또는 초성, 예: "ㄴㅇㅋ" → 나이키)
+    @GetMapping("/productposts/suggest")
+    public Map<String, Object> suggest(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "limit", required = false, defaultValue = "10") int limit) {
+        Map<String, Object> map = new HashMap<>();
+        
+        try {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (SuggestIndex.Suggestion suggestion : suggestService.suggest(query, limit)) {
+                Map<String, Object> item = new HashMap<>();
+                item.put("type", suggestion.getType());
+                item.put("text", suggestion.getText());
+                item.put("postId", suggestion.getPostId());
+                items.add(item);
+            }
+            
+            map.put("rt", "OK");
+            map.put("items", items);
+        } catch (Exception e) {
+            e.printStackTrace();
+            map.put("rt", "FAIL");
+            map.put("message", "자동완성 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        
+        return map;
     }
     
-    // 인기순 게시물 목록 조회 API (찜수 기준)
+    // 인기순 게시물 목록 조회 API (찜수 기준, 홈 화면 캐시에서 응답)
     @GetMapping("/productposts/popular")
     public Map<String, Object> getPopularProductPosts() {
         Map<String, Object> map = new HashMap<>();
         
         try {
-            List<Map<String, Object>> productPosts = productPostService.findAllOrderByPopularity();
+            List<Map<String, Object>> productPosts = homeFeedService.getPopular();
             
             map.put("rt", "OK");
             map.put("items", productPosts);
@@ -188,13 +215,13 @@ public class ProductPostController {
         return map;
     }
     
-    // 최신순 게시물 목록 조회 API (생성일 기준)
+    // 최신순 게시물 목록 조회 API (생성일 기준, 홈 화면 캐시에서 응답)
     @GetMapping("/productposts/newest")
     public Map<String, Object> getNewestProductPosts() {
         Map<String, Object> map = new HashMap<>();
         
         try {
-            List<Map<String, Object>> productPosts = productPostService.findAllOrderByCreatedAtDesc();
+            List<Map<String, Object>> productPosts = homeFeedService.getNewest();
             
             map.put("rt", "OK");
             map.put("items", productPosts);
@@ -207,6 +234,15 @@ public class ProductPostController {
         return map;
     }
     
+    // 홈 화면 캐시 지표 조회 API (적중/재조회/미스 횟수, 섹션별 캐시 상태)
+    @GetMapping("/productposts/home-feed/stats")
+    public Map<String, Object> getHomeFeedStats() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("rt", "OK");
+        map.put("item", homeFeedService.getStats());
+        return map;
+    }
+    
     // 게시물 ID로 게시물 조회 API
     @GetMapping("/productposts/detail")
     public Map<String, Object> getProductPost(
@@ -73,18 +73,28 @@ public class ReviewController {
     }
     
     // 게시물 ID로 리뷰 목록 조회
+    // cursor 또는 limit을 주면 커서 페이징 (items, hasNext, nextCursor), 없으면 전체 목록
     @GetMapping("/reviews")
     public Map<String, Object> getReviews(
             @RequestParam(value = "postId", required = false) Integer postId,
             @RequestParam(value = "userId", required = false) Integer userId,
-            @RequestParam(value = "sellerId", required = false) Integer sellerId) {
+            @RequestParam(value = "sellerId", required = false) Integer sellerId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
         
         Map<String, Object> map = new HashMap<>();
         
         try {
             List<Review> reviews;
             
-            if (postId != null) {
+            if (cursor != null || limit != null) {
+                Map<String, Object> page = reviewService.getReviewPage(postId, userId, sellerId, cursor, limit);
+                @SuppressWarnings("unchecked")
+                List<Review> pageReviews = (List<Review>) page.get("reviews");
+                reviews = pageReviews;
+                map.put("hasNext", page.get("hasNext"));
+                map.put("nextCursor", page.get("nextCursor"));
+            } else if (postId != null) {
                 reviews = reviewService.getReviewsByPostId(postId);
             } else if (userId != null) {
                 reviews = reviewService.getReviewsByUserId(userId);
@@ -98,54 +108,7 @@ public class ReviewController {
             
             // 순환 참조 방지를 위해 필요한 필드만 Map으로 구성
             List<Map<String, Object>> items = reviews.stream()
-                    .map(review -> {
-                        Map<String, Object> reviewMap = new HashMap<>();
-                        reviewMap.put("reviewId", review.getReviewId());
-                        reviewMap.put("postId", review.getPostId());
-                        reviewMap.put("productId", review.getProductId());
-                        reviewMap.put("userId", review.getUserId());
-                        reviewMap.put("orderItemId", review.getOrderItemId());
-                        reviewMap.put("rating", review.getRating());
-                        reviewMap.put("content", review.getContent());
-                        reviewMap.put("sellerReply", review.getSellerReply());
-                        reviewMap.put("sellerReplyAt", review.getSellerReplyAt());
-                        reviewMap.put("createdAt", review.getCreatedAt());
-                        reviewMap.put("updatedAt", review.getUpdatedAt());
-                        
-                        // 상품 정보 추가
-                        if (review.getProductPost() != null) {
-                            reviewMap.put("productName", review.getProductPost().getPostName());
-                            reviewMap.put("brand", review.getProductPost().getBrand());
-                            reviewMap.put("productImage", resolveMainImageUrl(review.getPostId()));
-                        }
-                        
-                        // 주문 정보 추가 (OrderItem에서)
-                        if (review.getOrderItem() != null && review.getOrderItem().getOrder() != null) {
-                            reviewMap.put("orderNumber", review.getOrderItem().getOrder().getOrderNumber());
-                        }
-                        
-                        // 사용자 정보 추가
-                        if (review.getUser() != null) {
-                            Map<String, Object> userMap = new HashMap<>();
-                            userMap.put("userId", review.getUser().getUserId());
-                            userMap.put("name", review.getUser().getName());
-                            reviewMap.put("user", userMap);
-                        }
-                        
-                        // 리뷰 이미지 추가
-                        List<ReviewImage> reviewImages = reviewImageDAO.findByReviewId(review.getReviewId());
-                        List<Map<String, Object>> imageList = reviewImages.stream()
-                                .map(img -> {
-                                    Map<String, Object> imageMap = new HashMap<>();
-                                    imageMap.put("imageId", img.getReviewImageId());
-                                    imageMap.put("imageUrl", img.getImageUrl());
-                                    return imageMap;
-                                })
-                                .collect(java.util.stream.Collectors.toList());
-                        reviewMap.put("images", imageList);
-                        
-                        return reviewMap;
-                    })
+                    .map(this::buildReviewResponse)
                     .collect(java.util.stream.Collectors.toList());
             
             map.put("rt", "OK");
@@ -160,6 +123,56 @@ public class ReviewController {
         return map;
     }
     
+    // 리뷰 목록 응답 항목 구성
+    private Map<String, Object> buildReviewResponse(Review review) {
+        Map<String, Object> reviewMap = new HashMap<>();
+        reviewMap.put("reviewId", review.getReviewId());
+        reviewMap.put("postId", review.getPostId());
+        reviewMap.put("productId", review.getProductId());
+        reviewMap.put("userId", review.getUserId());
+        reviewMap.put("orderItemId", review.getOrderItemId());
+        reviewMap.put("rating", review.getRating());
+        reviewMap.put("content", review.getContent());
+        reviewMap.put("sellerReply", review.getSellerReply());
+        reviewMap.put("sellerReplyAt", review.getSellerReplyAt());
+        reviewMap.put("createdAt", review.getCreatedAt());
+        reviewMap.put("updatedAt", review.getUpdatedAt());
+        
+        // 상품 정보 추가
+        if (review.getProductPost() != null) {
+            reviewMap.put("productName", review.getProductPost().getPostName());
+            reviewMap.put("brand", review.getProductPost().getBrand());
+            reviewMap.put("productImage", resolveMainImageUrl(review.getPostId()));
+        }
+        
+        // 주문 정보 추가 (OrderItem에서)
+        if (review.getOrderItem() != null && review.getOrderItem().getOrder() != null) {
+            reviewMap.put("orderNumber", review.getOrderItem().getOrder().getOrderNumber());
+        }
+        
+        // 사용자 정보 추가
+        if (review.getUser() != null) {
+            Map<String, Object> userMap = new HashMap<>();
+            userMap.put("userId", review.getUser().getUserId());
+            userMap.put("name", review.getUser().getName());
+            reviewMap.put("user", userMap);
+        }
+        
+        // 리뷰 이미지 추가
+        List<ReviewImage> reviewImages = reviewImageDAO.findByReviewId(review.getReviewId());
+        List<Map<String, Object>> imageList = reviewImages.stream()
+                .map(img -> {
+                    Map<String, Object> imageMap = new HashMap<>();
+                    imageMap.put("imageId", img.getReviewImageId());
+                    imageMap.put("imageUrl", img.getImageUrl());
+                    return imageMap;
+                })
+                .collect(java.util.stream.Collectors.toList());
+        reviewMap.put("images", imageList);
+        
+        return reviewMap;
+    }
+    
     // 리뷰 ID로 조회
     @GetMapping("/reviews/{reviewId}")
     public Map<String, Object> getReviewById(@PathVariable("reviewId") int reviewId) {
@@ -0,0 +1,32 @@
+package com.example.backend.controller;
+
+import com.example.backend.service.SellerSalesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+public class SellerSalesController {
+
+    @Autowired
+    private SellerSalesService sellerSalesService;
+
+    // 판매자 기간 판매 통계 (합계, 일별, 게시물별 / from, to: yyyy-MM-dd, 없으면 최근 30일)
+    @GetMapping("/seller/{sellerId}/stats")
+    public Map<String, Object> getStats(@PathVariable("sellerId") int sellerId,
+                                        @RequestParam(value = "from", required = false) String from,
+                                        @RequestParam(value = "to", required = false) String to) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            Map<String, Object> stats = sellerSalesService.getStats(sellerId, from, to);
+            map.put("rt", "OK");
+            map.put("item", stats);
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.backend.controller;
+
+import com.example.backend.service.WaitingRoomService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+public class WaitingRoomController {
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    // 게시물 대기열 현황 (enabled=false면 바로 구매)
+    @GetMapping("/waiting-room/{postId}")
+    public Map<String, Object> getRoom(@PathVariable("postId") int postId) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            Map<String, Object> room = waitingRoomService.getRoom(postId);
+            map.put("rt", "OK");
+            map.put("item", room);
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+
+    // 대기열 입장 (토큰과 순번 반환)
+    @PostMapping("/waiting-room/{postId}/enter")
+    public Map<String, Object> enter(@PathVariable("postId") int postId,
+                                     @RequestParam("userId") int userId) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            Map<String, Object> status = waitingRoomService.enter(postId, userId);
+            map.put("rt", "OK");
+            map.put("item", status);
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+
+    // 대기 상태 조회 (폴링)
+    @GetMapping("/waiting-room/status")
+    public Map<String, Object> status(@RequestParam("token") String token) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            Map<String, Object> status = waitingRoomService.status(token);
+            map.put("rt", "OK");
+            map.put("item", status);
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+
+    // 판매자 대기열 설정 (enabled, slots: 동시에 결제할 수 있는 구매자 수)
+    @PostMapping("/seller/waiting-room/{postId}")
+    public Map<String, Object> configure(@PathVariable("postId") int postId,
+                                         @RequestBody Map<String, Object> request) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            int sellerId = ((Number) request.get("sellerId")).intValue();
+            boolean enabled = Boolean.TRUE.equals(request.get("enabled"));
+            Integer slots = request.get("slots") instanceof Number ? ((Number) request.get("slots")).intValue() : null;
+            Map<String, Object> room = waitingRoomService.configure(postId, sellerId, enabled, slots);
+            map.put("rt", "OK");
+            map.put("item", room);
+        } catch (Exception e) {
+            map.put("rt", "FAIL");
+            map.put("message", e.getMessage());
+        }
+        return map;
+    }
+}
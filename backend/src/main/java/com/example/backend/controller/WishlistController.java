@@ -63,13 +63,20 @@ public class WishlistController {
     }
     
     // 사용자 찜목록 조회
+    // cursor 또는 limit을 주면 커서 페이징 (items, hasNext, nextCursor), 없으면 전체 목록
     @GetMapping("/wishlist")
-    public Map<String, Object> getUserWishlist(@RequestParam("userId") int userId) {
+    public Map<String, Object> getUserWishlist(@RequestParam("userId") int userId,
+                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                               @RequestParam(value = "limit", required = false) Integer limit) {
         Map<String, Object> map = new HashMap<>();
         try {
-            List<Map<String, Object>> wishlist = wishlistService.getUserWishlist(userId);
+            if (cursor != null || limit != null) {
+                map.putAll(wishlistService.getUserWishlistPage(userId, cursor, limit));
+            } else {
+                List<Map<String, Object>> wishlist = wishlistService.getUserWishlist(userId);
+                map.put("items", wishlist);
+            }
             map.put("rt", "OK");
-            map.put("items", wishlist);
         } catch (Exception e) {
             e.printStackTrace();
             map.put("rt", "FAIL");
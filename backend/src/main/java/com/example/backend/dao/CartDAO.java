@@ -39,6 +39,11 @@ public class CartDAO {
         return cartRepository.findByUser_UserIdAndCartIdIn(userId, cartIds);
     }
 
+    // 주문 생성용 (상품/게시물/판매자까지 한 번에 조회)
+    public List<Cart> findWithProductsByUserIdAndCartIds(int userId, List<Integer> cartIds) {
+        return cartRepository.findWithProductsByUserIdAndCartIds(userId, cartIds);
+    }
+
     @SuppressWarnings("null")
     public void delete(Cart cart) {
         cartRepository.delete(cart);
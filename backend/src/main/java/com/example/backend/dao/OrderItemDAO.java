@@ -0,0 +1,40 @@
+package com.example.backend.dao;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class OrderItemDAO {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 주문상세 상태 일괄 변경 (주문상세 ID → {이전 상태, 새 상태}, 이전 상태가 그대로인 행만 한 번의 배치 UPDATE로 변경)
+    // 변경되지 않은 주문상세 ID 반환 (다른 요청이 먼저 상태를 바꾼 경우)
+    // 이전 상태가 NULL인 기존 주문상세(결제완료로 취급)도 NULL 그대로인 경우에만 변경
+    public List<Integer> updateStatuses(Map<Integer, String[]> transitions) {
+        List<Integer> orderItemIds = new ArrayList<>(transitions.keySet());
+        List<Object[]> args = new ArrayList<>();
+        for (Integer orderItemId : orderItemIds) {
+            String[] transition = transitions.get(orderItemId);
+            SqlParameterValue from = new SqlParameterValue(Types.VARCHAR, transition[0]);
+            args.add(new Object[]{transition[1], orderItemId, from, from});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE ORDERITEM SET STATUS = ? WHERE ORDERITEMID_SEQ = ? AND (STATUS = ? OR (? IS NULL AND STATUS IS NULL))", args);
+        List<Integer> failed = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 1) {
+                failed.add(orderItemIds.get(i));
+            }
+        }
+        return failed;
+    }
+}
@@ -1,17 +1,26 @@
 package com.example.backend.dao;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import com.example.backend.entity.Product;
 import com.example.backend.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class ProductDAO {
     
+    private static final int IN_CLAUSE_LIMIT = 1000;
+    
     @Autowired
     private ProductRepository productRepository;
     
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
     public Product save(Product product) {
         return productRepository.save(product);
     }
@@ -28,6 +37,84 @@ public class ProductDAO {
         return productRepository.findByPostId(postId);
     }
     
+    // 여러 게시물의 상품 목록 조회 (Oracle IN 절 1000개 제한 때문에 나누어 조회)
+    public List<Product> findByPostIds(List<Integer> postIds) {
+        List<Product> products = new ArrayList<>();
+        for (int from = 0; from < postIds.size(); from += IN_CLAUSE_LIMIT) {
+            List<Integer> chunk = postIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, postIds.size()));
+            products.addAll(productRepository.findByPostIdIn(chunk));
+        }
+        return products;
+    }
+    
+    // 재고 차감 (상품별 조건부 UPDATE를 한 번의 배치로 실행, 재고가 부족해 차감되지 않은 상품 ID 반환)
+    // 잠금 순서를 맞추기 위해 quantities는 상품 ID 순으로 정렬된 Map을 넘김 (음수는 복구로 항상 반영)
+    public List<Integer> decreaseStocks(Map<Integer, Integer> quantities) {
+        List<Integer> productIds = new ArrayList<>(quantities.keySet());
+        List<Object[]> args = new ArrayList<>();
+        for (Integer productId : productIds) {
+            int quantity = quantities.get(productId);
+            args.add(new Object[]{quantity, productId, Math.max(quantity, 0)});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE PRODUCT SET STOCK = STOCK - ?, UPDATEDAT = SYSTIMESTAMP WHERE PRODUCTID_SEQ = ? AND STOCK >= ?", args);
+        List<Integer> failed = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 1) {
+                failed.add(productIds.get(i));
+            }
+        }
+        return failed;
+    }
+    
+    // 재고 차감 (부족하면 0까지만, 이미 커밋된 주문의 차감량을 DB에 맞출 수 없을 때 사용)
+    public void decreaseStocksToZero(Map<Integer, Integer> quantities) {
+        List<Object[]> args = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> args.add(new Object[]{quantity, productId}));
+        jdbcTemplate.batchUpdate("UPDATE PRODUCT SET STOCK = GREATEST(STOCK - ?, 0), UPDATEDAT = SYSTIMESTAMP WHERE PRODUCTID_SEQ = ?", args);
+    }
+    
+    // 재고 복구 (배치 UPDATE)
+    public void increaseStocks(Map<Integer, Integer> quantities) {
+        List<Object[]> args = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> args.add(new Object[]{quantity, productId}));
+        jdbcTemplate.batchUpdate("UPDATE PRODUCT SET STOCK = STOCK + ?, UPDATEDAT = SYSTIMESTAMP WHERE PRODUCTID_SEQ = ?", args);
+    }
+    
+    // 현재 재고 (상품 ID → 재고, 배치 UPDATE 후 인덱스 반영용)
+    public Map<Integer, Integer> findStocks(List<Integer> productIds) {
+        Map<Integer, Integer> stocks = new HashMap<>();
+        for (int from = 0; from < productIds.size(); from += IN_CLAUSE_LIMIT) {
+            List<Integer> chunk = productIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, productIds.size()));
+            for (Object[] row : productRepository.findStocksByProductIdIn(chunk)) {
+                stocks.put(((Number) row[0]).intValue(), row[1] != null ? ((Number) row[1]).intValue() : 0);
+            }
+        }
+        return stocks;
+    }
+    
+    // 여러 상품 ID로 조회 (Oracle IN 절 1000개 제한 때문에 나누어 조회)
+    public List<Product> findAllById(List<Integer> productIds) {
+        List<Product> products = new ArrayList<>();
+        for (int from = 0; from < productIds.size(); from += IN_CLAUSE_LIMIT) {
+            products.addAll(productRepository.findAllById(productIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, productIds.size()))));
+        }
+        return products;
+    }
+    
+    // 여러 상품을 게시물/판매자까지 한 번에 조회 (IN 절 1000개 단위)
+    public List<Product> findWithPostAndSeller(List<Integer> productIds) {
+        List<Product> products = new ArrayList<>();
+        for (int from = 0; from < productIds.size(); from += IN_CLAUSE_LIMIT) {
+            products.addAll(productRepository.findWithPostAndSellerByProductIdIn(productIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, productIds.size()))));
+        }
+        return products;
+    }
+    
+    public List<Product> findAll() {
+        return productRepository.findAll();
+    }
+    
     public void delete(Product product) {
         productRepository.delete(product);
     }
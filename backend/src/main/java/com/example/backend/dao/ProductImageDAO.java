@@ -4,11 +4,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import com.example.backend.entity.ProductImage;
 import com.example.backend.repository.ProductImageRepository;
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
 public class ProductImageDAO {
     
+    private static final int IN_CLAUSE_LIMIT = 1000;
+    
     @Autowired
     private ProductImageRepository productImageRepository;
     
@@ -24,6 +27,16 @@ public class ProductImageDAO {
         return productImageRepository.findByPostId(postId);
     }
     
+    // 여러 게시물의 이미지 목록 조회 (Oracle IN 절 1000개 제한 때문에 나누어 조회)
+    public List<ProductImage> findByPostIds(List<Integer> postIds) {
+        List<ProductImage> images = new ArrayList<>();
+        for (int from = 0; from < postIds.size(); from += IN_CLAUSE_LIMIT) {
+            List<Integer> chunk = postIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, postIds.size()));
+            images.addAll(productImageRepository.findByPostIdInOrderByImageIdAsc(chunk));
+        }
+        return images;
+    }
+    
     public void deleteById(int imageId) {
         productImageRepository.deleteById(imageId);
     }
@@ -0,0 +1,50 @@
+package com.example.backend.dao;
+
+import com.example.backend.entity.ProductListing;
+import com.example.backend.repository.ProductListingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class ProductListingDAO {
+
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
+    @Autowired
+    private ProductListingRepository productListingRepository;
+
+    public ProductListing save(ProductListing listing) {
+        return productListingRepository.save(listing);
+    }
+
+    public List<ProductListing> saveAll(List<ProductListing> listings) {
+        return productListingRepository.saveAll(listings);
+    }
+
+    // 여러 게시물의 요약 정보 조회 (Oracle IN 절 1000개 제한 때문에 나누어 조회)
+    public List<ProductListing> findByPostIds(List<Integer> postIds) {
+        List<ProductListing> listings = new ArrayList<>();
+        for (int from = 0; from < postIds.size(); from += IN_CLAUSE_LIMIT) {
+            List<Integer> chunk = postIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, postIds.size()));
+            listings.addAll(productListingRepository.findAllById(chunk));
+        }
+        return listings;
+    }
+
+    public void deleteById(int postId) {
+        if (productListingRepository.existsById(postId)) {
+            productListingRepository.deleteById(postId);
+        }
+    }
+
+    public boolean isEmpty() {
+        return productListingRepository.countFirstRow() == 0;
+    }
+
+    public void deleteAll() {
+        productListingRepository.deleteAllInBatch();
+    }
+}
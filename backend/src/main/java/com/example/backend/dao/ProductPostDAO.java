@@ -1,10 +1,17 @@
 package com.example.backend.dao;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import com.example.backend.entity.ProductPost;
 import com.example.backend.repository.ProductPostRepository;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class ProductPostDAO {
@@ -12,6 +19,9 @@ public class ProductPostDAO {
     @Autowired
     private ProductPostRepository productPostRepository;
     
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
     public ProductPost save(ProductPost productPost) {
         return productPostRepository.save(productPost);
     }
@@ -24,18 +34,35 @@ public class ProductPostDAO {
         return productPostRepository.findBySellerId(sellerId);
     }
     
+    // 여러 게시물 ID로 한 번에 조회 (순서 보장 안 됨)
+    public List<ProductPost> findAllById(List<Integer> postIds) {
+        return productPostRepository.findAllById(postIds);
+    }
+    
+    // 전체 게시물 ID 목록 조회
+    public List<Integer> findAllPostIds() {
+        return productPostRepository.findAllPostIds();
+    }
+    
     public List<ProductPost> findAll() {
         return productPostRepository.findAll();
     }
     
-    // 인기순 조회 (찜수 기준)
-    public List<ProductPost> findAllOrderByPopularity() {
-        return productPostRepository.findAllOrderByPopularity();
+    // 게시물별 조회수 증가분을 JDBC 배치 UPDATE로 반영 (게시물을 읽지 않음)
+    public void addViewCounts(Map<Integer, Long> deltas) {
+        List<Object[]> args = new ArrayList<>();
+        deltas.forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate("UPDATE PRODUCTPOST SET VIEWCOUNT = NVL(VIEWCOUNT, 0) + ? WHERE POSTID_SEQ = ?", args);
+    }
+    
+    // 판매중 게시물 인기순 상위 limit개 (찜수 기준)
+    public List<ProductPost> findAllOrderByPopularity(int limit) {
+        return productPostRepository.findSellingOrderByPopularity(PageRequest.of(0, limit));
     }
     
-    // 최신순 조회 (생성일 기준)
-    public List<ProductPost> findAllOrderByCreatedAtDesc() {
-        return productPostRepository.findAllOrderByCreatedAtDesc();
+    // 판매중 게시물 최신순 상위 limit개 (생성일 기준)
+    public List<ProductPost> findAllOrderByCreatedAtDesc(int limit) {
+        return productPostRepository.findSellingOrderByCreatedAtDesc(PageRequest.of(0, limit));
     }
     
     // 상태로 게시물 목록 조회 (Integer: 1=SELLING, 0=SOLD_OUT)
@@ -43,6 +70,21 @@ public class ProductPostDAO {
         return productPostRepository.findByStatus(status);
     }
     
+    // 필터 조건으로 게시물 전체 조회 (페이징 없음)
+    public List<ProductPost> findAll(Specification<ProductPost> spec) {
+        return productPostRepository.findAll(spec);
+    }
+    
+    // 필터 조건으로 게시물 목록 페이지 조회 (필터/정렬/페이징 모두 DB에서 처리)
+    public Page<ProductPost> findAll(Specification<ProductPost> spec, Pageable pageable) {
+        return productPostRepository.findAll(spec, pageable);
+    }
+    
+    // 필터 조건으로 앞에서부터 limit건 조회 (커서 페이징용, count 쿼리 없음)
+    public List<ProductPost> findFirst(Specification<ProductPost> spec, int limit) {
+        return productPostRepository.findBy(spec, query -> query.limit(limit).all());
+    }
+    
     // 브랜드로 게시물 목록 조회
     public List<ProductPost> findByBrand(String brand) {
         return productPostRepository.findByBrand(brand);
@@ -1,15 +1,21 @@
 package com.example.backend.dao;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import com.example.backend.entity.Review;
 import com.example.backend.repository.ReviewRepository;
+import java.sql.Timestamp;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class ReviewDAO {
     
+    private static final int IN_CLAUSE_LIMIT = 1000;
+    
     @Autowired
     private ReviewRepository reviewRepository;
     
@@ -38,11 +44,42 @@ public class ReviewDAO {
         return reviewRepository.findByUserId(userId);
     }
     
+    // 커서 페이징 조회 (createdAt이 null이면 첫 페이지)
+    public List<Review> findPageByPostId(int postId, Timestamp createdAt, int reviewId, int limit) {
+        return createdAt == null
+                ? reviewRepository.findPageByPostId(postId, PageRequest.of(0, limit))
+                : reviewRepository.findPageByPostIdAfter(postId, createdAt, reviewId, PageRequest.of(0, limit));
+    }
+    
+    public List<Review> findPageByUserId(int userId, Timestamp createdAt, int reviewId, int limit) {
+        return createdAt == null
+                ? reviewRepository.findPageByUserId(userId, PageRequest.of(0, limit))
+                : reviewRepository.findPageByUserIdAfter(userId, createdAt, reviewId, PageRequest.of(0, limit));
+    }
+    
+    public List<Review> findPageBySellerId(int sellerId, Timestamp createdAt, int reviewId, int limit) {
+        return createdAt == null
+                ? reviewRepository.findPageBySellerId(sellerId, PageRequest.of(0, limit))
+                : reviewRepository.findPageBySellerIdAfter(sellerId, createdAt, reviewId, PageRequest.of(0, limit));
+    }
+    
     // 주문상세 ID로 리뷰 조회
     public Review findByOrderItemId(int orderItemId) {
         return reviewRepository.findByOrderItemId(orderItemId);
     }
     
+    // 주문상세 ID별 리뷰 ID (리뷰가 없는 주문상세는 결과에 없음, Oracle IN 절 1000개 제한 때문에 나누어 조회)
+    public Map<Integer, Integer> findReviewIdsByOrderItemIds(List<Integer> orderItemIds) {
+        Map<Integer, Integer> reviewIds = new HashMap<>();
+        for (int from = 0; from < orderItemIds.size(); from += IN_CLAUSE_LIMIT) {
+            List<Integer> chunk = orderItemIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, orderItemIds.size()));
+            for (Object[] row : reviewRepository.findReviewIdsByOrderItemIdIn(chunk)) {
+                reviewIds.put(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            }
+        }
+        return reviewIds;
+    }
+    
     // 리뷰 삭제
     public void deleteById(int reviewId) {
         reviewRepository.deleteById(reviewId);
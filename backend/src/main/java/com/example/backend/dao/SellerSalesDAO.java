@@ -0,0 +1,175 @@
+package com.example.backend.dao;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 판매자 일별 판매 집계(SELLERDAILYSALES) 접근 (엔티티 없이 JdbcTemplate으로 증감 MERGE / 재계산 / 기간 합계 조회)
+@Repository
+public class SellerSalesDAO {
+
+    // 집계 컬럼 (증감분 long[]의 인덱스 순서)
+    public static final int ORDERED_QTY = 0;
+    public static final int ORDERED_AMOUNT = 1;
+    public static final int DELIVERED_QTY = 2;
+    public static final int CONFIRMED_QTY = 3;
+    public static final int CANCELED_QTY = 4;
+    public static final int CANCELED_AMOUNT = 5;
+    public static final int REFUNDED_QTY = 6;
+    public static final int REFUNDED_AMOUNT = 7;
+    public static final int METRIC_COUNT = 8;
+
+    private static final String[] COLUMNS = {
+            "ORDEREDQTY", "ORDEREDAMOUNT", "DELIVEREDQTY", "CONFIRMEDQTY",
+            "CANCELEDQTY", "CANCELEDAMOUNT", "REFUNDEDQTY", "REFUNDEDAMOUNT"
+    };
+    private static final String[] KEYS = {
+            "orderedQty", "orderedAmount", "deliveredQty", "confirmedQty",
+            "canceledQty", "canceledAmount", "refundedQty", "refundedAmount"
+    };
+
+    private static final String MERGE_SQL = buildMergeSql();
+    private static final String SUM_COLUMNS = buildSumColumns();
+
+    // 집계 행 잠금 순서 (판매자, 주문일, 게시물, 상품)
+    private static final Comparator<SalesKey> KEY_ORDER = Comparator.comparingInt(SalesKey::getSellerId)
+            .thenComparing(SalesKey::getSaleDate)
+            .thenComparingInt(SalesKey::getPostId)
+            .thenComparingInt(SalesKey::getProductId);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 증감분을 MERGE로 더함 (없는 행은 새로 만듦, 호출한 트랜잭션 안에서 실행)
+    // 키 순서대로 반영해 같은 행들을 갱신하는 트랜잭션끼리 교착되지 않게 하고,
+    // 다른 트랜잭션이 같은 새 행을 먼저 만들어 키가 중복되면 한 번 더 실행 (그때는 만들어진 행에 더해짐)
+    public void addDeltas(Map<SalesKey, long[]> deltas) {
+        List<SalesKey> keys = new ArrayList<>(deltas.keySet());
+        keys.sort(KEY_ORDER);
+        for (SalesKey key : keys) {
+            long[] delta = deltas.get(key);
+            Object[] row = new Object[4 + METRIC_COUNT];
+            row[0] = key.getSellerId();
+            row[1] = Date.valueOf(key.getSaleDate());
+            row[2] = key.getPostId();
+            row[3] = key.getProductId();
+            for (int i = 0; i < METRIC_COUNT; i++) {
+                row[4 + i] = delta[i];
+            }
+            try {
+                jdbcTemplate.update(MERGE_SQL, row);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(MERGE_SQL, row);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SELLERDAILYSALES WHERE ROWNUM = 1", Integer.class);
+        return count == null || count == 0;
+    }
+
+    // 집계 전체를 ORDERITEM 기준으로 다시 계산 (주문일 기준, 취소/환불 등은 현재 상태로 집계)
+    // 테이블을 먼저 잠가 증감분을 반영한 트랜잭션이 모두 끝난 뒤 계산하고, 커밋할 때까지 새 증감분 반영은 대기
+    // (계산에 포함된 주문상세의 증감분이 다시 더해지거나, 계산에 빠진 주문상세의 증감분이 지워지지 않게)
+    public void rebuild() {
+        jdbcTemplate.execute("LOCK TABLE SELLERDAILYSALES IN EXCLUSIVE MODE");
+        jdbcTemplate.update("DELETE FROM SELLERDAILYSALES");
+        jdbcTemplate.update(
+                "INSERT INTO SELLERDAILYSALES (USERID_SEQ, SALEDATE, POSTID_SEQ, PRODUCTID_SEQ, " + String.join(", ", COLUMNS) + ") " +
+                "SELECT USERID_SEQ, TRUNC(CREATEDAT), POSTID_SEQ, PRODUCTID_SEQ, " +
+                "SUM(QUANTITY), SUM(QUANTITY * PRICE), " +
+                "SUM(CASE WHEN STATUS = 'dld' THEN QUANTITY ELSE 0 END), " +
+                "SUM(CASE WHEN STATUS IN ('cnf', 'con') THEN QUANTITY ELSE 0 END), " +
+                "SUM(CASE WHEN STATUS = 'can' THEN QUANTITY ELSE 0 END), " +
+                "SUM(CASE WHEN STATUS = 'can' THEN QUANTITY * PRICE ELSE 0 END), " +
+                "SUM(CASE WHEN STATUS = 'ref' THEN QUANTITY ELSE 0 END), " +
+                "SUM(CASE WHEN STATUS = 'ref' THEN QUANTITY * PRICE ELSE 0 END) " +
+                "FROM ORDERITEM GROUP BY USERID_SEQ, TRUNC(CREATEDAT), POSTID_SEQ, PRODUCTID_SEQ");
+    }
+
+    // 판매자의 기간 내 일별 합계 (판매가 있는 날만, 날짜 오름차순)
+    public List<Map<String, Object>> findDailyTotals(int sellerId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT SALEDATE, " + SUM_COLUMNS + " FROM SELLERDAILYSALES " +
+                "WHERE USERID_SEQ = ? AND SALEDATE BETWEEN ? AND ? GROUP BY SALEDATE ORDER BY SALEDATE",
+                (rs, rowNum) -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("date", rs.getDate("SALEDATE").toLocalDate().toString());
+                    readMetrics(rs, row);
+                    return row;
+                },
+                sellerId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    // 판매자의 기간 내 게시물별 합계 (주문 금액 내림차순)
+    public List<Map<String, Object>> findPostTotals(int sellerId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT s.POSTID_SEQ, MAX(p.POSTNAME) AS POSTNAME, " + SUM_COLUMNS.replace("SUM(", "SUM(s.") + " " +
+                "FROM SELLERDAILYSALES s LEFT JOIN PRODUCTPOST p ON p.POSTID_SEQ = s.POSTID_SEQ " +
+                "WHERE s.USERID_SEQ = ? AND s.SALEDATE BETWEEN ? AND ? " +
+                "GROUP BY s.POSTID_SEQ ORDER BY ORDEREDAMOUNT DESC",
+                (rs, rowNum) -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("postId", rs.getInt("POSTID_SEQ"));
+                    row.put("postName", rs.getString("POSTNAME"));
+                    readMetrics(rs, row);
+                    return row;
+                },
+                sellerId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    // 응답 Map의 집계 키 (orderedQty 등)
+    public static String metricKey(int index) {
+        return KEYS[index];
+    }
+
+    private static void readMetrics(ResultSet rs, Map<String, Object> row) throws SQLException {
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            row.put(KEYS[i], rs.getLong(COLUMNS[i]));
+        }
+    }
+
+    private static String buildMergeSql() {
+        StringBuilder source = new StringBuilder("SELECT ? USERID_SEQ, ? SALEDATE, ? POSTID_SEQ, ? PRODUCTID_SEQ");
+        List<String> updates = new ArrayList<>();
+        for (String column : COLUMNS) {
+            source.append(", ? ").append(column);
+            updates.add("t." + column + " = t." + column + " + s." + column);
+        }
+        String insertColumns = "USERID_SEQ, SALEDATE, POSTID_SEQ, PRODUCTID_SEQ, " + String.join(", ", COLUMNS);
+        return "MERGE INTO SELLERDAILYSALES t USING (" + source + " FROM DUAL) s " +
+                "ON (t.USERID_SEQ = s.USERID_SEQ AND t.SALEDATE = s.SALEDATE AND t.POSTID_SEQ = s.POSTID_SEQ AND t.PRODUCTID_SEQ = s.PRODUCTID_SEQ) " +
+                "WHEN MATCHED THEN UPDATE SET " + String.join(", ", updates) + ", t.UPDATEDAT = SYSTIMESTAMP " +
+                "WHEN NOT MATCHED THEN INSERT (" + insertColumns + ") VALUES (s." + insertColumns.replace(", ", ", s.") + ")";
+    }
+
+    private static String buildSumColumns() {
+        List<String> sums = new ArrayList<>();
+        for (String column : COLUMNS) {
+            sums.add("SUM(" + column + ") AS " + column);
+        }
+        return String.join(", ", sums);
+    }
+
+    // 집계 행 키 (판매자, 주문일, 게시물, 상품)
+    @Data
+    public static class SalesKey {
+        private final int sellerId;
+        private final LocalDate saleDate;
+        private final int postId;
+        private final int productId;
+    }
+}
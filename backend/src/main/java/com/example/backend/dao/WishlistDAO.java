@@ -1,10 +1,12 @@
 package com.example.backend.dao;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import com.example.backend.entity.Wishlist;
 import com.example.backend.repository.WishlistRepository;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +39,13 @@ public class WishlistDAO {
         return wishlistRepository.findByUserIdOrderByCreatedAtDesc(userId);
     }
     
+    // 사용자 찜 목록 커서 페이징 조회 (createdAt이 null이면 첫 페이지)
+    public List<Wishlist> findPageByUserId(int userId, Timestamp createdAt, int wishlistId, int limit) {
+        return createdAt == null
+                ? wishlistRepository.findPageByUserId(userId, PageRequest.of(0, limit))
+                : wishlistRepository.findPageByUserIdAfter(userId, createdAt, wishlistId, PageRequest.of(0, limit));
+    }
+    
     // 게시물 ID로 찜 목록 조회
     public List<Wishlist> findByPostId(int postId) {
         return wishlistRepository.findByPostId(postId);
@@ -21,6 +21,9 @@ public class OrderCreateRequest {
 
     private String paymentMethod;
 
+    // 대기열 입장 토큰 (대기열을 운영 중인 게시물 상품을 주문할 때 필요)
+    private List<String> admissionTokens;
+
     // 바로구매를 위한 주문 항목 DTO
     @Data
     public static class OrderItemRequest {
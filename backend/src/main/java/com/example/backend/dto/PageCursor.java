@@ -0,0 +1,76 @@
+package com.example.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// 커서 페이징 토큰 (정렬 기준 + 마지막 항목의 정렬 키 + ID를 URL-safe Base64 문자열로 인코딩)
+// 클라이언트는 내용을 해석하지 않고 받은 nextCursor를 그대로 다음 요청의 cursor로 전달
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sort;
+    private final List<String> keys;
+
+    private PageCursor(String sort, List<String> keys) {
+        this.sort = sort;
+        this.keys = keys;
+    }
+
+    public static String encode(String sort, Object... keys) {
+        StringBuilder raw = new StringBuilder(sort);
+        for (Object key : keys) {
+            raw.append(SEPARATOR).append(key instanceof Timestamp ? encodeTimestamp((Timestamp) key) : key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰 해석 (정렬 기준이 다르거나 키 개수가 맞지 않으면 예외)
+    public static PageCursor decode(String token, String expectedSort, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != keyCount + 1 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            List<String> keys = new ArrayList<>();
+            for (int i = 1; i < parts.length; i++) {
+                keys.add(parts[i]);
+            }
+            return new PageCursor(parts[0], keys);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public int getInt(int index) {
+        try {
+            return Integer.parseInt(keys.get(index));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    // 타임스탬프는 epoch 밀리초 + 나노초로 저장 (DB의 소수점 이하 정밀도 유지)
+    public Timestamp getTimestamp(int index) {
+        String[] parts = keys.get(index).split("\\.");
+        try {
+            Timestamp timestamp = new Timestamp(Long.parseLong(parts[0]));
+            timestamp.setNanos(Integer.parseInt(parts[1]));
+            return timestamp;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private static String encodeTimestamp(Timestamp timestamp) {
+        return timestamp.getTime() + "." + timestamp.getNanos();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import lombok.Data;
+
+import java.sql.Timestamp;
+
+// 상품 목록 카드 (게시물 기본 정보 + 대표 이미지 + 최저가)
+@Data
+public class ProductCardDTO {
+    private int postId;
+    private String postName;
+    private String brand;
+    private int categoryId;
+    private String categoryName;
+    private Integer status;       // 1=SELLING, 0=SOLD_OUT (DB 값 그대로)
+    private String gender;        // DB 코드 (M, W, U)
+    private String season;        // DB 코드 (SPR, SMR, FAL, WTR, ALL)
+    private int viewCount;
+    private int wishCount;
+    private Timestamp createdAt;
+    private String imageUrl;      // 대표 이미지 (ISMAIN = 1, 없으면 첫 번째 GALLERY 이미지)
+    private Integer price;        // 최저 실판매가 옵션의 원가
+    private Integer discountPrice; // 최저 실판매가 옵션의 할인가
+}
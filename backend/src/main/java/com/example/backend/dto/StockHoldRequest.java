@@ -0,0 +1,10 @@
+package com.example.backend.dto;
+
+import lombok.Data;
+
+@Data
+public class StockHoldRequest {
+    private String orderId;  // 토스페이먼츠 결제 요청 orderId
+    private Integer amount;  // 결제 예정 금액 (주문 금액과 비교)
+    private OrderCreateRequest orderRequest;
+}
@@ -0,0 +1,38 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+@Entity
+@Table(name = "IDEMPOTENCYKEY")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "IDEMKEY", length = 150)
+    private String idempotencyKey;
+
+    @Column(name = "USERID_SEQ", nullable = false)
+    private int userId;
+
+    @Column(name = "REQUESTHASH", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "STATUS", nullable = false, length = 3)
+    private String status;  // PRG=처리 중, COM=완료
+
+    @Lob
+    @Column(name = "RESPONSEBODY")
+    private String responseBody;  // 완료된 응답 (JSON)
+
+    @CreationTimestamp
+    @Column(name = "CREATEDAT", nullable = false, updatable = false)
+    private Timestamp createdAt;
+}
@@ -46,7 +46,7 @@ public class Order {
     private Integer finalPrice;
 
     @Column(name = "OD_STATUS", length = 20)
-    private String orderStatus;  // CONFIRMED, PAID, DELIVERED, CANCELLED
+    private String orderStatus;  // PAID(주문 직후), PROCESSING, COMPLETED
 
     @Column(name = "RECIPIENTNAME", nullable = false, length = 50)
     private String recipientName;
@@ -66,6 +66,25 @@ public class Order {
     @Column(name = "DV_MEMO", length = 200)
     private String deliveryMemo;
 
+    // 주문상세 상태별 개수 (상태 전이마다 갱신, 주문 상태 계산용)
+    @Column(name = "CNT_PAY", nullable = false)
+    private Integer paidCount = 0;
+
+    @Column(name = "CNT_DLV", nullable = false)
+    private Integer deliveringCount = 0;
+
+    @Column(name = "CNT_DLD", nullable = false)
+    private Integer deliveredCount = 0;
+
+    @Column(name = "CNT_CNF", nullable = false)
+    private Integer confirmedCount = 0;
+
+    @Column(name = "CNT_CAN", nullable = false)
+    private Integer cancelledCount = 0;
+
+    @Column(name = "CNT_REF", nullable = false)
+    private Integer refundedCount = 0;
+
     @CreationTimestamp
     @Column(name = "CREATEDAT", nullable = false, updatable = false)
     private Timestamp createdAt;
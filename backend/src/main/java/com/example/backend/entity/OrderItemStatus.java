@@ -0,0 +1,121 @@
+package com.example.backend.entity;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 주문상세 상태 (DB 코드, 허용되는 상태 전이, 주문의 상태별 주문상세 개수)
+// 결제완료 → 배송중 → 배송완료 → 구매확정, 취소는 결제완료에서만, 환불은 구매확정 전까지 (구매확정/취소/환불은 종료 상태)
+public enum OrderItemStatus {
+    PAID("pay"),
+    DELIVERING("dlv"),
+    DELIVERED("dld"),
+    CONFIRMED("cnf"),
+    CANCELLED("can"),
+    REFUNDED("ref");
+
+    private static final OrderItemStatus[] VALUES = values();
+    private static final String LEGACY_CONFIRMED_CODE = "con";
+
+    private final String code;
+    private Set<OrderItemStatus> next;
+
+    static {
+        PAID.next = EnumSet.of(DELIVERING, CANCELLED, REFUNDED);
+        DELIVERING.next = EnumSet.of(DELIVERED, CONFIRMED, REFUNDED);
+        DELIVERED.next = EnumSet.of(CONFIRMED, REFUNDED);
+        CONFIRMED.next = EnumSet.noneOf(OrderItemStatus.class);
+        CANCELLED.next = EnumSet.noneOf(OrderItemStatus.class);
+        REFUNDED.next = EnumSet.noneOf(OrderItemStatus.class);
+    }
+
+    OrderItemStatus(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    // DB 코드 → 상태 (비어 있으면 결제완료, con은 기존 구매확정 코드)
+    public static OrderItemStatus fromCode(String code) {
+        if (code == null || code.trim().isEmpty()) {
+            return PAID;
+        }
+        String lower = code.trim().toLowerCase(Locale.ROOT);
+        if (LEGACY_CONFIRMED_CODE.equals(lower)) {
+            return CONFIRMED;
+        }
+        for (OrderItemStatus status : VALUES) {
+            if (status.code.equals(lower)) {
+                return status;
+            }
+        }
+        throw new IllegalStateException("알 수 없는 주문상세 상태입니다: " + code);
+    }
+
+    // 같은 상태로는 항상 변경 가능 (변경 없음)
+    public boolean canChangeTo(OrderItemStatus target) {
+        return target == this || next.contains(target);
+    }
+
+    // 처리 중인 상태 (결제완료, 배송중)
+    public boolean isOpen() {
+        return this == PAID || this == DELIVERING;
+    }
+
+    // 주문의 이 상태 주문상세 개수
+    public int countOf(Order order) {
+        Integer count;
+        switch (this) {
+            case PAID -> count = order.getPaidCount();
+            case DELIVERING -> count = order.getDeliveringCount();
+            case DELIVERED -> count = order.getDeliveredCount();
+            case CONFIRMED -> count = order.getConfirmedCount();
+            case CANCELLED -> count = order.getCancelledCount();
+            default -> count = order.getRefundedCount();
+        }
+        return count != null ? count : 0;
+    }
+
+    public void setCount(Order order, int count) {
+        switch (this) {
+            case PAID -> order.setPaidCount(count);
+            case DELIVERING -> order.setDeliveringCount(count);
+            case DELIVERED -> order.setDeliveredCount(count);
+            case CONFIRMED -> order.setConfirmedCount(count);
+            case CANCELLED -> order.setCancelledCount(count);
+            default -> order.setRefundedCount(count);
+        }
+    }
+
+    public void addTo(Order order, int delta) {
+        setCount(order, countOf(order) + delta);
+    }
+
+    // 상태별 개수 합계 (0이면 개수를 관리하기 전 주문이거나 주문상세가 없음)
+    public static int totalOf(Order order) {
+        int total = 0;
+        for (OrderItemStatus status : VALUES) {
+            total += status.countOf(order);
+        }
+        return total;
+    }
+
+    // 주문 상태 (처리 중인 주문상세가 있으면 PROCESSING, 모두 끝났으면 COMPLETED, 주문상세가 없으면 null)
+    public static String deriveOrderStatus(Order order) {
+        int total = 0;
+        int open = 0;
+        for (OrderItemStatus status : VALUES) {
+            int count = status.countOf(order);
+            total += count;
+            if (status.isOpen()) {
+                open += count;
+            }
+        }
+        if (total == 0) {
+            return null;
+        }
+        return open > 0 ? "PROCESSING" : "COMPLETED";
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.sql.Timestamp;
+
+// 상품 목록용 요약 테이블 (게시물 1건당 1행, 게시물/옵션/이미지 변경 시 함께 갱신)
+@Entity
+@Table(name = "PRODUCTLISTING")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductListing {
+
+    @Id
+    @Column(name = "POSTID_SEQ")
+    private int postId;  // 게시물ID (PK, FK -> ProductPost)
+
+    @Column(name = "MINPRICE")
+    private Integer minPrice;  // 최저 실판매가 옵션의 원가
+
+    @Column(name = "MINDISCOUNTPRICE")
+    private Integer minDiscountPrice;  // 최저 실판매가 옵션의 할인가
+
+    @Column(name = "MINEFFECTIVEPRICE")
+    private Integer minEffectivePrice;  // 최저 실판매가 (할인가 우선, 없으면 원가) - 가격순 정렬용
+
+    @Column(name = "MAINIMAGEURL", length = 500)
+    private String mainImageUrl;  // 대표 이미지 (ISMAIN = 1, 없으면 첫 번째 GALLERY 이미지)
+
+    @Column(name = "COLORS", length = 1000)
+    private String colors;  // 옵션 컬러 목록 (소문자, 쉼표 구분)
+
+    @Column(name = "SIZES", length = 1000)
+    private String sizes;  // 옵션 사이즈 목록 (쉼표 구분)
+
+    @UpdateTimestamp
+    @Column(name = "UPDATEDAT", nullable = false)
+    private Timestamp updatedAt;
+}
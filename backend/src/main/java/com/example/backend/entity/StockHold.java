@@ -0,0 +1,59 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Entity
+@Table(name = "STOCKHOLD")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stockhold_seq")
+    @SequenceGenerator(name = "stockhold_seq", sequenceName = "SEQ_STOCKHOLD_HOLDID_SEQ", allocationSize = 1)
+    @Column(name = "HOLDID_SEQ")
+    private int holdId;
+
+    @Column(name = "TOSSORDERID", nullable = false, unique = true, length = 64)
+    private String tossOrderId;  // 토스페이먼츠 결제 요청 orderId
+
+    @Column(name = "USERID_SEQ", nullable = false)
+    private int userId;
+
+    @Column(name = "STATUS", nullable = false, length = 3)
+    private String status;  // HLD=선점, UNK=승인 결과 확인 중, CNF=주문 확정, REL=해제(만료/취소)
+
+    @Column(name = "AMOUNT", nullable = false)
+    private Integer amount;  // 결제 예정 금액
+
+    @Column(name = "EXPIRESAT", nullable = false)
+    private Timestamp expiresAt;
+
+    @Column(name = "PAYMENTKEY", length = 200)
+    private String paymentKey;  // 승인 결과 확인 중일 때 결제 키 (취소용)
+
+    @Lob
+    @Column(name = "ORDERREQUEST")
+    private String orderRequest;  // 승인 결과 확인 중일 때 주문 요청 (JSON, 승인 확인 후 주문 생성용)
+
+    @CreationTimestamp
+    @Column(name = "CREATEDAT", nullable = false, updatable = false)
+    private Timestamp createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "UPDATEDAT", nullable = false)
+    private Timestamp updatedAt;
+
+    // 관계 매핑
+    @OneToMany(mappedBy = "stockHold", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<StockHoldItem> items;  // 선점한 상품별 수량
+}
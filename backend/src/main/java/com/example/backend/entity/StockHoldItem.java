@@ -0,0 +1,30 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "STOCKHOLDITEM")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockHoldItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stockholditem_seq")
+    @SequenceGenerator(name = "stockholditem_seq", sequenceName = "SEQ_STOCKHOLDITEM_HOLDITEMID_SEQ", allocationSize = 1)
+    @Column(name = "HOLDITEMID_SEQ")
+    private int holdItemId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "HOLDID_SEQ", nullable = false)
+    private StockHold stockHold;  // 재고 선점 (FK -> StockHold)
+
+    @Column(name = "PRODUCTID_SEQ", nullable = false)
+    private int productId;
+
+    @Column(name = "QUANTITY", nullable = false)
+    private int quantity;
+}
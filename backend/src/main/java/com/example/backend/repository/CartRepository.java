@@ -2,6 +2,8 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.Cart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,5 +17,10 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
     Optional<Cart> findByCartIdAndUser_UserId(int cartId, int userId);
 
     List<Cart> findByUser_UserIdAndCartIdIn(int userId, List<Integer> cartIds);
+
+    // 장바구니 + 상품 + 게시물 + 판매자를 한 번에 조회 (주문 생성용)
+    @Query("select c from Cart c join fetch c.product p join fetch p.productPost pp join fetch pp.seller "
+            + "where c.user.userId = :userId and c.cartId in :cartIds")
+    List<Cart> findWithProductsByUserIdAndCartIds(@Param("userId") int userId, @Param("cartIds") List<Integer> cartIds);
 }
 
@@ -0,0 +1,33 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // 처리 시작 기록 (이미 있으면 PK 중복 예외, save는 있는 행을 덮어쓰므로 INSERT로 실행)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO IDEMPOTENCYKEY (IDEMKEY, USERID_SEQ, REQUESTHASH, STATUS) VALUES (:idempotencyKey, :userId, :requestHash, 'PRG')",
+            nativeQuery = true)
+    int insertInProgress(@Param("idempotencyKey") String idempotencyKey,
+                         @Param("userId") int userId,
+                         @Param("requestHash") String requestHash);
+
+    @Modifying
+    @Transactional
+    @Query("update IdempotencyKey k set k.status = 'COM', k.responseBody = :responseBody where k.idempotencyKey = :idempotencyKey")
+    int complete(@Param("idempotencyKey") String idempotencyKey, @Param("responseBody") String responseBody);
+
+    // 보관 기간이 지난 키와 오래 처리 중으로 남은 키(서버 중단 등) 삭제
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyKey k where k.createdAt < :expiredBefore or (k.status = 'PRG' and k.createdAt < :staleBefore)")
+    int deleteExpired(@Param("expiredBefore") Timestamp expiredBefore, @Param("staleBefore") Timestamp staleBefore);
+}
@@ -2,12 +2,13 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
+public interface OrderItemRepository extends JpaRepository<OrderItem, Integer>, JpaSpecificationExecutor<OrderItem> {
 
     @Query("select distinct oi from OrderItem oi " +
             "join fetch oi.order o " +
@@ -17,6 +18,14 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
             "order by oi.orderItemId desc")
     List<OrderItem> findBySellerIdWithDetails(@Param("sellerId") int sellerId);
 
+    // 판매자 주문상세 상태별 건수 [status, 주문상세 수, 처리 대기 환불/취소 요청이 있는 주문상세 수] (GROUP BY 한 번)
+    @Query("select oi.status, count(distinct oi.orderItemId), count(distinct r.orderItemId) from OrderItem oi " +
+            "left join Refund r on r.orderItemId = oi.orderItemId and r.status = :requestedRefundStatus " +
+            "where oi.sellerId = :sellerId " +
+            "group by oi.status")
+    List<Object[]> countStatusesBySellerId(@Param("sellerId") int sellerId,
+                                           @Param("requestedRefundStatus") String requestedRefundStatus);
+
     List<OrderItem> findByOrder_OrderId(int orderId);
     
     // 게시물 ID로 주문상세 목록 조회
@@ -0,0 +1,78 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.OrderItem;
+import com.example.backend.entity.Refund;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+
+// 판매자 주문(주문상세) 목록 필터 조건 (모든 조건을 DB에서 처리)
+public final class OrderItemSpecification {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private OrderItemSpecification() {
+    }
+
+    public static Specification<OrderItem> sellerIdEquals(int sellerId) {
+        return (root, query, cb) -> cb.equal(root.get("sellerId"), sellerId);
+    }
+
+    // 주문상세 상태 (DB 코드 목록)
+    public static Specification<OrderItem> statusIn(List<String> dbStatuses) {
+        return (root, query, cb) -> dbStatuses == null || dbStatuses.isEmpty() ? null : cb.lower(root.get("status")).in(dbStatuses);
+    }
+
+    // 해당 상태의 환불/취소 요청이 있는 주문상세 (예: REQ = 처리 대기)
+    public static Specification<OrderItem> hasRefundStatus(String refundStatus) {
+        return (root, query, cb) -> {
+            Subquery<Integer> sub = query.subquery(Integer.class);
+            Root<Refund> refund = sub.from(Refund.class);
+            sub.select(refund.get("refundId"))
+                    .where(cb.equal(refund.get("orderItemId"), root.get("orderItemId")),
+                            cb.equal(refund.get("status"), refundStatus));
+            return cb.exists(sub);
+        };
+    }
+
+    // 주문일시 범위 [from, to)
+    public static Specification<OrderItem> orderedBetween(Timestamp from, Timestamp to) {
+        return (root, query, cb) -> {
+            if (from == null && to == null) return null;
+            if (to == null) return cb.greaterThanOrEqualTo(root.get("order").get("createdAt"), from);
+            if (from == null) return cb.lessThan(root.get("order").get("createdAt"), to);
+            return cb.and(cb.greaterThanOrEqualTo(root.get("order").get("createdAt"), from),
+                    cb.lessThan(root.get("order").get("createdAt"), to));
+        };
+    }
+
+    // 검색어 (주문번호 일치 또는 수령인 이름에 포함)
+    public static Specification<OrderItem> keywordMatches(String keyword) {
+        return (root, query, cb) -> {
+            if (keyword == null || keyword.trim().isEmpty()) return null;
+            String trimmed = keyword.trim();
+            String pattern = "%" + escapeLike(trimmed.toLowerCase(Locale.ROOT)) + "%";
+            return cb.or(
+                    cb.equal(root.get("order").get("orderNumber"), trimmed),
+                    cb.like(cb.lower(root.get("order").get("recipientName")), pattern, LIKE_ESCAPE));
+        };
+    }
+
+    // 커서 페이징 (주문상세ID 역순), count 쿼리에는 ORDER BY를 붙이지 않음
+    public static Specification<OrderItem> before(int beforeOrderItemId) {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                query.orderBy(cb.desc(root.get("orderItemId")));
+            }
+            return cb.lessThan(root.get("orderItemId"), beforeOrderItemId);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
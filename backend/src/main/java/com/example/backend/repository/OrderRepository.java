@@ -1,8 +1,12 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +15,22 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
     
     // 사용자 ID로 주문 목록 조회 (최신순)
     List<Order> findByUser_UserIdOrderByCreatedAtDesc(int userId);
+    
+    // 커서 페이징 - 첫 페이지 (최신순, 같은 시각은 주문ID 역순)
+    @Query("select o from Order o where o.userId = :userId order by o.createdAt desc, o.orderId desc")
+    List<Order> findPageByUserId(@Param("userId") int userId, Pageable pageable);
+    
+    // 커서 페이징 - 커서 다음 페이지 (createdAt, orderId) < (:createdAt, :orderId)
+    @Query("select o from Order o where o.userId = :userId " +
+            "and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.orderId < :orderId)) " +
+            "order by o.createdAt desc, o.orderId desc")
+    List<Order> findPageByUserIdAfter(@Param("userId") int userId,
+                                      @Param("createdAt") Timestamp createdAt,
+                                      @Param("orderId") int orderId,
+                                      Pageable pageable);
+    
+    // 주문 행을 잠그고 주문상세 상태별 개수 조회 (OrderItemStatus 순서)
+    @Query(value = "SELECT CNT_PAY, CNT_DLV, CNT_DLD, CNT_CNF, CNT_CAN, CNT_REF FROM \"order\" WHERE ORDERID_SEQ = :orderId FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> lockItemStateCounts(@Param("orderId") int orderId);
 }
-
-
@@ -2,6 +2,7 @@ package com.example.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.example.backend.entity.ProductImage;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Integer> {
@@ -9,6 +10,9 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Inte
     // 게시물 ID로 이미지 목록 조회
     List<ProductImage> findByPostId(int postId);
     
+    // 여러 게시물의 이미지 목록 한 번에 조회 (이미지 ID 순)
+    List<ProductImage> findByPostIdInOrderByImageIdAsc(Collection<Integer> postIds);
+    
     // 게시물 ID와 대표이미지 여부로 조회
     List<ProductImage> findByPostIdAndIsMain(int postId, Integer isMain);
 }
@@ -0,0 +1,12 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.ProductListing;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ProductListingRepository extends JpaRepository<ProductListing, Integer> {
+
+    // 비어 있는지 확인용 (전체 COUNT 대신 첫 행만 확인)
+    @Query(value = "SELECT COUNT(*) FROM PRODUCTLISTING WHERE ROWNUM = 1", nativeQuery = true)
+    int countFirstRow();
+}
@@ -1,11 +1,13 @@
 package com.example.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import com.example.backend.entity.ProductPost;
 import java.util.List;
 
-public interface ProductPostRepository extends JpaRepository<ProductPost, Integer> {
+public interface ProductPostRepository extends JpaRepository<ProductPost, Integer>, JpaSpecificationExecutor<ProductPost> {
     
     // 판매자 ID로 게시물 목록 조회
     List<ProductPost> findBySellerId(int sellerId);
@@ -13,30 +15,23 @@ public interface ProductPostRepository extends JpaRepository<ProductPost, Intege
     // 상태로 게시물 목록 조회 (Integer: 1=SELLING, 0=SOLD_OUT)
     List<ProductPost> findByStatus(Integer status);
     
+    // 전체 게시물 ID 목록 조회 (목록 요약 테이블 재생성용)
+    @Query("select p.postId from ProductPost p order by p.postId")
+    List<Integer> findAllPostIds();
+    
     // 브랜드로 게시물 목록 조회
     List<ProductPost> findByBrand(String brand);
     
     // 인기순 조회 (찜수 기준) - WISHCOUNT 컬럼 사용
     // 찜수가 많은 순서대로 정렬 (DESC: 내림차순)
-    // STATUS = 1 (SELLING)만 조회
-    // 최대 4개만 조회 (성능 최적화)
-    @Query(value = "SELECT * FROM (" +
-           "  SELECT pp.* FROM PRODUCTPOST pp " +
-           "  WHERE pp.STATUS = 1 " +
-           "  ORDER BY NVL(pp.WISHCOUNT, 0) DESC, pp.CREATEDAT DESC" +
-           ") WHERE ROWNUM <= 4", 
-           nativeQuery = true)
-    List<ProductPost> findAllOrderByPopularity();
+    // STATUS = 1 (SELLING)만 조회, 개수는 pageable로 지정
+    @Query("select pp from ProductPost pp where pp.status = 1 " +
+           "order by coalesce(pp.wishCount, 0) desc, pp.createdAt desc, pp.postId desc")
+    List<ProductPost> findSellingOrderByPopularity(Pageable pageable);
     
     // 최신순 조회 (생성일 기준)
-    // STATUS = 1 (SELLING)만 조회
-    // 최대 4개만 조회 (성능 최적화)
-    @Query(value = "SELECT * FROM (" +
-           "  SELECT pp.* FROM PRODUCTPOST pp " +
-           "  WHERE pp.STATUS = 1 " +
-           "  ORDER BY pp.CREATEDAT DESC" +
-           ") WHERE ROWNUM <= 4", 
-           nativeQuery = true)
-    List<ProductPost> findAllOrderByCreatedAtDesc();
+    // STATUS = 1 (SELLING)만 조회, 개수는 pageable로 지정
+    @Query("select pp from ProductPost pp where pp.status = 1 " +
+           "order by pp.createdAt desc, pp.postId desc")
+    List<ProductPost> findSellingOrderByCreatedAtDesc(Pageable pageable);
 }
-
@@ -0,0 +1,185 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Category;
+import com.example.backend.entity.Product;
+import com.example.backend.entity.ProductListing;
+import com.example.backend.entity.ProductPost;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 상품 목록 필터 조건 (모든 조건을 DB에서 처리)
+public final class ProductPostSpecification {
+
+    public static final String SORT_NEWEST = "newest";
+    public static final String SORT_POPULAR = "popular";
+    public static final String SORT_PRICE_LOW = "price-low";
+    public static final String SORT_PRICE_HIGH = "price-high";
+    public static final String SORT_RELEVANCE = "relevance";  // 검색 관련도순 (검색 색인 사용 시, DB 조회에서는 최신순)
+
+    // 가격순에서 가격이 없는 게시물의 정렬 값 (메모리 인덱스와 같은 값)
+    public static final int MISSING_PRICE_LOW = Integer.MAX_VALUE;
+    public static final int MISSING_PRICE_HIGH = -1;
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductPostSpecification() {
+    }
+
+    // 판매 상태
+    public static Specification<ProductPost> statusEquals(Integer status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // 카테고리명 접두어 (예: "신발" → "신발 스니커즈", "신발 로퍼" ...)
+    public static Specification<ProductPost> categoryStartsWith(String category) {
+        return (root, query, cb) -> {
+            if (isBlank(category)) return null;
+            Join<ProductPost, Category> join = root.join("category", JoinType.INNER);
+            return cb.like(join.get("categoryName"), escapeLike(category) + "%", LIKE_ESCAPE);
+        };
+    }
+
+    // 성별 (DB 코드 목록, UNISEX 포함 여부는 호출하는 쪽에서 결정)
+    public static Specification<ProductPost> genderIn(List<String> dbGenders) {
+        return (root, query, cb) -> isEmpty(dbGenders) ? null : root.get("gender").in(dbGenders);
+    }
+
+    // 검색어 (게시물명 또는 브랜드에 포함)
+    public static Specification<ProductPost> keywordContains(String keyword) {
+        return (root, query, cb) -> {
+            if (isBlank(keyword)) return null;
+            String pattern = "%" + escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("postName")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(cb.trim(root.get("brand"))), pattern, LIKE_ESCAPE));
+        };
+    }
+
+    // 계절 (DB 코드 목록)
+    public static Specification<ProductPost> seasonIn(List<String> dbSeasons) {
+        return (root, query, cb) -> isEmpty(dbSeasons) ? null : root.get("season").in(dbSeasons);
+    }
+
+    // 컬러/사이즈(/재고) 조건을 모두 만족하는 PRODUCT가 하나 이상 있는 게시물
+    // 조건이 없어도 PRODUCT가 하나도 없는 게시물은 목록에서 제외 (기존 동작 유지)
+    public static Specification<ProductPost> hasMatchingProduct(List<String> colors, List<String> sizes, boolean inStockOnly) {
+        return (root, query, cb) -> {
+            Subquery<Integer> sub = query.subquery(Integer.class);
+            Root<Product> product = sub.from(Product.class);
+            sub.select(product.get("productId"))
+                    .where(productConditions(product, root, cb, colors, sizes, inStockOnly));
+            return cb.exists(sub);
+        };
+    }
+
+    // 정렬 (가격순은 필터 조건에 맞는 옵션 중 최저 실판매가 기준)
+    // 컬러/사이즈/재고 조건이 없으면 요약 테이블(PRODUCTLISTING)의 최저 실판매가로 정렬
+    // count 쿼리에는 ORDER BY를 붙이지 않음
+    public static Specification<ProductPost> orderBy(String sort, List<String> colors, List<String> sizes, boolean inStockOnly) {
+        return (root, query, cb) -> {
+            if (Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType())) {
+                return null;
+            }
+            List<Order> orders = new ArrayList<>();
+            String key = sort != null ? sort : SORT_NEWEST;
+            switch (key) {
+                case SORT_POPULAR:
+                    orders.add(cb.desc(root.get("wishCount")));
+                    orders.add(cb.desc(root.get("createdAt")));
+                    break;
+                case SORT_PRICE_LOW:
+                case SORT_PRICE_HIGH:
+                    Expression<Integer> price = sortPrice(key, root, query, cb, colors, sizes, inStockOnly);
+                    orders.add(SORT_PRICE_LOW.equals(key) ? cb.asc(price) : cb.desc(price));
+                    break;
+                default:
+                    orders.add(cb.desc(root.get("createdAt")));
+            }
+            orders.add(cb.desc(root.get("postId")));
+            query.orderBy(orders);
+            return null;
+        };
+    }
+
+    // 커서 페이징: 최신순 (작성일시, postId) 이후
+    public static Specification<ProductPost> createdBefore(Timestamp createdAt, int postId) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("postId"), postId)));
+    }
+
+    // 커서 페이징: 인기순 (찜수, 작성일시, postId) 이후
+    public static Specification<ProductPost> popularAfter(int wishCount, Timestamp createdAt, int postId) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("wishCount"), wishCount),
+                cb.and(cb.equal(root.get("wishCount"), wishCount), createdBefore(createdAt, postId).toPredicate(root, query, cb)));
+    }
+
+    // 커서 페이징: 가격순 (최저 실판매가, postId) 이후 (가격 기준은 orderBy와 같은 서브쿼리)
+    public static Specification<ProductPost> priceAfter(String sort, int price, int postId,
+                                                        List<String> colors, List<String> sizes, boolean inStockOnly) {
+        return (root, query, cb) -> {
+            Expression<Integer> sortPrice = sortPrice(sort, root, query, cb, colors, sizes, inStockOnly);
+            Predicate beyond = SORT_PRICE_HIGH.equals(sort) ? cb.lessThan(sortPrice, price) : cb.greaterThan(sortPrice, price);
+            return cb.or(beyond, cb.and(cb.equal(sortPrice, price), cb.lessThan(root.get("postId"), postId)));
+        };
+    }
+
+    // 가격순 정렬 값 (가격이 없는 게시물은 정렬 방향과 관계없이 마지막)
+    private static Expression<Integer> sortPrice(String sort, Root<ProductPost> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                                 List<String> colors, List<String> sizes, boolean inStockOnly) {
+        Subquery<Integer> minPrice = query.subquery(Integer.class);
+        if (isEmpty(colors) && isEmpty(sizes) && !inStockOnly) {
+            Root<ProductListing> listing = minPrice.from(ProductListing.class);
+            minPrice.select(listing.get("minEffectivePrice"))
+                    .where(cb.equal(listing.get("postId"), root.get("postId")));
+        } else {
+            Root<Product> product = minPrice.from(Product.class);
+            Expression<Integer> effectivePrice = cb.coalesce(product.get("discountPrice"), product.<Integer>get("price"));
+            minPrice.select(cb.min(effectivePrice))
+                    .where(productConditions(product, root, cb, colors, sizes, inStockOnly));
+        }
+        return cb.coalesce(minPrice, SORT_PRICE_HIGH.equals(sort) ? MISSING_PRICE_HIGH : MISSING_PRICE_LOW);
+    }
+
+    private static Predicate[] productConditions(Root<Product> product, Root<ProductPost> post, CriteriaBuilder cb,
+                                                 List<String> colors, List<String> sizes, boolean inStockOnly) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(product.get("postId"), post.get("postId")));
+        if (!isEmpty(colors)) {
+            predicates.add(cb.lower(product.get("color")).in(colors));
+        }
+        if (!isEmpty(sizes)) {
+            predicates.add(product.get("productSize").in(sizes));
+        }
+        if (inStockOnly) {
+            predicates.add(cb.gt(product.get("stock"), 0));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+}
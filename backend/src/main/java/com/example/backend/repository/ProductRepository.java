@@ -1,12 +1,25 @@
 package com.example.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.example.backend.entity.Product;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
     
     // 게시물 ID로 상품 목록 조회
     List<Product> findByPostId(int postId);
+    
+    // 여러 게시물의 상품 목록 한 번에 조회
+    List<Product> findByPostIdIn(Collection<Integer> postIds);
+    
+    // 상품별 현재 재고 [productId, stock] (엔티티를 읽지 않음)
+    @Query("select p.productId, p.stock from Product p where p.productId in :productIds")
+    List<Object[]> findStocksByProductIdIn(@Param("productIds") Collection<Integer> productIds);
+    
+    // 상품 + 게시물 + 판매자를 한 번에 조회 (주문 생성용)
+    @Query("select p from Product p join fetch p.productPost pp join fetch pp.seller where p.productId in :productIds")
+    List<Product> findWithPostAndSellerByProductIdIn(@Param("productIds") Collection<Integer> productIds);
 }
-
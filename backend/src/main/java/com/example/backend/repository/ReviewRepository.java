@@ -1,9 +1,12 @@
 package com.example.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.example.backend.entity.Review;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +18,42 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
     // 사용자 ID로 리뷰 목록 조회
     List<Review> findByUserId(int userId);
     
+    // 커서 페이징 (최신순, 같은 시각은 리뷰ID 역순)
+    // 게시물/작성자/판매자 중 하나로 조회하고, 첫 페이지는 createdAt/reviewId 조건 없이 조회
+    @Query("SELECT r FROM Review r WHERE r.postId = :postId ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageByPostId(@Param("postId") int postId, Pageable pageable);
+    
+    @Query("SELECT r FROM Review r WHERE r.postId = :postId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageByPostIdAfter(@Param("postId") int postId, @Param("createdAt") Timestamp createdAt,
+                                       @Param("reviewId") int reviewId, Pageable pageable);
+    
+    @Query("SELECT r FROM Review r WHERE r.userId = :userId ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageByUserId(@Param("userId") int userId, Pageable pageable);
+    
+    @Query("SELECT r FROM Review r WHERE r.userId = :userId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageByUserIdAfter(@Param("userId") int userId, @Param("createdAt") Timestamp createdAt,
+                                       @Param("reviewId") int reviewId, Pageable pageable);
+    
+    @Query("SELECT r FROM Review r WHERE r.productPost.sellerId = :sellerId ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageBySellerId(@Param("sellerId") int sellerId, Pageable pageable);
+    
+    @Query("SELECT r FROM Review r WHERE r.productPost.sellerId = :sellerId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageBySellerIdAfter(@Param("sellerId") int sellerId, @Param("createdAt") Timestamp createdAt,
+                                         @Param("reviewId") int reviewId, Pageable pageable);
+    
     // 주문상세 ID로 리뷰 조회 (중복 리뷰 방지)
     Review findByOrderItemId(int orderItemId);
     
+    // 주문상세별 리뷰 ID [orderItemId, reviewId] (주문 목록 리뷰 작성 여부 확인용)
+    @Query("SELECT r.orderItemId, r.reviewId FROM Review r WHERE r.orderItemId IN :orderItemIds")
+    List<Object[]> findReviewIdsByOrderItemIdIn(@Param("orderItemIds") Collection<Integer> orderItemIds);
+    
     // 리뷰 ID로 조회 (ProductPost와 함께 로드)
     @Query("SELECT r FROM Review r JOIN FETCH r.productPost WHERE r.reviewId = :reviewId")
     Optional<Review> findByIdWithProductPost(@Param("reviewId") int reviewId);
@@ -0,0 +1,66 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.StockHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockHoldRepository extends JpaRepository<StockHold, Integer> {
+
+    Optional<StockHold> findByTossOrderId(String tossOrderId);
+
+    List<StockHold> findByStatus(String status);
+
+    List<StockHold> findByUserId(int userId);
+
+    // 상품을 포함한 선점 (상품 삭제 전 정리용)
+    @Query("select distinct i.stockHold from StockHoldItem i where i.productId in :productIds")
+    List<StockHold> findByProductIds(@Param("productIds") Collection<Integer> productIds);
+
+    // 만료 시각이 지난 선점 (지연 큐에서 빠진 선점 정리용)
+    List<StockHold> findByStatusAndExpiresAtBefore(String status, Timestamp time);
+
+    // 회원의 만료 전 선점 수 (회원별 선점 개수 제한)
+    long countByUserIdAndStatusAndExpiresAtAfter(int userId, String status, Timestamp time);
+
+    // 상태 조건부 변경 (결제 확정과 만료 처리가 겹쳐도 한쪽만 성공)
+    @Modifying
+    @Query("update StockHold h set h.status = :to, h.updatedAt = CURRENT_TIMESTAMP where h.holdId = :holdId and h.status = :from")
+    int updateStatus(@Param("holdId") int holdId, @Param("from") String from, @Param("to") String to);
+
+    // 선점 중일 때만 만료 시각 연장 (결제 승인 중 만료되지 않게)
+    @Modifying
+    @Query("update StockHold h set h.expiresAt = :expiresAt, h.updatedAt = CURRENT_TIMESTAMP where h.holdId = :holdId and h.status = 'HLD'")
+    int extendExpiry(@Param("holdId") int holdId, @Param("expiresAt") Timestamp expiresAt);
+
+    // 선점 중일 때만 승인 결과 확인 중으로 변경 (만료 처리 대상에서 빠짐)
+    @Modifying
+    @Query("update StockHold h set h.status = 'UNK', h.paymentKey = :paymentKey, h.orderRequest = :orderRequest, h.updatedAt = CURRENT_TIMESTAMP " +
+            "where h.holdId = :holdId and h.status = 'HLD'")
+    int markUnknown(@Param("holdId") int holdId, @Param("paymentKey") String paymentKey, @Param("orderRequest") String orderRequest);
+
+    @Modifying
+    @Query("delete from StockHoldItem i where i.productId in :productIds")
+    int deleteItemsByProductIds(@Param("productIds") Collection<Integer> productIds);
+
+    // 보관 기간이 지난 확정/해제 선점 삭제 (선점 상품 먼저)
+    @Modifying
+    @Query("delete from StockHoldItem i where i.stockHold.holdId in " +
+            "(select h.holdId from StockHold h where h.status in ('CNF', 'REL') and h.updatedAt < :before)")
+    int deleteFinishedItems(@Param("before") Timestamp before);
+
+    @Modifying
+    @Query("delete from StockHold h where h.status in ('CNF', 'REL') and h.updatedAt < :before")
+    int deleteFinished(@Param("before") Timestamp before);
+
+    // 선점 중이고 만료 시각이 지난 경우만 해제 (만료 처리와 결제 승인 중 연장이 겹쳐도 한쪽만 성공)
+    @Modifying
+    @Query("update StockHold h set h.status = 'REL', h.updatedAt = CURRENT_TIMESTAMP where h.holdId = :holdId and h.status = 'HLD' and h.expiresAt <= :now")
+    int releaseIfExpired(@Param("holdId") int holdId, @Param("now") Timestamp now);
+}
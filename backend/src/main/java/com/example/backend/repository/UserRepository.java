@@ -1,8 +1,11 @@
 package com.example.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.example.backend.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
@@ -10,5 +13,9 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
     Optional<User> findByNameAndPhone(String name, String phone);
     Optional<User> findByNameAndEmail(String name, String email);
+
+    // 회원 행 잠금 (같은 회원의 동시 요청을 순서대로 처리)
+    @Query(value = "SELECT USERID_SEQ FROM \"user\" WHERE USERID_SEQ = :userId FOR UPDATE", nativeQuery = true)
+    List<Integer> lockById(@Param("userId") int userId);
 }
 
@@ -1,8 +1,12 @@
 package com.example.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.example.backend.entity.Wishlist;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +19,17 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Integer> {
     // 사용자 ID로 찜 목록 조회 (최신순)
     List<Wishlist> findByUserIdOrderByCreatedAtDesc(int userId);
     
+    // 커서 페이징 - 첫 페이지 (최신순, 같은 시각은 찜ID 역순)
+    @Query("select w from Wishlist w where w.userId = :userId order by w.createdAt desc, w.wishlistId desc")
+    List<Wishlist> findPageByUserId(@Param("userId") int userId, Pageable pageable);
+    
+    // 커서 페이징 - 커서 다음 페이지
+    @Query("select w from Wishlist w where w.userId = :userId " +
+            "and (w.createdAt < :createdAt or (w.createdAt = :createdAt and w.wishlistId < :wishlistId)) " +
+            "order by w.createdAt desc, w.wishlistId desc")
+    List<Wishlist> findPageByUserIdAfter(@Param("userId") int userId, @Param("createdAt") Timestamp createdAt,
+                                         @Param("wishlistId") int wishlistId, Pageable pageable);
+    
     // 게시물 ID로 찜 목록 조회
     List<Wishlist> findByPostId(int postId);
     
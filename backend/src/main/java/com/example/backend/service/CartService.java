@@ -34,6 +34,9 @@ public class CartService {
     @Autowired
     private ProductImageDAO productImageDAO;
 
+    @Autowired
+    private InventoryService inventoryService;
+
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getCartItems(int userId) {
         validateUser(userId);
@@ -56,7 +59,8 @@ public class CartService {
             return newCart;
         });
 
-        int stock = product.getStock() != null ? product.getStock() : 0;
+        // 인기 상품은 메모리 재고 장부 기준
+        int stock = inventoryService.availableStock(product);
         if (stock <= 0) {
             throw new IllegalStateException("재고가 부족합니다.");
         }
@@ -76,7 +80,7 @@ public class CartService {
                 .orElseThrow(() -> new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다."));
 
         Product product = cart.getProduct();
-        int stock = product.getStock() != null ? product.getStock() : quantity;
+        int stock = product.getStock() != null ? inventoryService.availableStock(product) : quantity;
         if (stock <= 0) {
             throw new IllegalStateException("재고가 부족합니다.");
         }
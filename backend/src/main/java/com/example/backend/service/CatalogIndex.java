@@ -0,0 +1,538 @@
+package com.example.backend.service;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 상품 목록 필터용 메모리 인덱스 (패싯 값마다 BitSet 1개)
+// 게시물 비트맵(카테고리/성별/계절/판매상태)과 옵션 비트맵(컬러/사이즈/재고)을 교집합/합집합으로 계산
+// 게시물/옵션은 내부 번호(doc)로 관리하고, 삭제된 번호는 재사용하지 않음 (재적재 시 정리)
+public class CatalogIndex {
+
+    private static final int STATUS_SELLING = 1;
+
+    public static final String FACET_GENDER = "gender";
+    public static final String FACET_SEASON = "season";
+    public static final String FACET_COLOR = "color";
+    public static final String FACET_SIZE = "size";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+
+    // 게시물
+    private final Map<Integer, Integer> postDocs = new HashMap<>();
+    private int[] docPostIds = new int[1024];
+    private long[] docCreatedAt = new long[1024];
+    private int[] docWishCounts = new int[1024];
+    private int postDocCount = 0;
+    private final BitSet livePosts = new BitSet();
+    private final BitSet sellingPosts = new BitSet();
+    private final Map<String, BitSet> categoryBits = new HashMap<>();
+    private final Map<String, BitSet> genderBits = new HashMap<>();
+    private final Map<String, BitSet> seasonBits = new HashMap<>();
+    private final Map<Integer, String[]> postFacetValues = new HashMap<>();
+
+    // 옵션(Product)
+    private final Map<Integer, Integer> productDocs = new HashMap<>();
+    private int[] productDocPostDocs = new int[4096];
+    private int[] productDocPrices = new int[4096];
+    private int productDocCount = 0;
+    private final BitSet liveProducts = new BitSet();
+    private final BitSet inStockProducts = new BitSet();
+    private final Map<String, BitSet> colorBits = new HashMap<>();
+    private final Map<String, BitSet> sizeBits = new HashMap<>();
+    private final Map<Integer, String[]> productFacetValues = new HashMap<>();
+    private final Map<Integer, List<Integer>> postProductIds = new HashMap<>();
+
+    // 게시물 등록/수정 (옵션 목록 전체를 교체, 남아 있는 옵션은 같은 번호 재사용)
+    public void putPost(PostEntry post, Collection<ProductEntry> products) {
+        lock.writeLock().lock();
+        try {
+            List<Integer> productIds = new ArrayList<>();
+            for (ProductEntry product : products) {
+                productIds.add(product.getProductId());
+            }
+            removeProducts(postProductIds.get(post.getPostId()), productIds);
+
+            int doc = postDocs.computeIfAbsent(post.getPostId(), id -> allocatePostDoc());
+            clearPostFacets(doc);
+
+            docPostIds[doc] = post.getPostId();
+            docCreatedAt[doc] = post.getCreatedAt();
+            docWishCounts[doc] = post.getWishCount();
+            livePosts.set(doc);
+            if (post.getStatus() != null && post.getStatus() == STATUS_SELLING) {
+                sellingPosts.set(doc);
+            }
+            String[] values = {post.getCategoryName(), post.getGender(), post.getSeason()};
+            setBit(categoryBits, values[0], doc);
+            setBit(genderBits, values[1], doc);
+            setBit(seasonBits, values[2], doc);
+            postFacetValues.put(doc, values);
+
+            for (ProductEntry product : products) {
+                putProduct(doc, product);
+            }
+            postProductIds.put(post.getPostId(), productIds);
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시물 삭제
+    public void removePost(int postId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = postDocs.remove(postId);
+            if (doc == null) return;
+            removeProducts(postProductIds.remove(postId), List.of());
+            clearPostFacets(doc);
+            livePosts.clear(doc);
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 옵션 재고 변경 (주문/취소/환불)
+    public void updateStock(int productId, int stock) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = productDocs.get(productId);
+            if (doc == null) return;
+            if (inStockProducts.get(doc) != stock > 0) {
+                inStockProducts.set(doc, stock > 0);
+                version.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 찜수 변경 (인기순 정렬용)
+    public void updateWishCount(int postId, int wishCount) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = postDocs.get(postId);
+            if (doc == null) return;
+            docWishCounts[doc] = wishCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 필터 조건에 맞는 게시물을 정렬해서 offset부터 limit개 반환
+    public SearchResult search(Filter filter, String sort, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matchedProducts = matchProducts(filter, null);
+            BitSet matchedPosts = matchPosts(filter, null);
+            matchedPosts.and(postsOf(matchedProducts));
+
+            int total = matchedPosts.cardinality();
+            Integer[] docs = new Integer[total];
+            int index = 0;
+            for (int doc = matchedPosts.nextSetBit(0); doc >= 0; doc = matchedPosts.nextSetBit(doc + 1)) {
+                docs[index++] = doc;
+            }
+            Arrays.sort(docs, comparator(sort, matchedProducts, matchedPosts));
+
+            List<Integer> postIds = new ArrayList<>();
+            for (int i = offset; i < total && i < offset + limit; i++) {
+                postIds.add(docPostIds[docs[i]]);
+            }
+            return new SearchResult(postIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 커서 이후 limit개 반환 (after = 이전 페이지 마지막 게시물의 정렬 키, null이면 첫 페이지)
+    // 최신순 {작성일시(ms), postId}, 인기순 {찜수, 작성일시(ms), postId}, 가격순 {최저 실판매가, postId}
+    // 가격이 없는 게시물의 가격 키는 낮은가격순 Integer.MAX_VALUE, 높은가격순 -1 (DB 정렬과 같은 값)
+    public SearchResult searchAfter(Filter filter, String sort, long[] after, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matchedProducts = matchProducts(filter, null);
+            BitSet matchedPosts = matchPosts(filter, null);
+            matchedPosts.and(postsOf(matchedProducts));
+            int total = matchedPosts.cardinality();
+
+            String key = sort != null ? sort : "newest";
+            Map<Integer, Integer> minPrices = isPriceSort(key) ? minPrices(matchedProducts, matchedPosts) : null;
+            long[] afterKey = after != null ? cursorOrderKey(key, after) : null;
+            List<long[]> candidates = new ArrayList<>();
+            for (int doc = matchedPosts.nextSetBit(0); doc >= 0; doc = matchedPosts.nextSetBit(doc + 1)) {
+                long[] orderKey = orderKey(key, doc, minPrices);
+                if (afterKey == null || Arrays.compare(orderKey, afterKey) > 0) {
+                    candidates.add(orderKey);
+                }
+            }
+            candidates.sort(Arrays::compare);
+
+            List<Integer> postIds = new ArrayList<>();
+            for (int i = 0; i < candidates.size() && i < limit; i++) {
+                long[] orderKey = candidates.get(i);
+                postIds.add((int) -orderKey[orderKey.length - 1]);
+            }
+            return new SearchResult(postIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 주어진 게시물 중 필터 조건에 맞는 게시물 (입력 순서 유지, 검색 관련도순 목록용)
+    public List<Integer> retainMatching(Filter filter, List<Integer> postIds) {
+        lock.readLock().lock();
+        try {
+            BitSet matchedPosts = matchPosts(filter, null);
+            matchedPosts.and(postsOf(matchProducts(filter, null)));
+            List<Integer> retained = new ArrayList<>();
+            for (Integer postId : postIds) {
+                Integer doc = postDocs.get(postId);
+                if (doc != null && matchedPosts.get(doc)) {
+                    retained.add(postId);
+                }
+            }
+            return retained;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 필터 조건에 맞는 게시물 수
+    public int count(Filter filter) {
+        lock.readLock().lock();
+        try {
+            BitSet matchedPosts = matchPosts(filter, null);
+            matchedPosts.and(postsOf(matchProducts(filter, null)));
+            return matchedPosts.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 패싯 값별 게시물 수 (값마다 해당 패싯 조건만 빼고 나머지 조건을 모두 적용, 값 목록은 0건 포함)
+    // 게시물 패싯(성별/계절)은 비트맵 교집합 크기, 옵션 패싯(컬러/사이즈)은 옵션 비트를 한 번 순회해서 계산
+    public Map<String, Map<String, Integer>> facetCounts(Filter filter) {
+        lock.readLock().lock();
+        try {
+            Map<String, Map<String, Integer>> facets = new HashMap<>();
+            BitSet postsWithProduct = postsOf(matchProducts(filter, null));
+
+            BitSet genderBase = matchPosts(filter, FACET_GENDER);
+            genderBase.and(postsWithProduct);
+            facets.put(FACET_GENDER, countPostFacet(genderBase, genderBits));
+
+            BitSet seasonBase = matchPosts(filter, FACET_SEASON);
+            seasonBase.and(postsWithProduct);
+            facets.put(FACET_SEASON, countPostFacet(seasonBase, seasonBits));
+
+            BitSet matchedPosts = matchPosts(filter, null);
+            facets.put(FACET_COLOR, countProductFacet(matchedPosts, matchProducts(filter, FACET_COLOR), colorBits, 0));
+            facets.put(FACET_SIZE, countProductFacet(matchedPosts, matchProducts(filter, FACET_SIZE), sizeBits, 1));
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 필터 결과가 달라질 수 있는 쓰기(게시물/재고 변경)마다 증가 (패싯 캐시 무효화 판단용)
+    public long getVersion() {
+        return version.get();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return livePosts.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 판매중 + 게시물 패싯 조건 (excludeFacet으로 지정한 패싯 조건은 제외)
+    private BitSet matchPosts(Filter filter, String excludeFacet) {
+        BitSet result = (BitSet) sellingPosts.clone();
+        if (filter.getPostIds() != null) {
+            BitSet restricted = new BitSet();
+            for (Integer postId : filter.getPostIds()) {
+                Integer doc = postDocs.get(postId);
+                if (doc != null) {
+                    restricted.set(doc);
+                }
+            }
+            result.and(restricted);
+        }
+        if (filter.getCategoryPrefix() != null && !filter.getCategoryPrefix().isEmpty()) {
+            BitSet categories = new BitSet();
+            for (Map.Entry<String, BitSet> entry : categoryBits.entrySet()) {
+                if (entry.getKey().startsWith(filter.getCategoryPrefix())) {
+                    categories.or(entry.getValue());
+                }
+            }
+            result.and(categories);
+        }
+        if (!FACET_GENDER.equals(excludeFacet)) {
+            andUnion(result, genderBits, filter.getGenders());
+        }
+        if (!FACET_SEASON.equals(excludeFacet)) {
+            andUnion(result, seasonBits, filter.getSeasons());
+        }
+        return result;
+    }
+
+    // 컬러/사이즈/재고 조건을 모두 만족하는 옵션 (같은 옵션 행 기준, excludeFacet으로 지정한 패싯 조건은 제외)
+    private BitSet matchProducts(Filter filter, String excludeFacet) {
+        BitSet result = (BitSet) liveProducts.clone();
+        if (!FACET_COLOR.equals(excludeFacet)) {
+            andUnion(result, colorBits, lowerCase(filter.getColors()));
+        }
+        if (!FACET_SIZE.equals(excludeFacet)) {
+            andUnion(result, sizeBits, filter.getSizes());
+        }
+        if (filter.isInStockOnly()) {
+            result.and(inStockProducts);
+        }
+        return result;
+    }
+
+    // 옵션 비트맵 → 옵션이 하나 이상 포함된 게시물 비트맵
+    private BitSet postsOf(BitSet products) {
+        BitSet posts = new BitSet();
+        for (int doc = products.nextSetBit(0); doc >= 0; doc = products.nextSetBit(doc + 1)) {
+            posts.set(productDocPostDocs[doc]);
+        }
+        return posts;
+    }
+
+    private Map<String, Integer> countPostFacet(BitSet posts, Map<String, BitSet> bits) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map.Entry<String, BitSet> entry : bits.entrySet()) {
+            BitSet matched = (BitSet) entry.getValue().clone();
+            matched.and(posts);
+            counts.put(entry.getKey(), matched.cardinality());
+        }
+        return counts;
+    }
+
+    // 옵션 비트를 한 번 순회하면서 값별로 게시물 비트를 모은 뒤 개수 계산 (한 게시물은 값마다 1번만 셈)
+    private Map<String, Integer> countProductFacet(BitSet posts, BitSet products, Map<String, BitSet> bits, int valueIndex) {
+        Map<String, BitSet> postsByValue = new HashMap<>();
+        for (int doc = products.nextSetBit(0); doc >= 0; doc = products.nextSetBit(doc + 1)) {
+            int postDoc = productDocPostDocs[doc];
+            String[] values = productFacetValues.get(doc);
+            if (values == null || values[valueIndex] == null || !posts.get(postDoc)) continue;
+            postsByValue.computeIfAbsent(values[valueIndex], v -> new BitSet()).set(postDoc);
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        for (String value : bits.keySet()) {
+            BitSet matched = postsByValue.get(value);
+            counts.put(value, matched != null ? matched.cardinality() : 0);
+        }
+        return counts;
+    }
+
+    private Comparator<Integer> comparator(String sort, BitSet matchedProducts, BitSet matchedPosts) {
+        String key = sort != null ? sort : "newest";
+        Map<Integer, Integer> minPrices = isPriceSort(key) ? minPrices(matchedProducts, matchedPosts) : null;
+        Map<Integer, long[]> orderKeys = new HashMap<>();
+        return (a, b) -> Arrays.compare(
+                orderKeys.computeIfAbsent(a, doc -> orderKey(key, doc, minPrices)),
+                orderKeys.computeIfAbsent(b, doc -> orderKey(key, doc, minPrices)));
+    }
+
+    // 정렬 키 (오름차순 비교 = 목록 순서, 내림차순 항목은 부호를 바꿔서 저장, 마지막 항목은 항상 -postId)
+    private long[] orderKey(String sort, int doc, Map<Integer, Integer> minPrices) {
+        switch (sort) {
+            case "popular":
+                return new long[]{-docWishCounts[doc], -docCreatedAt[doc], -docPostIds[doc]};
+            case "price-low":
+                return new long[]{minPrices.getOrDefault(doc, Integer.MAX_VALUE), -docPostIds[doc]};
+            case "price-high":
+                return new long[]{-minPrices.getOrDefault(doc, -1), -docPostIds[doc]};
+            default:
+                return new long[]{-docCreatedAt[doc], -docPostIds[doc]};
+        }
+    }
+
+    // 커서 값 → 정렬 키
+    private long[] cursorOrderKey(String sort, long[] after) {
+        int expected = "popular".equals(sort) ? 3 : 2;
+        if (after.length != expected) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        long[] orderKey = new long[after.length];
+        for (int i = 0; i < after.length; i++) {
+            boolean ascending = i == 0 && "price-low".equals(sort);
+            orderKey[i] = ascending ? after[i] : -after[i];
+        }
+        return orderKey;
+    }
+
+    private boolean isPriceSort(String sort) {
+        return "price-low".equals(sort) || "price-high".equals(sort);
+    }
+
+    // 조건에 맞는 옵션 중 최저 실판매가 (가격 없는 게시물은 DB 정렬과 같이 마지막)
+    private Map<Integer, Integer> minPrices(BitSet matchedProducts, BitSet matchedPosts) {
+        Map<Integer, Integer> minPrices = new HashMap<>();
+        for (int doc = matchedProducts.nextSetBit(0); doc >= 0; doc = matchedProducts.nextSetBit(doc + 1)) {
+            int postDoc = productDocPostDocs[doc];
+            if (matchedPosts.get(postDoc) && productDocPrices[doc] != Integer.MAX_VALUE) {
+                minPrices.merge(postDoc, productDocPrices[doc], Math::min);
+            }
+        }
+        return minPrices;
+    }
+
+    private void putProduct(int postDoc, ProductEntry product) {
+        int doc = productDocs.computeIfAbsent(product.getProductId(), id -> allocateProductDoc());
+        clearProductFacets(doc);
+        productDocPostDocs[doc] = postDoc;
+        productDocPrices[doc] = product.getEffectivePrice() != null ? product.getEffectivePrice() : Integer.MAX_VALUE;
+        liveProducts.set(doc);
+        inStockProducts.set(doc, product.getStock() > 0);
+        String[] values = {product.getColor() != null ? product.getColor().toLowerCase(Locale.ROOT) : null, product.getSize()};
+        setBit(colorBits, values[0], doc);
+        setBit(sizeBits, values[1], doc);
+        productFacetValues.put(doc, values);
+    }
+
+    // 기존 옵션 중 유지되지 않는 옵션 제거
+    private void removeProducts(List<Integer> oldProductIds, List<Integer> keptProductIds) {
+        if (oldProductIds == null) return;
+        for (Integer productId : oldProductIds) {
+            if (keptProductIds.contains(productId)) continue;
+            Integer doc = productDocs.remove(productId);
+            if (doc == null) continue;
+            clearProductFacets(doc);
+            liveProducts.clear(doc);
+            inStockProducts.clear(doc);
+        }
+    }
+
+    private void clearPostFacets(int doc) {
+        sellingPosts.clear(doc);
+        String[] values = postFacetValues.remove(doc);
+        if (values == null) return;
+        clearBit(categoryBits, values[0], doc);
+        clearBit(genderBits, values[1], doc);
+        clearBit(seasonBits, values[2], doc);
+    }
+
+    private void clearProductFacets(int doc) {
+        String[] values = productFacetValues.remove(doc);
+        if (values == null) return;
+        clearBit(colorBits, values[0], doc);
+        clearBit(sizeBits, values[1], doc);
+    }
+
+    private int allocatePostDoc() {
+        if (postDocCount == docPostIds.length) {
+            int capacity = docPostIds.length * 2;
+            docPostIds = Arrays.copyOf(docPostIds, capacity);
+            docCreatedAt = Arrays.copyOf(docCreatedAt, capacity);
+            docWishCounts = Arrays.copyOf(docWishCounts, capacity);
+        }
+        return postDocCount++;
+    }
+
+    private int allocateProductDoc() {
+        if (productDocCount == productDocPostDocs.length) {
+            int capacity = productDocPostDocs.length * 2;
+            productDocPostDocs = Arrays.copyOf(productDocPostDocs, capacity);
+            productDocPrices = Arrays.copyOf(productDocPrices, capacity);
+        }
+        return productDocCount++;
+    }
+
+    private static void setBit(Map<String, BitSet> bits, String value, int doc) {
+        if (value == null) return;
+        bits.computeIfAbsent(value, v -> new BitSet()).set(doc);
+    }
+
+    private static void clearBit(Map<String, BitSet> bits, String value, int doc) {
+        if (value == null) return;
+        BitSet bitSet = bits.get(value);
+        if (bitSet != null) {
+            bitSet.clear(doc);
+            if (bitSet.isEmpty()) {
+                bits.remove(value);
+            }
+        }
+    }
+
+    // 값 목록의 합집합과 교집합 (값 목록이 비어 있으면 조건 없음)
+    private static void andUnion(BitSet result, Map<String, BitSet> bits, List<String> values) {
+        if (values == null || values.isEmpty()) return;
+        BitSet union = new BitSet();
+        for (String value : values) {
+            BitSet bitSet = bits.get(value);
+            if (bitSet != null) {
+                union.or(bitSet);
+            }
+        }
+        result.and(union);
+    }
+
+    private static List<String> lowerCase(List<String> values) {
+        if (values == null) return null;
+        List<String> lowered = new ArrayList<>();
+        for (String value : values) {
+            if (value != null) {
+                lowered.add(value.toLowerCase(Locale.ROOT));
+            }
+        }
+        return lowered;
+    }
+
+    // 필터 조건 (성별/계절은 DB 코드, 성별에 UNISEX를 포함할지는 호출하는 쪽에서 결정)
+    @Data
+    public static class Filter {
+        private String categoryPrefix;
+        private List<String> genders;
+        private List<String> seasons;
+        private List<String> colors;
+        private List<String> sizes;
+        private boolean inStockOnly;
+        private Collection<Integer> postIds;  // 검색어 등 인덱스 밖 조건으로 미리 걸러진 게시물 (null이면 제한 없음)
+    }
+
+    @Data
+    public static class PostEntry {
+        private int postId;
+        private String categoryName;
+        private String gender;
+        private String season;
+        private Integer status;
+        private long createdAt;
+        private int wishCount;
+    }
+
+    @Data
+    public static class ProductEntry {
+        private int productId;
+        private String color;
+        private String size;
+        private Integer effectivePrice;
+        private int stock;
+    }
+
+    @Data
+    public static class SearchResult {
+        private final List<Integer> postIds;
+        private final int totalCount;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductDAO;
+import com.example.backend.dao.ProductPostDAO;
+import com.example.backend.entity.Product;
+import com.example.backend.entity.ProductPost;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 상품 목록 필터 인덱스 관리 (기동 시 전체 적재, 이후 게시물/재고/찜 변경을 커밋 후 반영)
+// 적재 전이거나 catalog.index.enabled=false 이면 isReady()가 false → 목록 조회는 DB로 처리
+@Service
+public class CatalogIndexService {
+
+    @Value("${catalog.index.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    private ProductPostDAO productPostDAO;
+
+    @Autowired
+    private ProductDAO productDAO;
+
+    private volatile CatalogIndex index;
+
+    // 기동 시 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        CatalogIndex loaded = buildIndex(productPostDAO.findAll(), productDAO.findAll());
+        index = loaded;
+        System.out.println("상품 목록 인덱스 적재 완료: " + loaded.size() + "건");
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public CatalogIndex.SearchResult search(CatalogIndex.Filter filter, String sort, int offset, int limit) {
+        return index.search(filter, sort, offset, limit);
+    }
+
+    public CatalogIndex.SearchResult searchAfter(CatalogIndex.Filter filter, String sort, long[] after, int limit) {
+        return index.searchAfter(filter, sort, after, limit);
+    }
+
+    public List<Integer> retainMatching(CatalogIndex.Filter filter, List<Integer> postIds) {
+        return index.retainMatching(filter, postIds);
+    }
+
+    public int count(CatalogIndex.Filter filter) {
+        return index.count(filter);
+    }
+
+    public Map<String, Map<String, Integer>> facetCounts(CatalogIndex.Filter filter) {
+        return index.facetCounts(filter);
+    }
+
+    public long getVersion() {
+        return index.getVersion();
+    }
+
+    // 주어진 게시물/옵션만으로 인덱스 생성 (전체 적재, 인덱스 미사용 시 패싯 계산용)
+    public CatalogIndex buildIndex(List<ProductPost> posts, List<Product> products) {
+        Map<Integer, List<Product>> productsByPost = products.stream()
+                .collect(Collectors.groupingBy(Product::getPostId));
+        CatalogIndex built = new CatalogIndex();
+        for (ProductPost post : posts) {
+            built.putPost(toPostEntry(post), toProductEntries(productsByPost.getOrDefault(post.getPostId(), new ArrayList<>())));
+        }
+        return built;
+    }
+
+    // 게시물 등록/수정 후 호출 (엔티티 값은 지금 복사하고 인덱스 반영은 커밋 후)
+    public void indexPost(ProductPost post, List<Product> products) {
+        if (!isReady()) return;
+        CatalogIndex.PostEntry postEntry = toPostEntry(post);
+        List<CatalogIndex.ProductEntry> productEntries = toProductEntries(products);
+        afterCommit(() -> index.putPost(postEntry, productEntries));
+    }
+
+    // 게시물 삭제 후 호출
+    public void removePost(int postId) {
+        if (!isReady()) return;
+        afterCommit(() -> index.removePost(postId));
+    }
+
+    // 옵션 재고 변경 후 호출
+    public void updateStock(int productId, int stock) {
+        if (!isReady()) return;
+        afterCommit(() -> index.updateStock(productId, stock));
+    }
+
+    // 찜 추가/삭제 후 호출
+    public void updateWishCount(int postId, int wishCount) {
+        if (!isReady()) return;
+        afterCommit(() -> index.updateWishCount(postId, wishCount));
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private CatalogIndex.PostEntry toPostEntry(ProductPost post) {
+        CatalogIndex.PostEntry entry = new CatalogIndex.PostEntry();
+        entry.setPostId(post.getPostId());
+        entry.setCategoryName(post.getCategory() != null ? post.getCategory().getCategoryName() : null);
+        entry.setGender(post.getGender());
+        entry.setSeason(post.getSeason());
+        entry.setStatus(post.getStatus());
+        entry.setCreatedAt(post.getCreatedAt() != null ? post.getCreatedAt().getTime() : System.currentTimeMillis());
+        entry.setWishCount(post.getWishCount() != null ? post.getWishCount() : 0);
+        return entry;
+    }
+
+    private List<CatalogIndex.ProductEntry> toProductEntries(List<Product> products) {
+        List<CatalogIndex.ProductEntry> entries = new ArrayList<>();
+        if (products == null) return entries;
+        for (Product product : products) {
+            CatalogIndex.ProductEntry entry = new CatalogIndex.ProductEntry();
+            entry.setProductId(product.getProductId());
+            entry.setColor(product.getColor());
+            entry.setSize(product.getProductSize());
+            entry.setEffectivePrice(product.getDiscountPrice() != null ? product.getDiscountPrice() : product.getPrice());
+            entry.setStock(product.getStock() != null ? product.getStock() : 0);
+            entries.add(entry);
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductPostDAO;
+import com.example.backend.entity.ProductPost;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+// 홈 화면 인기/최신 상품 카드 캐시 (상위 N개 카드 목록을 미리 만들어 두고 메모리에서 응답)
+// TTL이 지났거나 찜/게시물 변경으로 무효화된 목록은 이전 목록으로 바로 응답하고 백그라운드에서 다시 조회 (stale-while-revalidate)
+// 기동 시 미리 적재하고, 캐시가 비어 있을 때(적재 실패 등)만 요청 스레드에서 조회
+@Service
+public class HomeFeedService {
+
+    public static final String SECTION_POPULAR = "popular";
+    public static final String SECTION_NEWEST = "newest";
+
+    private static final int STATUS_SELLING = 1;
+
+    @Value("${home.feed.size:4}")
+    private int feedSize;
+
+    @Value("${home.feed.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Autowired
+    private ProductPostDAO productPostDAO;
+
+    @Autowired
+    private ProductCardService productCardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicBoolean> refreshing = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "home-feed-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 지표
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    // 기동 시 미리 적재 (실패하면 첫 요청에서 다시 조회)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            load(SECTION_POPULAR);
+            load(SECTION_NEWEST);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 인기순 (찜수 기준)
+    public List<Map<String, Object>> getPopular() {
+        return get(SECTION_POPULAR);
+    }
+
+    // 최신순 (생성일 기준)
+    public List<Map<String, Object>> getNewest() {
+        return get(SECTION_NEWEST);
+    }
+
+    // 찜 변경 후 호출 (인기순만 무효화)
+    public void invalidatePopular() {
+        afterCommit(() -> markStale(SECTION_POPULAR));
+    }
+
+    // 게시물 등록/수정(판매 상태 포함)/삭제 후 호출
+    public void invalidateAll() {
+        afterCommit(() -> {
+            markStale(SECTION_POPULAR);
+            markStale(SECTION_NEWEST);
+        });
+    }
+
+    // 캐시 지표 (hit: 유효한 캐시 응답, staleHit: 이전 목록으로 응답 후 재조회, miss: 요청 스레드에서 조회)
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", feedSize);
+        stats.put("ttlSeconds", ttlSeconds);
+        stats.put("hits", hits.sum());
+        stats.put("staleHits", staleHits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("refreshes", refreshes.sum());
+        stats.put("refreshFailures", refreshFailures.sum());
+        Map<String, Object> sections = new LinkedHashMap<>();
+        entries.forEach((section, entry) -> {
+            Map<String, Object> sectionStats = new LinkedHashMap<>();
+            sectionStats.put("items", entry.items.size());
+            sectionStats.put("ageMillis", System.currentTimeMillis() - entry.loadedAt);
+            sectionStats.put("stale", entry.stale);
+            sections.put(section, sectionStats);
+        });
+        stats.put("sections", sections);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private List<Map<String, Object>> get(String section) {
+        Entry entry = entries.get(section);
+        if (entry == null) {
+            misses.increment();
+            return load(section).items;
+        }
+        if (entry.stale || System.currentTimeMillis() - entry.loadedAt >= ttlSeconds * 1000) {
+            staleHits.increment();
+            refreshAsync(section);
+        } else {
+            hits.increment();
+        }
+        return entry.items;
+    }
+
+    // 섹션당 동시에 한 번만 재조회
+    private void refreshAsync(String section) {
+        AtomicBoolean flag = refreshing.computeIfAbsent(section, key -> new AtomicBoolean());
+        if (!flag.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                load(section);
+            } catch (RuntimeException e) {
+                refreshFailures.increment();
+                e.printStackTrace();
+            } finally {
+                flag.set(false);
+            }
+        });
+    }
+
+    private Entry load(String section) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        IntFunction<List<ProductPost>> query = SECTION_POPULAR.equals(section)
+                ? productPostDAO::findAllOrderByPopularity
+                : productPostDAO::findAllOrderByCreatedAtDesc;
+        // 조회 중 무효화되면 새 항목도 stale로 남겨 다음 요청에서 다시 조회
+        Entry previous = entries.get(section);
+        long invalidatedAt = previous != null ? previous.invalidatedAt : 0;
+        List<Map<String, Object>> items = template.execute(status ->
+                productCardService.buildCards(query.apply(feedSize)).stream().map(card -> {
+                    Map<String, Object> item = productCardService.toBaseItem(card);
+                    item.put("status", card.getStatus() == null || card.getStatus() == STATUS_SELLING ? "SELLING" : "SOLD_OUT");
+                    return Collections.unmodifiableMap(item);
+                }).collect(Collectors.toList()));
+        Entry loaded = new Entry(Collections.unmodifiableList(items), System.currentTimeMillis());
+        refreshes.increment();
+        entries.compute(section, (key, current) -> {
+            if (current != null && current.invalidatedAt != invalidatedAt) {
+                loaded.stale = true;
+                loaded.invalidatedAt = current.invalidatedAt;
+            }
+            return loaded;
+        });
+        return loaded;
+    }
+
+    private void markStale(String section) {
+        entries.computeIfPresent(section, (key, entry) -> {
+            Entry stale = new Entry(entry.items, entry.loadedAt);
+            stale.stale = true;
+            stale.invalidatedAt = System.nanoTime();
+            return stale;
+        });
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static class Entry {
+        private final List<Map<String, Object>> items;
+        private final long loadedAt;
+        private volatile boolean stale;
+        private volatile long invalidatedAt;
+
+        private Entry(List<Map<String, Object>> items, long loadedAt) {
+            this.items = items;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
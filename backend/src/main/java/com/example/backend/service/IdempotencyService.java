@@ -0,0 +1,200 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.IdempotencyKey;
+import com.example.backend.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 멱등 처리 (같은 키의 재시도는 처음 처리한 응답을 그대로 반환, 결제 승인/주문 생성 중복 방지)
+// 서버 안에서는 키별 실행을 하나만 두고 동시에 들어온 요청은 그 결과를 기다림, 완료된 응답은 메모리에 잠시 보관
+// 다른 서버/재기동 후 재시도는 DB 기록(IDEMPOTENCYKEY, 키가 PK)으로 판단, 실패한 요청은 기록을 지워 같은 키로 다시 시도 가능
+@Service
+public class IdempotencyService {
+
+    private static final String STATUS_COMPLETED = "COM";
+    private static final int MAX_KEY_LENGTH = 150;
+
+    // 완료된 응답 메모리 보관 시간 / 최대 개수 (넘으면 DB에서만 조회)
+    @Value("${idempotency.memory-ttl-ms:600000}")
+    private long memoryTtlMillis;
+
+    @Value("${idempotency.memory-max-size:10000}")
+    private int memoryMaxSize;
+
+    // 같은 키 요청이 처음 요청의 결과를 기다리는 최대 시간
+    @Value("${idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMillis;
+
+    // DB 기록 보관 시간, 처리 중으로 남은 기록(서버 중단 등)을 지우기까지의 시간
+    @Value("${idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${idempotency.in-progress-timeout-ms:120000}")
+    private long inProgressTimeoutMillis;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<String, Execution> executions = new ConcurrentHashMap<>();
+
+    // key로 한 번만 실행 (userId/요청 본문이 처음 요청과 다르면 거부)
+    public Map<String, Object> execute(String key, int userId, Object request, Supplier<Map<String, Object>> action) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등 키가 너무 깁니다.");
+        }
+        String requestHash = hash(request);
+        Execution mine = new Execution(userId, requestHash);
+        while (true) {
+            Execution existing = executions.putIfAbsent(key, mine);
+            if (existing == null) {
+                break;
+            }
+            if (existing.isExpired(System.currentTimeMillis())) {
+                executions.remove(key, existing);
+                continue;
+            }
+            verify(existing.userId, existing.requestHash, userId, requestHash);
+            return await(existing);
+        }
+
+        try {
+            Map<String, Object> response = run(key, userId, requestHash, action);
+            mine.expiresAt = System.currentTimeMillis() + memoryTtlMillis;
+            mine.result.complete(response);
+            if (executions.size() > memoryMaxSize) {
+                executions.remove(key, mine);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            executions.remove(key, mine);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 메모리에서 만료된 응답 정리 + DB에서 보관 기간이 지난 기록 삭제
+    @Scheduled(fixedDelayString = "${idempotency.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        executions.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+        try {
+            idempotencyKeyRepository.deleteExpired(new Timestamp(now - TimeUnit.HOURS.toMillis(retentionHours)),
+                    new Timestamp(now - inProgressTimeoutMillis));
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // DB 기록 확인 후 실행 (완료 기록이 있으면 저장된 응답, 다른 서버에서 처리 중이면 예외)
+    private Map<String, Object> run(String key, int userId, String requestHash, Supplier<Map<String, Object>> action) {
+        IdempotencyKey record = idempotencyKeyRepository.findById(key).orElse(null);
+        if (record != null) {
+            verify(record.getUserId(), record.getRequestHash(), userId, requestHash);
+            if (STATUS_COMPLETED.equals(record.getStatus())) {
+                return readResponse(record.getResponseBody());
+            }
+            throw new IllegalStateException("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            idempotencyKeyRepository.insertInProgress(key, userId, requestHash);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Map<String, Object> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyKeyRepository.deleteById(key);
+            throw e;
+        }
+        try {
+            idempotencyKeyRepository.complete(key, objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 응답은 이미 만들어졌으므로 그대로 반환 (기록은 처리 중으로 남았다가 정리됨)
+            e.printStackTrace();
+        }
+        return response;
+    }
+
+    private Map<String, Object> await(Execution execution) {
+        try {
+            return execution.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("요청 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 처리가 중단되었습니다.");
+        }
+    }
+
+    private void verify(int expectedUserId, String expectedHash, int userId, String requestHash) {
+        if (expectedUserId != userId || !expectedHash.equals(requestHash)) {
+            throw new IllegalStateException("이미 다른 요청에 사용된 멱등 키입니다.");
+        }
+    }
+
+    private Map<String, Object> readResponse(String body) {
+        try {
+            return objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 요청 본문 JSON의 SHA-256
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] json = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(digest.digest(json));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("요청을 확인할 수 없습니다.", e);
+        }
+    }
+
+    // 키별 실행 (expiresAt: 0이면 실행 중, 그 외에는 완료된 응답을 메모리에 둘 시각)
+    private static class Execution {
+        private final int userId;
+        private final String requestHash;
+        private final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        private Execution(int userId, String requestHash) {
+            this.userId = userId;
+            this.requestHash = requestHash;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != 0 && expiresAt <= now;
+        }
+    }
+}
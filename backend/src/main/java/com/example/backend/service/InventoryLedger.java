@@ -0,0 +1,251 @@
+package com.example.backend.service;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+
+// 인기 상품 옵션(SKU) 재고 장부 (추적 중인 SKU는 DB 대신 메모리에서 재고 예약/복구를 처리)
+// SKU별 상태는 상품 ID로 나눈 잠금(stripe) 안에서만 변경, 여러 SKU는 stripe 번호 순으로 잠가 교착 방지
+// available: 새 예약에 쓸 수 있는 수량, inflight: 커밋 전 예약 수량, pending: 커밋됐지만 DB에 아직 반영하지 않은 차감량(복구는 음수)
+// 추적하지 않는 SKU는 DB 경로로 처리하며, 진행 중인 DB 경로 트랜잭션이 있으면 추적을 시작하지 않음 (DB 재고를 읽는 시점에 커밋 전 차감이 없도록)
+public class InventoryLedger {
+
+    private final ReentrantLock[] stripes;
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    // 추적하지 않는 SKU의 진행 중인 DB 경로 트랜잭션 수
+    private final Map<Integer, Integer> dbInflight = new ConcurrentHashMap<>();
+
+    public InventoryLedger(int stripeCount) {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // 재고 차감 예약 (추적 SKU는 모두 예약되거나 하나도 예약되지 않음, 나머지 SKU는 DB 경로로 넘김)
+    public StockChange reserve(Map<Integer, Integer> quantities) {
+        return begin(quantities, false);
+    }
+
+    // 재고 복구 시작 (추적 SKU는 커밋 후 available에 더함, 나머지 SKU는 DB 경로로 넘김)
+    public StockChange restock(Map<Integer, Integer> quantities) {
+        return begin(quantities, true);
+    }
+
+    // 트랜잭션 종료 후 호출 (committed: 커밋 여부)
+    public void complete(StockChange change, boolean committed) {
+        if (!change.getFailed().isEmpty()) {
+            return;
+        }
+        Set<Integer> productIds = new HashSet<>(change.getLedgerQuantities().keySet());
+        productIds.addAll(change.getDbQuantities().keySet());
+        List<ReentrantLock> locks = lock(productIds);
+        try {
+            change.getLedgerQuantities().forEach((productId, quantity) -> {
+                Entry entry = entries.get(productId);
+                entry.holds--;
+                if (change.isRestock()) {
+                    if (committed) {
+                        entry.available += quantity;
+                        entry.pending -= quantity;
+                    }
+                } else {
+                    entry.inflight -= quantity;
+                    if (committed) {
+                        entry.pending += quantity;
+                    } else {
+                        entry.available += quantity;
+                    }
+                }
+            });
+            change.getDbQuantities().keySet().forEach(productId ->
+                    dbInflight.computeIfPresent(productId, (key, count) -> count > 1 ? count - 1 : null));
+        } finally {
+            unlock(locks);
+        }
+    }
+
+    public boolean isTracked(int productId) {
+        return entries.containsKey(productId);
+    }
+
+    // 예약 가능한 수량 (추적하지 않으면 null)
+    public Integer available(int productId) {
+        ReentrantLock lock = stripe(productId);
+        lock.lock();
+        try {
+            Entry entry = entries.get(productId);
+            return entry != null ? entry.available : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 추적 시작 (진행 중인 DB 경로 트랜잭션이 없을 때만, 잠금을 쥔 채로 loader로 DB 재고를 읽음)
+    public boolean track(int productId, IntUnaryOperator loader) {
+        ReentrantLock lock = stripe(productId);
+        lock.lock();
+        try {
+            if (entries.containsKey(productId) || dbInflight.containsKey(productId)) {
+                return false;
+            }
+            Entry entry = new Entry();
+            entry.available = loader.applyAsInt(productId);
+            entries.put(productId, entry);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 추적 종료 (진행 중인 예약/복구와 DB 미반영분이 없을 때만)
+    public boolean untrack(int productId) {
+        ReentrantLock lock = stripe(productId);
+        lock.lock();
+        try {
+            Entry entry = entries.get(productId);
+            if (entry == null || entry.holds > 0 || entry.pending != 0) {
+                return false;
+            }
+            entries.remove(productId);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Set<Integer> trackedIds() {
+        return new HashSet<>(entries.keySet());
+    }
+
+    // DB에 반영할 차감량을 꺼내고 0으로 (반영 실패분은 returnPending으로 되돌림)
+    public Map<Integer, Integer> drainPending() {
+        Map<Integer, Integer> deltas = new TreeMap<>();
+        for (Integer productId : entries.keySet()) {
+            ReentrantLock lock = stripe(productId);
+            lock.lock();
+            try {
+                Entry entry = entries.get(productId);
+                if (entry != null && entry.pending != 0) {
+                    deltas.put(productId, entry.pending);
+                    entry.pending = 0;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return deltas;
+    }
+
+    public void returnPending(Map<Integer, Integer> deltas) {
+        deltas.forEach((productId, delta) -> {
+            ReentrantLock lock = stripe(productId);
+            lock.lock();
+            try {
+                Entry entry = entries.get(productId);
+                if (entry != null) {
+                    entry.pending += delta;
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    // DB 재고 기준으로 available 보정 (available = DB 재고 - DB 미반영 차감량 - 커밋 전 예약량)
+    // DB 재고를 읽은 뒤 pending 반영(flush)이 끼어들지 않도록 호출하는 쪽에서 순서를 보장
+    public void reconcile(int productId, int dbStock) {
+        ReentrantLock lock = stripe(productId);
+        lock.lock();
+        try {
+            Entry entry = entries.get(productId);
+            if (entry != null) {
+                entry.available = dbStock - entry.pending - entry.inflight;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private StockChange begin(Map<Integer, Integer> quantities, boolean restock) {
+        List<ReentrantLock> locks = lock(quantities.keySet());
+        try {
+            Map<Integer, Integer> ledgerQuantities = new TreeMap<>();
+            Map<Integer, Integer> dbQuantities = new TreeMap<>();
+            quantities.forEach((productId, quantity) ->
+                    (entries.containsKey(productId) ? ledgerQuantities : dbQuantities).put(productId, quantity));
+            if (!restock) {
+                for (Map.Entry<Integer, Integer> ledgerQuantity : ledgerQuantities.entrySet()) {
+                    if (entries.get(ledgerQuantity.getKey()).available < ledgerQuantity.getValue()) {
+                        return new StockChange(restock, Collections.emptyMap(), Collections.emptyMap(),
+                                List.of(ledgerQuantity.getKey()));
+                    }
+                }
+            }
+            ledgerQuantities.forEach((productId, quantity) -> {
+                Entry entry = entries.get(productId);
+                entry.holds++;
+                if (!restock) {
+                    entry.available -= quantity;
+                    entry.inflight += quantity;
+                }
+            });
+            dbQuantities.keySet().forEach(productId -> dbInflight.merge(productId, 1, Integer::sum));
+            return new StockChange(restock, ledgerQuantities, dbQuantities, Collections.emptyList());
+        } finally {
+            unlock(locks);
+        }
+    }
+
+    private ReentrantLock stripe(int productId) {
+        return stripes[Math.floorMod(productId, stripes.length)];
+    }
+
+    // stripe 번호 오름차순으로 잠금
+    private List<ReentrantLock> lock(Set<Integer> productIds) {
+        Set<Integer> indexes = new TreeSet<>();
+        for (Integer productId : productIds) {
+            indexes.add(Math.floorMod(productId, stripes.length));
+        }
+        List<ReentrantLock> locks = new ArrayList<>();
+        for (Integer index : indexes) {
+            stripes[index].lock();
+            locks.add(stripes[index]);
+        }
+        return locks;
+    }
+
+    private void unlock(List<ReentrantLock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    // stripe 잠금 안에서만 읽고 씀
+    private static class Entry {
+        private int available;
+        private int inflight;
+        private int pending;
+        // 진행 중인 예약/복구 트랜잭션 수
+        private int holds;
+    }
+
+    // 재고 예약/복구 한 건 (ledgerQuantities: 장부에서 처리한 SKU, dbQuantities: DB에서 처리할 SKU, failed: 재고가 부족한 SKU)
+    @Data
+    public static class StockChange {
+        private final boolean restock;
+        private final Map<Integer, Integer> ledgerQuantities;
+        private final Map<Integer, Integer> dbQuantities;
+        private final List<Integer> failed;
+    }
+}
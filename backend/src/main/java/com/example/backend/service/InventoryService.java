@@ -0,0 +1,194 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductDAO;
+import com.example.backend.entity.Product;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 인기 상품 재고 관리 (주문이 몰리는 SKU는 InventoryLedger에서 메모리로 예약하고, 커밋된 차감량을 주기적으로 DB에 일괄 반영)
+// 집계 주기마다 SKU별 주문 시도 수가 hot-threshold 이상이면 추적 시작, 아래로 떨어지면 추적 종료 (나머지 SKU는 DB 조건부 UPDATE)
+// 같은 주기로 추적 중인 SKU의 메모리 재고를 PRODUCT.STOCK 기준으로 보정 (판매자 재고 수정 등 반영)
+// 장부는 서버 메모리에 있어 서버가 여러 대면 각자 재고를 내줘 초과 판매될 수 있으므로 단일 서버에서만 켬 (기본 꺼짐)
+@Service
+public class InventoryService {
+
+    private static final int LOCK_STRIPES = 64;
+
+    @Value("${inventory.ledger.enabled:false}")
+    private boolean enabled;
+
+    @Value("${inventory.ledger.hot-threshold:20}")
+    private int hotThreshold;
+
+    // DB 재고 부족으로 차감 반영이 이 횟수만큼 실패하면 남은 재고까지만 차감하고 오류로 알림
+    @Value("${inventory.ledger.max-flush-retries:5}")
+    private int maxFlushRetries;
+
+    @Autowired
+    private ProductDAO productDAO;
+
+    @Autowired
+    private CatalogIndexService catalogIndexService;
+
+    @Autowired
+    private ProductDetailCacheService productDetailCacheService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final InventoryLedger ledger = new InventoryLedger(LOCK_STRIPES);
+    // 집계 주기 동안의 SKU별 주문 시도 수
+    private final Map<Integer, LongAdder> demand = new ConcurrentHashMap<>();
+    // SKU별 연속 반영 실패 횟수 (flush 잠금 안에서만 사용)
+    private final Map<Integer, Integer> flushFailures = new HashMap<>();
+
+    // 재고 예약 (추적 SKU는 메모리에서 처리하고 트랜잭션 종료 시 확정/취소, 나머지는 dbQuantities로 반환)
+    public InventoryLedger.StockChange reserve(Map<Integer, Integer> quantities) {
+        if (enabled) {
+            quantities.keySet().forEach(productId -> demand.computeIfAbsent(productId, key -> new LongAdder()).increment());
+        }
+        InventoryLedger.StockChange change = ledger.reserve(quantities);
+        if (change.getFailed().isEmpty()) {
+            completeAfterTransaction(change);
+        }
+        return change;
+    }
+
+    // 재고 복구 (추적 SKU는 커밋 후 메모리에 반영, 나머지는 dbQuantities로 반환)
+    public InventoryLedger.StockChange restock(Map<Integer, Integer> quantities) {
+        InventoryLedger.StockChange change = ledger.restock(quantities);
+        completeAfterTransaction(change);
+        return change;
+    }
+
+    // 주문 가능한 재고 (추적 중이면 메모리 재고, 아니면 상품 재고)
+    public int availableStock(Product product) {
+        Integer available = ledger.available(product.getProductId());
+        if (available != null) {
+            return available;
+        }
+        return product.getStock() != null ? product.getStock() : 0;
+    }
+
+    // 커밋된 차감량을 DB에 일괄 반영 (한 트랜잭션으로 실행, 실패하면 다음 주기에 다시 시도)
+    // DB 재고가 차감량보다 적으면(판매자가 재고를 줄인 경우 등) 보정 후 다시 시도하고, max-flush-retries번 실패하면
+    // 이미 커밋된 주문이므로 재고를 0까지만 차감하고 예외를 던져 스케줄러 오류 로그로 남김
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Integer, Integer> deltas = ledger.drainPending();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Integer> failed;
+        try {
+            failed = new TransactionTemplate(transactionManager).execute(status -> productDAO.decreaseStocks(deltas));
+        } catch (RuntimeException e) {
+            ledger.returnPending(deltas);
+            e.printStackTrace();
+            return;
+        }
+
+        Map<Integer, Integer> retry = new TreeMap<>();
+        Map<Integer, Integer> oversold = new TreeMap<>();
+        for (Integer productId : deltas.keySet()) {
+            if (!failed.contains(productId)) {
+                flushFailures.remove(productId);
+            } else if (flushFailures.merge(productId, 1, Integer::sum) >= maxFlushRetries) {
+                oversold.put(productId, deltas.get(productId));
+            } else {
+                retry.put(productId, deltas.get(productId));
+            }
+        }
+        ledger.returnPending(retry);
+        if (!oversold.isEmpty()) {
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> productDAO.decreaseStocksToZero(oversold));
+            } catch (RuntimeException e) {
+                ledger.returnPending(oversold);
+                throw e;
+            }
+            oversold.keySet().forEach(flushFailures::remove);
+            productDAO.findStocks(new ArrayList<>(oversold.keySet())).forEach(ledger::reconcile);
+        }
+        refreshViews(new ArrayList<>(deltas.keySet()));
+        if (!oversold.isEmpty()) {
+            throw new IllegalStateException("재고 반영 실패 (DB 재고 부족, 재고를 0으로 맞춤, 상품 ID별 차감량): " + oversold);
+        }
+    }
+
+    // 추적 중인 SKU 보정 + 주문 시도 수에 따라 추적 시작/종료
+    @Scheduled(fixedDelayString = "${inventory.ledger.reconcile-interval-ms:10000}")
+    public synchronized void reconcile() {
+        Set<Integer> tracked = ledger.trackedIds();
+        if (!tracked.isEmpty()) {
+            productDAO.findStocks(new ArrayList<>(tracked)).forEach(ledger::reconcile);
+        }
+
+        Map<Integer, Long> counts = new HashMap<>();
+        demand.forEach((productId, adder) -> counts.put(productId, adder.sumThenReset()));
+        demand.entrySet().removeIf(entry -> counts.getOrDefault(entry.getKey(), 0L) == 0);
+
+        for (Integer productId : tracked) {
+            if (!enabled || counts.getOrDefault(productId, 0L) < hotThreshold) {
+                ledger.untrack(productId);
+            }
+        }
+        if (!enabled) {
+            return;
+        }
+        counts.forEach((productId, count) -> {
+            if (count >= hotThreshold && !tracked.contains(productId)) {
+                ledger.track(productId, id -> productDAO.findStocks(List.of(id)).getOrDefault(id, 0));
+            }
+        });
+    }
+
+    // 종료 전 남은 차감량 반영
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // DB에 반영된 재고를 목록 필터 인덱스 / 상품 상세 캐시에 반영
+    private void refreshViews(List<Integer> productIds) {
+        List<Product> products = productDAO.findAllById(productIds);
+        for (Product product : products) {
+            catalogIndexService.updateStock(product.getProductId(), product.getStock() != null ? product.getStock() : 0);
+        }
+        products.stream().map(Product::getPostId).distinct().forEach(productDetailCacheService::evict);
+    }
+
+    // 트랜잭션 안이면 종료 후 확정(커밋)/취소(롤백)
+    private void completeAfterTransaction(InventoryLedger.StockChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ledger.complete(change, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ledger.complete(change, status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시물 대표 이미지 캐시 (주문/환불/판매자 주문 목록 등 여러 게시물의 대표 이미지를 한 번에 조회할 때 사용)
+// 캐시에 없는 게시물만 모아서 IN 쿼리 한 번으로 채우고, 게시물 수정/삭제 시 커밋 후 무효화 (세대 번호로 무효화 중 조회한 결과는 버림)
+@Service
+public class MainImageCacheService {
+
+    // 대표 이미지가 없는 게시물 (ConcurrentHashMap은 null 값을 저장할 수 없음)
+    private static final String NONE = "";
+
+    @Value("${product.main-image.cache.max-size:20000}")
+    private int maxSize;
+
+    @Autowired
+    private ProductCardService productCardService;
+
+    private final Map<Integer, String> entries = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    // 게시물별 대표 이미지 URL (이미지가 없는 게시물은 결과에 없음)
+    public Map<Integer, String> getMainImageUrls(Collection<Integer> postIds) {
+        Map<Integer, String> urls = new HashMap<>();
+        Set<Integer> missing = new LinkedHashSet<>();
+        for (Integer postId : postIds) {
+            String url = entries.get(postId);
+            if (url == null) {
+                missing.add(postId);
+            } else if (!NONE.equals(url)) {
+                urls.put(postId, url);
+            }
+        }
+        if (missing.isEmpty()) {
+            return urls;
+        }
+
+        List<Integer> missingIds = new ArrayList<>(missing);
+
+        Map<Integer, Long> loadGenerations = new HashMap<>();
+        missingIds.forEach(postId -> loadGenerations.put(postId, generations.get(postId)));
+        Map<Integer, String> loaded = productCardService.findMainImageUrls(missingIds);
+        if (entries.size() + missingIds.size() > maxSize) {
+            evictSome(missingIds.size());
+        }
+        for (Integer postId : missingIds) {
+            String url = loaded.get(postId);
+            if (url != null) {
+                urls.put(postId, url);
+            }
+            entries.compute(postId, (key, current) -> {
+                if (current != null) return current;
+                return Objects.equals(generations.get(postId), loadGenerations.get(postId)) ? (url != null ? url : NONE) : null;
+            });
+        }
+        return urls;
+    }
+
+    // 게시물 수정/삭제 후 호출
+    public void evict(int postId) {
+        afterCommit(() -> {
+            generations.put(postId, generationSequence.incrementAndGet());
+            entries.remove(postId);
+        });
+    }
+
+    // 최대 개수를 넘으면 임의의 항목 제거 (최대 개수의 1/10 또는 새로 넣을 개수 중 큰 쪽)
+    private void evictSome(int incoming) {
+        int toRemove = Math.max(incoming, Math.max(1, maxSize / 10));
+        Iterator<Integer> iterator = entries.keySet().iterator();
+        while (iterator.hasNext() && toRemove-- > 0) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.backend.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 주문번호 생성기 (ORD + 주문일자 + "-" + Snowflake 방식 64비트 ID)
+// ID = 기준 시각 이후 ms(41비트) | 노드 ID(10비트) | 같은 ms 안의 순번(12비트), 서버마다 노드 ID를 다르게 두면 서버 간에도 겹치지 않음
+// 마지막으로 발급한 (ms, 순번)을 AtomicLong 하나에 두고 CAS로 갱신 (잠금 없음)
+// 같은 ms에 순번 4096개를 다 쓰거나 시스템 시각이 뒤로 가면 마지막 값에서 이어서 발급하므로 항상 증가
+public class OrderNumberGenerator {
+
+    // 2024-01-01T00:00:00Z
+    static final long EPOCH_MILLIS = 1704067200000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final String PREFIX = "ORD";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final long nodeId;
+    private final ZoneId zone;
+    // (기준 시각 이후 ms << SEQUENCE_BITS) | 순번
+    private final AtomicLong last = new AtomicLong();
+    // 날짜가 바뀔 때만 다시 만드는 "ORDyyyyMMdd-" 접두어
+    private volatile DatePrefix datePrefix;
+
+    public OrderNumberGenerator(long nodeId, ZoneId zone) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("주문번호 노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = nodeId;
+        this.zone = zone;
+    }
+
+    public long nextId() {
+        while (true) {
+            long previous = last.get();
+            long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long next = Math.max(previous + 1, now);
+            if (last.compareAndSet(previous, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    // 예: ORD20261018-370043309260800017
+    public String nextOrderNumber() {
+        long id = nextId();
+        long millis = (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+        return prefix(millis) + id;
+    }
+
+    private String prefix(long millis) {
+        DatePrefix current = datePrefix;
+        if (current == null || millis < current.startMillis || millis >= current.endMillis) {
+            LocalDate date = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+            current = new DatePrefix(PREFIX + date.format(DATE_FORMAT) + "-",
+                    date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+            datePrefix = current;
+        }
+        return current.prefix;
+    }
+
+    private static class DatePrefix {
+        private final String prefix;
+        private final long startMillis;
+        private final long endMillis;
+
+        private DatePrefix(String prefix, long startMillis, long endMillis) {
+            this.prefix = prefix;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+    }
+}
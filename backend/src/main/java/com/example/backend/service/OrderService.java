@@ -1,22 +1,33 @@
 package com.example.backend.service;
 
 import com.example.backend.dao.CartDAO;
+import com.example.backend.dao.OrderItemDAO;
 import com.example.backend.dao.ProductDAO;
-import com.example.backend.dao.ProductImageDAO;
 import com.example.backend.dao.ReviewDAO;
 import com.example.backend.dao.UserDAO;
 import com.example.backend.dto.OrderCreateRequest;
+import com.example.backend.dto.PageCursor;
 import com.example.backend.entity.*;
 import com.example.backend.repository.OrderItemRepository;
+import com.example.backend.repository.OrderItemSpecification;
 import com.example.backend.repository.OrderRepository;
 import com.example.backend.repository.RefundRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.Data;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,6 +51,22 @@ public class OrderService {
     private static final String ORDERITEM_STATUS_CANCELLED = "can";        // 취소
     private static final String ORDERITEM_STATUS_REFUNDED = "ref";         // 환불
     private static final String ORDERITEM_STATUS_LEGACY_CONFIRMED = "con"; // 기존 데이터 호환
+    
+    // 커서 페이징 상수
+    private static final String CURSOR_SORT_LATEST = "latest";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // 판매자 주문 필터/건수용 상태 (주문상세 상태가 아닌 처리 대기 환불/취소 요청)
+    private static final String STATUS_REFUND_REQUESTED = "REFUND_REQUESTED";
+    // 판매자 일괄 상태 변경
+    private static final Set<String> BULK_TARGET_STATUSES = Set.of("DELIVERING", "DELIVERED", "CONFIRMED");
+    private static final int MAX_BULK_ITEMS = 500;
+
+    @Value("${seller.order-counts.cache-ttl-ms:5000}")
+    private long orderCountsTtlMillis;
+
+    // 판매자별 상태 건수 캐시 (만료 시각이 지나면 다시 집계)
+    private final Map<Integer, SellerOrderCounts> sellerOrderCounts = new ConcurrentHashMap<>();
 
     @Autowired
     private OrderRepository orderRepository;
@@ -54,7 +81,7 @@ public class OrderService {
     private ProductDAO productDAO;
 
     @Autowired
-    private ProductImageDAO productImageDAO;
+    private MainImageCacheService mainImageCacheService;
 
     @Autowired
     private OrderItemRepository orderItemRepository;
@@ -65,18 +92,134 @@ public class OrderService {
     @Autowired
     private RefundRepository refundRepository;
 
+    @Autowired
+    private CatalogIndexService catalogIndexService;
+
+    @Autowired
+    private ProductDetailCacheService productDetailCacheService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Autowired
+    private SellerSalesService sellerSalesService;
+
+    @Autowired
+    private OrderItemDAO orderItemDAO;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Transactional
     public Map<String, Object> createOrder(OrderCreateRequest request) {
+        return createOrder(request, null, true);
+    }
+
+    // 결제 승인 후 주문 생성 (heldQuantities: 결제 전에 선점한 상품 ID별 재고, 주문 항목과 같으면 다시 차감하지 않음)
+    // 이미 결제된 주문이므로 대기열 입장은 재고 선점 시점에만 확인
+    @Transactional
+    public Map<String, Object> createOrder(OrderCreateRequest request, Map<Integer, Integer> heldQuantities) {
+        return createOrder(request, heldQuantities, false);
+    }
+
+    private Map<String, Object> createOrder(OrderCreateRequest request, Map<Integer, Integer> heldQuantities,
+                                            boolean admissionRequired) {
         User user = userDAO.findById(request.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
+        OrderDraft draft = buildOrderDraft(request);
+        List<OrderItem> orderItems = draft.getOrderItems();
+        int productTotal = draft.getProductTotal();
+        List<Cart> cartsToDelete = draft.getCarts();
+        if (admissionRequired) {
+            waitingRoomService.checkAdmission(stockQuantities(orderItems).keySet(), request.getUserId(), request.getAdmissionTokens());
+        }
+
+        // 재고 차감 (상품별 조건부 UPDATE 배치, 하나라도 부족하면 주문 전체 실패)
+        // 선점한 재고와 주문 항목이 다르면 선점분을 돌려놓고 주문 항목 기준으로 다시 차감
+        if (heldQuantities == null || !heldQuantities.equals(stockQuantities(orderItems))) {
+            if (heldQuantities != null) {
+                releaseStock(heldQuantities);
+            }
+            decreaseStock(orderItems);
+        }
+
+        int deliveryFee = deliveryFee(productTotal);
+        int finalPrice = productTotal + deliveryFee;
+
+        Order order = new Order();
+        order.setUser(user);
+        order.setOrderNumber(orderNumberGenerator.nextOrderNumber());
+        order.setTotalPrice(productTotal);
+        order.setDiscountAmount(0);
+        order.setDeliveryFee(deliveryFee);
+        order.setFinalPrice(finalPrice);
+        order.setOrderStatus("PAID");  // 결제 완료 시 즉시 PAID로 설정
+        order.setPaidCount(orderItems.size());  // 주문상세는 모두 결제완료로 생성
+        order.setRecipientName(request.getRecipientName());
+        order.setRecipientPhone(request.getRecipientPhone());
+        order.setZipcode(request.getZipcode());
+        order.setAddress(request.getAddress());
+        order.setDetailAddress(request.getDetailAddress());
+        order.setDeliveryMemo(request.getDeliveryMemo());
+        order.setOrderItems(orderItems);
+
+        for (OrderItem item : orderItems) {
+            item.setOrder(order);
+        }
+
+        // INSERT는 커밋 시 한 번에 실행 (ID는 시퀀스, 생성/수정 일시는 저장 시 애플리케이션 시각으로 채워짐)
+        Order savedOrder = orderRepository.save(order);
+        sellerSalesService.recordCreated(orderItems);
+
+        // 장바구니에서 주문한 경우 장바구니 삭제
+        if (!cartsToDelete.isEmpty()) {
+            cartDAO.deleteAll(cartsToDelete);
+        }
+
+        // 대기열 입장 토큰 반납 (커밋 후 다음 순번 입장)
+        waitingRoomService.complete(request.getAdmissionTokens());
+
+        // 저장한 엔티티로 바로 응답 (다시 조회하지 않음, 새 주문이라 리뷰 조회 생략)
+        return buildOrderResponse(savedOrder, request.getPaymentMethod(), enrich(orderItems, false));
+    }
+
+    // 결제 전 재고 선점 (주문 항목 수량만큼 재고 차감, 상품 ID별 수량과 결제 예정 금액 반환)
+    @Transactional
+    public StockReservation reserveStock(OrderCreateRequest request) {
+        userDAO.findById(request.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        OrderDraft draft = buildOrderDraft(request);
+        waitingRoomService.checkAdmission(stockQuantities(draft.getOrderItems()).keySet(), request.getUserId(), request.getAdmissionTokens());
+        decreaseStock(draft.getOrderItems());
+        return new StockReservation(stockQuantities(draft.getOrderItems()),
+                draft.getProductTotal() + deliveryFee(draft.getProductTotal()));
+    }
+
+    // 선점한 재고 복구 (상품 ID별 수량)
+    @Transactional
+    public void releaseStock(Map<Integer, Integer> quantities) {
+        List<Integer> postIds = productDAO.findAllById(new ArrayList<>(quantities.keySet())).stream()
+                .map(Product::getPostId)
+                .collect(Collectors.toList());
+        restoreStock(new TreeMap<>(quantities), postIds);
+    }
+
+    // 주문 요청을 주문 항목으로 변환 (장바구니 또는 바로구매, 재고는 변경하지 않음)
+    private OrderDraft buildOrderDraft(OrderCreateRequest request) {
         List<OrderItem> orderItems;
         int productTotal;
         List<Cart> cartsToDelete = new ArrayList<>();
 
         // 장바구니에서 주문하는 경우
         if (request.getCartItemIds() != null && !request.getCartItemIds().isEmpty()) {
-            List<Cart> carts = cartDAO.findByUserIdAndCartIds(request.getUserId(), request.getCartItemIds());
+            List<Cart> carts = cartDAO.findWithProductsByUserIdAndCartIds(request.getUserId(), request.getCartItemIds());
             if (carts.isEmpty()) {
                 throw new IllegalArgumentException("선택한 장바구니 상품을 찾을 수 없습니다.");
             }
@@ -93,19 +236,11 @@ public class OrderService {
                 if (product == null) {
                     throw new IllegalArgumentException("상품 정보를 찾을 수 없습니다.");
                 }
-                int stock = product.getStock() != null ? product.getStock() : 0;
-                if (stock < cart.getQuantity()) {
-                    throw new IllegalStateException("재고가 부족한 상품이 있습니다: " + product.getProductPost().getPostName());
-                }
-
                 int effectivePrice = product.getDiscountPrice() != null ? product.getDiscountPrice() : product.getPrice();
                 productTotal += effectivePrice * cart.getQuantity();
 
                 OrderItem orderItem = createOrderItemFromCart(cart, product, effectivePrice);
                 orderItems.add(orderItem);
-
-                product.setStock(stock - cart.getQuantity());
-                productDAO.save(product);
             }
 
             cartsToDelete = carts;
@@ -115,8 +250,22 @@ public class OrderService {
             orderItems = new ArrayList<>();
             productTotal = 0;
 
+            // 요청한 상품을 게시물/판매자까지 한 번에 조회한 뒤 메모리에서 검증
+            List<Integer> productIds = new ArrayList<>();
             for (OrderCreateRequest.OrderItemRequest itemRequest : request.getOrderItems()) {
-                Product product = productDAO.findById(itemRequest.getProductId());
+                if (itemRequest.getQuantity() <= 0) {
+                    throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다.");
+                }
+                productIds.add(itemRequest.getProductId());
+            }
+            Map<Integer, Product> products = new HashMap<>();
+            for (Product product : productDAO.findWithPostAndSeller(productIds.stream().distinct().collect(Collectors.toList()))) {
+                products.put(product.getProductId(), product);
+            }
+
+            Map<Integer, Integer> requestedQuantities = new HashMap<>();
+            for (OrderCreateRequest.OrderItemRequest itemRequest : request.getOrderItems()) {
+                Product product = products.get(itemRequest.getProductId());
                 if (product == null) {
                     throw new IllegalArgumentException("상품 정보를 찾을 수 없습니다: " + itemRequest.getProductId());
                 }
@@ -131,8 +280,9 @@ public class OrderService {
                     throw new IllegalArgumentException("선택한 사이즈와 상품 정보가 일치하지 않습니다.");
                 }
 
-                int stock = product.getStock() != null ? product.getStock() : 0;
-                if (stock < itemRequest.getQuantity()) {
+                // 조회 시점 재고로 먼저 확인 (실제 차감은 조건부 UPDATE에서 다시 확인)
+                int requested = requestedQuantities.merge(product.getProductId(), itemRequest.getQuantity(), Integer::sum);
+                if (inventoryService.availableStock(product) < requested) {
                     throw new IllegalStateException("재고가 부족한 상품이 있습니다: " + product.getProductPost().getPostName());
                 }
 
@@ -141,52 +291,12 @@ public class OrderService {
 
                 OrderItem orderItem = createOrderItemFromRequest(itemRequest, product, effectivePrice);
                 orderItems.add(orderItem);
-
-                product.setStock(stock - itemRequest.getQuantity());
-                productDAO.save(product);
             }
         } else {
             throw new IllegalArgumentException("주문할 상품을 선택해주세요.");
         }
 
-        int deliveryFee = productTotal >= 50000 ? 0 : 3000;
-        int finalPrice = productTotal + deliveryFee;
-
-        Order order = new Order();
-        order.setUser(user);
-        order.setOrderNumber(generateOrderNumber(user.getUserId()));
-        order.setTotalPrice(productTotal);
-        order.setDiscountAmount(0);
-        order.setDeliveryFee(deliveryFee);
-        order.setFinalPrice(finalPrice);
-        order.setOrderStatus("PAID");  // 결제 완료 시 즉시 PAID로 설정
-        order.setRecipientName(request.getRecipientName());
-        order.setRecipientPhone(request.getRecipientPhone());
-        order.setZipcode(request.getZipcode());
-        order.setAddress(request.getAddress());
-        order.setDetailAddress(request.getDetailAddress());
-        order.setDeliveryMemo(request.getDeliveryMemo());
-        order.setOrderItems(orderItems);
-
-        for (OrderItem item : orderItems) {
-            item.setOrder(order);
-        }
-
-        Order savedOrder = orderRepository.save(order);
-        
-        // 저장 후 refresh하여 최신 데이터 가져오기 (updatedAt 자동 설정)
-        orderRepository.flush(); // DB에 즉시 반영
-        
-        // 장바구니에서 주문한 경우 장바구니 삭제
-        if (!cartsToDelete.isEmpty()) {
-            cartDAO.deleteAll(cartsToDelete);
-        }
-
-        // 최신 정보 다시 조회하여 날짜 필드 확실히 가져오기
-        Order freshOrder = orderRepository.findById(savedOrder.getOrderId())
-                .orElseThrow(() -> new IllegalStateException("주문 저장 후 조회 실패"));
-
-        return buildOrderResponse(freshOrder, request.getPaymentMethod());
+        return new OrderDraft(orderItems, productTotal, cartsToDelete);
     }
 
     private OrderItem createOrderItemFromCart(Cart cart, Product product, int effectivePrice) {
@@ -232,9 +342,31 @@ public class OrderService {
     public List<Map<String, Object>> getOrdersByUserId(int userId) {
         List<Order> orders = orderRepository.findByUser_UserIdOrderByCreatedAtDesc(userId);
         
-        return orders.stream()
-                .map(order -> buildOrderResponse(order, null))
-                .collect(Collectors.toList());
+        return buildOrderResponses(orders);
+    }
+
+    // 사용자별 주문 목록 커서 페이징 조회 (최신순, 반환: items, hasNext, nextCursor)
+    @Transactional(readOnly = true)
+    public Map<String, Object> getOrdersPageByUserId(int userId, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        List<Order> orders;
+        if (cursor == null || cursor.isEmpty()) {
+            orders = orderRepository.findPageByUserId(userId, PageRequest.of(0, pageSize + 1));
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor, CURSOR_SORT_LATEST, 2);
+            orders = orderRepository.findPageByUserIdAfter(userId, pageCursor.getTimestamp(0), pageCursor.getInt(1),
+                    PageRequest.of(0, pageSize + 1));
+        }
+
+        boolean hasNext = orders.size() > pageSize;
+        List<Order> page = hasNext ? orders.subList(0, pageSize) : orders;
+        Order last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", buildOrderResponses(page));
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext ? PageCursor.encode(CURSOR_SORT_LATEST, last.getCreatedAt(), last.getOrderId()) : null);
+        return result;
     }
 
     @Transactional(readOnly = true)
@@ -265,14 +397,8 @@ public class OrderService {
 
         // 주문 상품들의 재고 복구
         if (order.getOrderItems() != null) {
-            for (OrderItem orderItem : order.getOrderItems()) {
-                Product product = orderItem.getProduct();
-                if (product != null) {
-                    int currentStock = product.getStock() != null ? product.getStock() : 0;
-                    product.setStock(currentStock + orderItem.getQuantity());
-                    productDAO.save(product);
-                }
-            }
+            increaseStock(order.getOrderItems());
+            sellerSalesService.recordRemoved(order.getOrderItems());
         }
 
         // Order 삭제 (CASCADE로 OrderItem도 자동 삭제됨)
@@ -295,29 +421,96 @@ public class OrderService {
         String currentStatus = convertOrderItemStatusFromDb(orderItem.getStatus());
         String targetStatus = (newStatus != null ? newStatus.trim().toUpperCase(Locale.ROOT) : "DELIVERING");
 
-        boolean canUpdate;
-        switch (targetStatus) {
-            case "DELIVERING":
-                canUpdate = "PAID".equalsIgnoreCase(currentStatus) || "DELIVERING".equalsIgnoreCase(currentStatus);
-                break;
-            case "DELIVERED":
-                canUpdate = "DELIVERING".equalsIgnoreCase(currentStatus);
-                break;
-            case "CONFIRMED":
-                canUpdate = "DELIVERED".equalsIgnoreCase(currentStatus);
-                break;
-            default:
-                canUpdate = "PAID".equalsIgnoreCase(currentStatus);
-        }
-
-        if (!canUpdate) {
+        if (!sellerCanChange(currentStatus, targetStatus)) {
             throw new IllegalStateException("현재 상태에서는 처리할 수 없습니다.");
         }
 
-        orderItem.setStatus(convertOrderItemStatusToDb(targetStatus));
+        changeStatus(orderItem, convertOrderItemStatusToDb(targetStatus));
         OrderItem savedItem = orderItemRepository.save(orderItem);
-        updateOrderStatusBasedOnItems(orderItem.getOrder());
-        return buildSellerOrderItemResponse(savedItem);
+        return buildSellerOrderItemResponse(savedItem, enrich(List.of(savedItem), false));
+    }
+
+    // 판매자 주문상세 일괄 상태 변경 (소유권/상태는 한 번 조회해 확인, 상태는 한 번의 배치 UPDATE, 주문 상태는 주문당 한 번 계산)
+    // 주문상세별 성공/실패를 돌려주고, 실패한 주문상세는 변경하지 않음
+    @Transactional
+    public Map<String, Object> updateOrderItemStatusesBySeller(List<Integer> orderItemIds, int sellerId, String newStatus) {
+        String targetStatus = (newStatus != null ? newStatus.trim().toUpperCase(Locale.ROOT) : "DELIVERING");
+        if (!BULK_TARGET_STATUSES.contains(targetStatus)) {
+            throw new IllegalArgumentException("일괄 처리할 수 없는 상태입니다.");
+        }
+        if (orderItemIds == null || orderItemIds.isEmpty()) {
+            throw new IllegalArgumentException("처리할 주문상세를 선택해주세요.");
+        }
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(orderItemIds));
+        if (ids.size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_ITEMS + "개까지 처리할 수 있습니다.");
+        }
+        OrderItemStatus target = OrderItemStatus.fromCode(convertOrderItemStatusToDb(targetStatus));
+
+        Map<Integer, OrderItem> itemsById = new HashMap<>();
+        for (OrderItem item : orderItemRepository.findAllById(ids)) {
+            itemsById.put(item.getOrderItemId(), item);
+        }
+        Map<Integer, String> failures = new HashMap<>();
+        // 변경할 주문상세 (주문 ID 순으로 잠가 교착 방지)
+        Map<Integer, List<OrderItem>> itemsByOrderId = new TreeMap<>();
+        for (Integer orderItemId : ids) {
+            OrderItem item = itemsById.get(orderItemId);
+            if (item == null) {
+                failures.put(orderItemId, "주문상세를 찾을 수 없습니다.");
+            } else if (item.getSellerId() != sellerId) {
+                failures.put(orderItemId, "해당 주문에 접근할 수 없습니다.");
+            } else if (!sellerCanChange(convertOrderItemStatusFromDb(item.getStatus()), targetStatus)) {
+                failures.put(orderItemId, "현재 상태에서는 처리할 수 없습니다.");
+            } else if (OrderItemStatus.fromCode(item.getStatus()) != target) {
+                itemsByOrderId.computeIfAbsent(item.getOrderId(), key -> new ArrayList<>()).add(item);
+            }
+        }
+
+        if (!itemsByOrderId.isEmpty()) {
+            Map<Integer, String[]> transitions = new LinkedHashMap<>();
+            for (List<OrderItem> items : itemsByOrderId.values()) {
+                lockItemStateCounts(items.get(0).getOrder());
+                for (OrderItem item : items) {
+                    transitions.put(item.getOrderItemId(), new String[]{item.getStatus(), target.getCode()});
+                }
+            }
+            Set<Integer> changedConcurrently = new HashSet<>(orderItemDAO.updateStatuses(transitions));
+            List<OrderItem> changed = new ArrayList<>();
+            for (List<OrderItem> items : itemsByOrderId.values()) {
+                Order order = items.get(0).getOrder();
+                for (OrderItem item : items) {
+                    if (changedConcurrently.contains(item.getOrderItemId())) {
+                        failures.put(item.getOrderItemId(), "다른 요청에서 주문 상태가 변경되었습니다.");
+                        continue;
+                    }
+                    OrderItemStatus.fromCode(item.getStatus()).addTo(order, -1);
+                    target.addTo(order, 1);
+                    changed.add(item);
+                }
+                applyOrderStatus(order);
+            }
+            sellerSalesService.recordStatusChanges(changed, target.getCode());
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Integer orderItemId : ids) {
+            Map<String, Object> result = new HashMap<>();
+            result.put("orderItemId", orderItemId);
+            String failure = failures.get(orderItemId);
+            result.put("success", failure == null);
+            if (failure != null) {
+                result.put("message", failure);
+            } else {
+                result.put("status", targetStatus);
+            }
+            results.add(result);
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", results);
+        response.put("successCount", ids.size() - failures.size());
+        response.put("failureCount", failures.size());
+        return response;
     }
 
     @Transactional
@@ -328,19 +521,12 @@ public class OrderService {
             throw new IllegalStateException("결제 취소할 수 없는 상태입니다.");
         }
 
-        Product product = orderItem.getProduct();
-        if (product != null) {
-            int currentStock = product.getStock() != null ? product.getStock() : 0;
-            int quantity = orderItem.getQuantity() != null ? orderItem.getQuantity() : 0;
-            product.setStock(currentStock + quantity);
-            productDAO.save(product);
-        }
+        increaseStock(List.of(orderItem));
 
-        orderItem.setStatus(convertOrderItemStatusToDb("CANCELLED"));
+        changeStatus(orderItem, convertOrderItemStatusToDb("CANCELLED"));
         orderItemRepository.save(orderItem);
 
         Order order = orderItem.getOrder();
-        updateOrderStatusBasedOnItems(order);
         Order refreshedOrder = orderRepository.findById(order.getOrderId())
                 .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다."));
 
@@ -360,19 +546,12 @@ public class OrderService {
         if (!"PAID".equalsIgnoreCase(currentStatus)) {
             throw new IllegalStateException("결제 취소할 수 없는 상태입니다.");
         }
-        Product product = orderItem.getProduct();
-        if (product != null) {
-            int currentStock = product.getStock() != null ? product.getStock() : 0;
-            int quantity = orderItem.getQuantity() != null ? orderItem.getQuantity() : 0;
-            product.setStock(currentStock + quantity);
-            productDAO.save(product);
-        }
+        increaseStock(List.of(orderItem));
 
-        orderItem.setStatus(convertOrderItemStatusToDb("CANCELLED"));
+        changeStatus(orderItem, convertOrderItemStatusToDb("CANCELLED"));
         orderItemRepository.save(orderItem);
 
         Order order = orderItem.getOrder();
-        updateOrderStatusBasedOnItems(order);
         Order refreshedOrder = orderRepository.findById(order.getOrderId())
                 .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다."));
 
@@ -396,9 +575,8 @@ public class OrderService {
             throw new IllegalStateException("구매 확정할 수 없는 상태입니다.");
         }
 
-        orderItem.setStatus(convertOrderItemStatusToDb("CONFIRMED"));  // 구매 확정은 CONFIRMED로 처리
+        changeStatus(orderItem, convertOrderItemStatusToDb("CONFIRMED"));  // 구매 확정은 CONFIRMED로 처리
         orderItemRepository.save(orderItem);
-        updateOrderStatusBasedOnItems(orderItem.getOrder());
         Order refreshedOrder = orderRepository.findById(orderItem.getOrder().getOrderId())
                 .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다."));
         Map<String, Object> response = new HashMap<>();
@@ -409,9 +587,96 @@ public class OrderService {
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getSellerOrders(int sellerId) {
         List<OrderItem> orderItems = orderItemRepository.findBySellerIdWithDetails(sellerId);
-        return orderItems.stream()
-                .map(this::buildSellerOrderItemResponse)
-                .collect(Collectors.toList());
+        return buildSellerOrderItemResponses(orderItems);
+    }
+
+    // 판매자 주문 커서 페이징 조회 (주문상세ID 역순, 반환: items, hasNext, nextCursor)
+    // status: 주문상세 상태(PAID, DELIVERING ... 쉼표로 여러 개) 또는 REFUND_REQUESTED(처리 대기 환불/취소 요청)
+    // from, to: 주문일 (yyyy-MM-dd, to 포함), keyword: 주문번호 또는 수령인 이름
+    @Transactional(readOnly = true)
+    public Map<String, Object> getSellerOrdersPage(int sellerId, String status, String from, String to, String keyword,
+                                                   String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        int beforeOrderItemId = Integer.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            beforeOrderItemId = PageCursor.decode(cursor, CURSOR_SORT_LATEST, 1).getInt(0);
+        }
+
+        Specification<OrderItem> spec = OrderItemSpecification.sellerIdEquals(sellerId)
+                .and(OrderItemSpecification.orderedBetween(parseDate(from, 0), parseDate(to, 1)))
+                .and(OrderItemSpecification.keywordMatches(keyword))
+                .and(OrderItemSpecification.before(beforeOrderItemId));
+        if (status != null && !status.trim().isEmpty()) {
+            List<String> dbStatuses = new ArrayList<>();
+            for (String value : status.split(",")) {
+                if (STATUS_REFUND_REQUESTED.equalsIgnoreCase(value.trim())) {
+                    spec = spec.and(OrderItemSpecification.hasRefundStatus(REFUND_STATUS_REQUESTED));
+                } else {
+                    dbStatuses.addAll(orderItemDbStatuses(value));
+                }
+            }
+            spec = spec.and(OrderItemSpecification.statusIn(dbStatuses));
+        }
+        List<OrderItem> orderItems = orderItemRepository.findBy(spec, query -> query.limit(pageSize + 1).all());
+
+        boolean hasNext = orderItems.size() > pageSize;
+        List<OrderItem> page = hasNext ? orderItems.subList(0, pageSize) : orderItems;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", buildSellerOrderItemResponses(page));
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext ? PageCursor.encode(CURSOR_SORT_LATEST, page.get(page.size() - 1).getOrderItemId()) : null);
+        return result;
+    }
+
+    // 판매자 주문 상태별 건수 (대시보드 배지용, 짧게 캐시)
+    // PAID, DELIVERING, DELIVERED, CONFIRMED, CANCELLED, REFUNDED, REFUND_REQUESTED(처리 대기 환불/취소 요청), TOTAL
+    @Transactional(readOnly = true)
+    public Map<String, Long> getSellerOrderCounts(int sellerId) {
+        long now = System.currentTimeMillis();
+        SellerOrderCounts cached = sellerOrderCounts.get(sellerId);
+        if (cached != null && cached.getExpiresAt() > now) {
+            return cached.getCounts();
+        }
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String key : List.of("PAID", "DELIVERING", "DELIVERED", "CONFIRMED", "CANCELLED", "REFUNDED", STATUS_REFUND_REQUESTED, "TOTAL")) {
+            counts.put(key, 0L);
+        }
+        for (Object[] row : orderItemRepository.countStatusesBySellerId(sellerId, REFUND_STATUS_REQUESTED)) {
+            long count = ((Number) row[1]).longValue();
+            counts.merge(convertOrderItemStatusFromDb((String) row[0]), count, Long::sum);
+            counts.merge(STATUS_REFUND_REQUESTED, ((Number) row[2]).longValue(), Long::sum);
+            counts.merge("TOTAL", count, Long::sum);
+        }
+        Map<String, Long> result = Collections.unmodifiableMap(counts);
+        sellerOrderCounts.put(sellerId, new SellerOrderCounts(result, now + orderCountsTtlMillis));
+        return result;
+    }
+
+    // API 상태 → DB 코드 목록 (구매확정은 기존 코드 포함)
+    private List<String> orderItemDbStatuses(String status) {
+        String dbStatus = convertOrderItemStatusToDb(status);
+        if (ORDERITEM_STATUS_CONFIRMED_CODE.equals(dbStatus)) {
+            return List.of(ORDERITEM_STATUS_CONFIRMED_CODE, ORDERITEM_STATUS_LEGACY_CONFIRMED);
+        }
+        return List.of(dbStatus);
+    }
+
+    // yyyy-MM-dd → 해당 날짜 + plusDays 0시 (비어 있으면 null)
+    private Timestamp parseDate(String date, int plusDays) {
+        if (date == null || date.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Timestamp.valueOf(LocalDate.parse(date.trim()).plusDays(plusDays).atStartOfDay());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+    }
+
+    private int resolvePageSize(Integer limit) {
+        return limit != null && limit > 0 ? Math.min(limit, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
     }
 
     @Transactional
@@ -448,7 +713,7 @@ public class OrderService {
         orderItemRepository.save(orderItem);
 
         Refund saved = refundRepository.save(refund);
-        updateOrderStatusBasedOnItems(orderItem.getOrder());
+        updateOrderStatus(orderItem.getOrder());
         Order refreshedOrder = orderRepository.findById(orderItem.getOrder().getOrderId())
                 .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다."));
 
@@ -469,14 +734,12 @@ public class OrderService {
         }
 
         OrderItem orderItem = refund.getOrderItem();
-        // previousStatus는 이미 DB 형식(짧은 코드)이므로 그대로 사용
-        orderItem.setStatus(refund.getPreviousStatus());
-        orderItemRepository.save(orderItem);
+        // 환불 요청 시 주문상세 상태를 바꾸지 않으므로 되돌릴 상태 없음 (요청 후 배송완료 등으로 바뀐 상태 유지)
 
         refund.setStatus(REFUND_STATUS_CANCELED);
         refundRepository.save(refund);
 
-        updateOrderStatusBasedOnItems(orderItem.getOrder());
+        updateOrderStatus(orderItem.getOrder());
         Order refreshedOrder = orderRepository.findById(orderItem.getOrder().getOrderId())
                 .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다."));
 
@@ -500,17 +763,11 @@ public class OrderService {
         // 교환 기능 제거 - 환불만 처리
         refund.setSellerResponse(sellerResponse);
         refund.setStatus(REFUND_STATUS_COMPLETED);
-        if (orderItem.getProduct() != null) {
-            Integer qty = Optional.ofNullable(orderItem.getQuantity()).orElse(0);
-            Integer stock = Optional.ofNullable(orderItem.getProduct().getStock()).orElse(0);
-            orderItem.getProduct().setStock(stock + qty);
-            productDAO.save(orderItem.getProduct());
-        }
-        orderItem.setStatus(convertOrderItemStatusToDb("REFUNDED")); // 환불 완료로 변경
+        increaseStock(List.of(orderItem));
+        changeStatus(orderItem, convertOrderItemStatusToDb("REFUNDED")); // 환불 완료로 변경
         orderItemRepository.save(orderItem);
         refundRepository.save(refund);
 
-        updateOrderStatusBasedOnItems(orderItem.getOrder());
         Order refreshedOrder = orderRepository.findById(orderItem.getOrder().getOrderId())
                 .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다."));
 
@@ -533,12 +790,10 @@ public class OrderService {
 
         refund.setStatus(REFUND_STATUS_REJECTED);
         refund.setSellerResponse(sellerResponse);
-        // previousStatus는 이미 DB 형식(짧은 코드)이므로 그대로 사용
-        orderItem.setStatus(refund.getPreviousStatus());
-        orderItemRepository.save(orderItem);
+        // 환불 요청 시 주문상세 상태를 바꾸지 않으므로 되돌릴 상태 없음 (요청 후 배송완료 등으로 바뀐 상태 유지)
         refundRepository.save(refund);
 
-        updateOrderStatusBasedOnItems(orderItem.getOrder());
+        updateOrderStatus(orderItem.getOrder());
         Order refreshedOrder = orderRepository.findById(orderItem.getOrder().getOrderId())
                 .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다."));
 
@@ -550,16 +805,12 @@ public class OrderService {
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getRefundsByUser(int userId) {
-        return refundRepository.findByUser_UserIdOrderByCreatedAtDesc(userId).stream()
-                .map(this::buildRefundResponse)
-                .collect(Collectors.toList());
+        return buildRefundResponses(refundRepository.findByUser_UserIdOrderByCreatedAtDesc(userId));
     }
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getRefundsBySeller(int sellerId) {
-        return refundRepository.findBySellerId(sellerId).stream()
-                .map(this::buildRefundResponse)
-                .collect(Collectors.toList());
+        return buildRefundResponses(refundRepository.findBySellerId(sellerId));
     }
 
     private void validateRefundRequestStatus(String refundType, String currentStatus) {
@@ -584,7 +835,22 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("환불 요청을 찾을 수 없습니다."));
     }
 
+    private List<Map<String, Object>> buildRefundResponses(List<Refund> refunds) {
+        List<OrderItem> orderItems = refunds.stream()
+                .map(Refund::getOrderItem)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        ResponseEnrichment enrichment = enrich(orderItems, false);
+        return refunds.stream()
+                .map(refund -> buildRefundResponse(refund, enrichment))
+                .collect(Collectors.toList());
+    }
+
     private Map<String, Object> buildRefundResponse(Refund refund) {
+        return buildRefundResponses(List.of(refund)).get(0);
+    }
+
+    private Map<String, Object> buildRefundResponse(Refund refund, ResponseEnrichment enrichment) {
         Map<String, Object> map = new HashMap<>();
         map.put("refundId", refund.getRefundId());
         // DB에는 "REF"/"EXC"로 저장되지만, API 응답은 "REFUND"/"EXCHANGE"로 변환
@@ -608,8 +874,7 @@ public class OrderService {
             map.put("price", orderItem.getPrice());
             map.put("color", orderItem.getColor());
             map.put("productSize", orderItem.getProductSize());
-            String productImage = resolveMainImageUrl(orderItem.getPostId());
-            map.put("productImage", productImage != null ? productImage : "");
+            map.put("productImage", enrichment.getMainImageUrls().getOrDefault(orderItem.getPostId(), ""));
             Order order = orderItem.getOrder();
             if (order != null) {
                 map.put("orderId", order.getOrderId());
@@ -621,13 +886,22 @@ public class OrderService {
         return map;
     }
 
-    private String generateOrderNumber(int userId) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        String suffix = String.format("%04d", userId % 10000);
-        return "ORD" + timestamp + "-" + suffix;
+    // 여러 주문의 응답 (모든 주문상세의 대표 이미지/리뷰 여부를 한 번에 조회)
+    private List<Map<String, Object>> buildOrderResponses(List<Order> orders) {
+        List<OrderItem> orderItems = orders.stream()
+                .flatMap(order -> order.getOrderItems().stream())
+                .collect(Collectors.toList());
+        ResponseEnrichment enrichment = enrich(orderItems, true);
+        return orders.stream()
+                .map(order -> buildOrderResponse(order, null, enrichment))
+                .collect(Collectors.toList());
     }
 
     private Map<String, Object> buildOrderResponse(Order order, String paymentMethod) {
+        return buildOrderResponse(order, paymentMethod, enrich(order.getOrderItems(), true));
+    }
+
+    private Map<String, Object> buildOrderResponse(Order order, String paymentMethod, ResponseEnrichment enrichment) {
         Map<String, Object> item = new HashMap<>();
         item.put("orderId", order.getOrderId());
         item.put("orderNumber", order.getOrderNumber());
@@ -662,14 +936,14 @@ public class OrderService {
         item.put("paymentInfo", paymentInfo);
 
         List<Map<String, Object>> orderItemList = order.getOrderItems().stream()
-                .map(this::buildOrderItemResponse)
+                .map(orderItem -> buildOrderItemResponse(orderItem, enrichment))
                 .collect(Collectors.toList());
         item.put("items", orderItemList);
 
         return item;
     }
 
-    private Map<String, Object> buildOrderItemResponse(OrderItem orderItem) {
+    private Map<String, Object> buildOrderItemResponse(OrderItem orderItem, ResponseEnrichment enrichment) {
         Map<String, Object> map = new HashMap<>();
         map.put("orderItemId", orderItem.getOrderItemId());
         map.put("productId", orderItem.getProductId());
@@ -680,15 +954,15 @@ public class OrderService {
         map.put("price", orderItem.getPrice());
         map.put("quantity", orderItem.getQuantity());
         map.put("status", convertOrderItemStatusFromDb(orderItem.getStatus()));
-        map.put("productImage", resolveMainImageUrl(orderItem.getPostId()));
+        map.put("productImage", enrichment.getMainImageUrls().get(orderItem.getPostId()));
         if (orderItem.getProductPost() != null) {
             map.put("brand", orderItem.getProductPost().getBrand());
         }
         
         // 리뷰 작성 여부 확인
-        Review review = reviewDAO.findByOrderItemId(orderItem.getOrderItemId());
-        if (review != null) {
-            map.put("reviewId", review.getReviewId());
+        Integer reviewId = enrichment.getReviewIds().get(orderItem.getOrderItemId());
+        if (reviewId != null) {
+            map.put("reviewId", reviewId);
             map.put("hasReview", true);
         } else {
             map.put("hasReview", false);
@@ -697,7 +971,14 @@ public class OrderService {
         return map;
     }
 
-    private Map<String, Object> buildSellerOrderItemResponse(OrderItem orderItem) {
+    private List<Map<String, Object>> buildSellerOrderItemResponses(List<OrderItem> orderItems) {
+        ResponseEnrichment enrichment = enrich(orderItems, false);
+        return orderItems.stream()
+                .map(orderItem -> buildSellerOrderItemResponse(orderItem, enrichment))
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> buildSellerOrderItemResponse(OrderItem orderItem, ResponseEnrichment enrichment) {
         Map<String, Object> map = new HashMap<>();
         Order order = orderItem.getOrder();
 
@@ -722,7 +1003,7 @@ public class OrderService {
         Integer price = orderItem.getPrice() != null ? orderItem.getPrice() : 0;
         Integer qty = orderItem.getQuantity() != null ? orderItem.getQuantity() : 0;
         map.put("totalPrice", price * qty);
-        map.put("productImage", resolveMainImageUrl(orderItem.getPostId()));
+        map.put("productImage", enrichment.getMainImageUrls().get(orderItem.getPostId()));
 
         if (order != null) {
             map.put("buyerName", order.getRecipientName());
@@ -749,59 +1030,110 @@ public class OrderService {
         return orderItem;
     }
 
-    private void updateOrderStatusBasedOnItems(Order order) {
-        if (order == null) return;
-        List<OrderItem> items = orderItemRepository.findByOrder_OrderId(order.getOrderId());
-        if (items == null || items.isEmpty()) {
-            return;
+    // 판매자가 처리할 수 있는 상태 변경 (API 상태 이름, 배송 시작은 결제완료/배송중, 배송완료는 배송중, 구매확정은 배송완료에서)
+    private boolean sellerCanChange(String currentStatus, String targetStatus) {
+        switch (targetStatus) {
+            case "DELIVERING":
+                return "PAID".equalsIgnoreCase(currentStatus) || "DELIVERING".equalsIgnoreCase(currentStatus);
+            case "DELIVERED":
+                return "DELIVERING".equalsIgnoreCase(currentStatus);
+            case "CONFIRMED":
+                return "DELIVERED".equalsIgnoreCase(currentStatus);
+            default:
+                return "PAID".equalsIgnoreCase(currentStatus);
         }
+    }
 
-        // 모든 orderItem의 status 확인
-        boolean allCompleted = items.stream()
-                .allMatch(item -> {
-                    String status = convertOrderItemStatusFromDb(item.getStatus()).toUpperCase(Locale.ROOT);
-                    return "DELIVERED".equals(status) ||
-                           "REFUNDED".equals(status) ||
-                           "CANCELED".equals(status) ||
-                           "CANCELLED".equals(status) ||
-                           "CONFIRMED".equals(status);
-                });
-
-        // 처리 중인 상태: 환불요청중, 배송중, 결제완료 등
-        boolean anyProcessing = items.stream()
-                .anyMatch(item -> {
-                    String status = convertOrderItemStatusFromDb(item.getStatus()).toUpperCase(Locale.ROOT);
-                    return "PAID".equals(status) ||
-                           "DELIVERING".equals(status) ||
-                           "REFUND_REQUESTED".equals(status);
-                });
-
-        String newStatus;
-        if (allCompleted) {
-            // 모든 orderItem이 완료 상태면 처리완료
-            newStatus = "COMPLETED";
-        } else if (anyProcessing) {
-            // 하나라도 처리 중이면 처리중
-            newStatus = "PROCESSING";
-        } else {
-            // 기본값
-            newStatus = "PAID";
+    // 주문상세 상태 변경 (허용되지 않은 전이는 예외, 주문의 상태별 개수/주문 상태 갱신, 판매 집계 반영)
+    // 주문을 잠근 뒤 주문상세를 다시 읽어, 확인한 뒤에 다른 요청이 상태를 바꿨으면 예외 (재고 복구 등도 함께 롤백)
+    private void changeStatus(OrderItem orderItem, String status) {
+        String checkedStatus = orderItem.getStatus();
+        Order order = orderItem.getOrder();
+        lockItemStateCounts(order);
+        entityManager.refresh(orderItem);
+        if (!Objects.equals(checkedStatus, orderItem.getStatus())) {
+            throw new IllegalStateException("다른 요청에서 주문 상태가 변경되었습니다. 다시 시도해주세요.");
         }
+        OrderItemStatus current = OrderItemStatus.fromCode(orderItem.getStatus());
+        OrderItemStatus target = OrderItemStatus.fromCode(status);
+        if (!current.canChangeTo(target)) {
+            throw new IllegalStateException("현재 상태에서는 처리할 수 없습니다.");
+        }
+        current.addTo(order, -1);
+        target.addTo(order, 1);
+        sellerSalesService.recordStatusChange(orderItem, orderItem.getStatus(), target.getCode());
+        orderItem.setStatus(target.getCode());
+        applyOrderStatus(order);
+    }
 
-        order.setOrderStatus(newStatus);
-        orderRepository.save(order);
+    // 주문상세 삭제 전 호출 (판매자 게시물 삭제 등, 주문은 남으므로 상태별 개수에서 빼고 주문 상태 다시 계산)
+    // 주문 ID 오름차순으로 잠가 다른 처리와 잠금 순서를 맞추고, 삭제할 주문상세는 주문의 목록에서도 뺌
+    @Transactional
+    public void removeOrderItems(Collection<OrderItem> orderItems) {
+        Map<Integer, List<OrderItem>> itemsByOrderId = new TreeMap<>();
+        for (OrderItem item : orderItems) {
+            itemsByOrderId.computeIfAbsent(item.getOrder().getOrderId(), id -> new ArrayList<>()).add(item);
+        }
+        for (List<OrderItem> items : itemsByOrderId.values()) {
+            Order order = items.get(0).getOrder();
+            lockItemStateCounts(order);
+            for (OrderItem item : items) {
+                OrderItemStatus.fromCode(item.getStatus()).addTo(order, -1);
+            }
+            if (order.getOrderItems() != null) {
+                order.getOrderItems().removeAll(items);
+            }
+            applyOrderStatus(order);
+        }
     }
 
-    private String resolveMainImageUrl(int postId) {
-        List<ProductImage> images = productImageDAO.findByPostId(postId);
-        if (images == null || images.isEmpty()) {
-            return null;
+    // 주문상세 상태 변경 없이 주문 상태만 갱신 (환불 요청/철회/거절)
+    private void updateOrderStatus(Order order) {
+        lockItemStateCounts(order);
+        applyOrderStatus(order);
+    }
+
+    // 상태별 개수로 주문 상태 계산 (주문상세를 다시 조회하지 않음)
+    private void applyOrderStatus(Order order) {
+        String orderStatus = OrderItemStatus.deriveOrderStatus(order);
+        if (orderStatus != null) {
+            order.setOrderStatus(orderStatus);
+        }
+    }
+
+    // 주문 행을 잠그고 상태별 개수를 DB 값으로 맞춤 (여러 판매자가 같은 주문의 상품을 동시에 처리해도 개수가 어긋나지 않도록)
+    // 같은 트랜잭션에서 바꾼 개수는 먼저 반영(flush)한 뒤 읽고, 개수를 관리하기 전에 생성된 주문은 주문상세로 한 번 계산
+    private void lockItemStateCounts(Order order) {
+        orderRepository.flush();
+        List<Object[]> rows = orderRepository.lockItemStateCounts(order.getOrderId());
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("주문을 찾을 수 없습니다.");
+        }
+        Object[] counts = rows.get(0);
+        OrderItemStatus[] statuses = OrderItemStatus.values();
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i].setCount(order, ((Number) counts[i]).intValue());
         }
-        return images.stream()
-                .filter(img -> img.getIsMain() != null && img.getIsMain() == 1)
-                .map(ProductImage::getImageUrl)
-                .findFirst()
-                .orElse(images.get(0).getImageUrl());
+        if (OrderItemStatus.totalOf(order) == 0 && order.getOrderItems() != null) {
+            for (OrderItem item : order.getOrderItems()) {
+                OrderItemStatus.fromCode(item.getStatus()).addTo(order, 1);
+            }
+        }
+    }
+
+    // 응답에 붙일 게시물 대표 이미지(공유 캐시) / 주문상세별 리뷰 ID (withReviews일 때만, IN 쿼리 한 번)
+    private ResponseEnrichment enrich(Collection<OrderItem> orderItems, boolean withReviews) {
+        List<Integer> postIds = orderItems.stream()
+                .map(OrderItem::getPostId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Integer, Integer> reviewIds = Collections.emptyMap();
+        if (withReviews && !orderItems.isEmpty()) {
+            reviewIds = reviewDAO.findReviewIdsByOrderItemIds(orderItems.stream()
+                    .map(OrderItem::getOrderItemId)
+                    .collect(Collectors.toList()));
+        }
+        return new ResponseEnrichment(mainImageCacheService.getMainImageUrls(postIds), reviewIds);
     }
 
     private boolean isRefundStatusRequested(String status) {
@@ -919,6 +1251,79 @@ public class OrderService {
         }
     }
     
+    // 주문 항목 수량만큼 재고 차감 (인기 상품은 메모리 재고 장부에서 예약, 나머지는 상품 ID 순으로 조건부 UPDATE 배치 실행)
+    // 재고가 부족한 상품이 하나라도 있으면 예외 (트랜잭션 롤백으로 먼저 차감/예약된 상품도 원복)
+    private void decreaseStock(List<OrderItem> orderItems) {
+        Map<Integer, Integer> quantities = stockQuantities(orderItems);
+        if (quantities.isEmpty()) {
+            return;
+        }
+        InventoryLedger.StockChange change = inventoryService.reserve(quantities);
+        List<Integer> failed = change.getFailed();
+        if (failed.isEmpty() && !change.getDbQuantities().isEmpty()) {
+            failed = productDAO.decreaseStocks(change.getDbQuantities());
+        }
+        if (!failed.isEmpty()) {
+            int failedProductId = failed.get(0);
+            String postName = orderItems.stream()
+                    .filter(item -> item.getProductId() == failedProductId)
+                    .map(OrderItem::getPostName)
+                    .findFirst().orElse(null);
+            throw new IllegalStateException("재고가 부족한 상품이 있습니다: " + postName);
+        }
+        stockChanged(change.getDbQuantities(), postIds(orderItems));
+    }
+
+    // 주문 항목 수량만큼 재고 복구 (취소/환불)
+    private void increaseStock(List<OrderItem> orderItems) {
+        restoreStock(stockQuantities(orderItems), postIds(orderItems));
+    }
+
+    // 상품 ID별 수량만큼 재고 복구
+    private void restoreStock(Map<Integer, Integer> quantities, Collection<Integer> postIds) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        InventoryLedger.StockChange change = inventoryService.restock(quantities);
+        if (!change.getDbQuantities().isEmpty()) {
+            productDAO.increaseStocks(change.getDbQuantities());
+        }
+        stockChanged(change.getDbQuantities(), postIds);
+    }
+
+    // 배송비 (상품 금액 5만원 이상 무료)
+    private int deliveryFee(int productTotal) {
+        return productTotal >= 50000 ? 0 : 3000;
+    }
+
+    // 상품 ID별 수량 합계 (상품 ID 오름차순)
+    private Map<Integer, Integer> stockQuantities(List<OrderItem> orderItems) {
+        Map<Integer, Integer> quantities = new TreeMap<>();
+        for (OrderItem orderItem : orderItems) {
+            int quantity = orderItem.getQuantity() != null ? orderItem.getQuantity() : 0;
+            if (orderItem.getProduct() != null && quantity > 0) {
+                quantities.merge(orderItem.getProduct().getProductId(), quantity, Integer::sum);
+            }
+        }
+        return quantities;
+    }
+
+    // 옵션 재고 변경 후 호출 (목록 필터 인덱스 / 상품 상세 캐시 반영, 재고 장부에서 처리한 상품의 인덱스는 DB 반영 시 갱신)
+    private void stockChanged(Map<Integer, Integer> dbQuantities, Collection<Integer> postIds) {
+        if (!dbQuantities.isEmpty()) {
+            productDAO.findStocks(new ArrayList<>(dbQuantities.keySet()))
+                    .forEach(catalogIndexService::updateStock);
+        }
+        postIds.stream().distinct().forEach(productDetailCacheService::evict);
+    }
+
+    private List<Integer> postIds(List<OrderItem> orderItems) {
+        return orderItems.stream()
+                .filter(orderItem -> orderItem.getProduct() != null)
+                .map(orderItem -> orderItem.getProduct().getPostId())
+                .collect(Collectors.toList());
+    }
+    
     // ORDERITEM STATUS 변환: String → String (API 응답용: 긴 이름)
     private String convertOrderItemStatusFromDb(String status) {
         if (status == null || status.trim().isEmpty()) {
@@ -943,6 +1348,32 @@ public class OrderService {
                 return status.trim().toUpperCase(Locale.ROOT);
         }
     }
-}
 
+    // 주문 요청을 변환한 주문 항목 (저장 전)
+    @Data
+    private static class OrderDraft {
+        private final List<OrderItem> orderItems;
+        private final int productTotal;
+        private final List<Cart> carts;
+    }
+
+    // 결제 전 선점한 재고 (상품 ID별 수량, 결제 예정 금액)
+    @Data
+    public static class StockReservation {
+        private final Map<Integer, Integer> quantities;
+        private final int finalPrice;
+    }
+
+    @Data
+    private static class SellerOrderCounts {
+        private final Map<String, Long> counts;
+        private final long expiresAt;
+    }
 
+    // 주문/환불 응답에 붙일 정보 (게시물 ID별 대표 이미지, 주문상세 ID별 리뷰 ID)
+    @Data
+    private static class ResponseEnrichment {
+        private final Map<Integer, String> mainImageUrls;
+        private final Map<Integer, Integer> reviewIds;
+    }
+}
@@ -2,93 +2,176 @@ package com.example.backend.service;
 
 import com.example.backend.dto.OrderCreateRequest;
 import com.example.backend.dto.PaymentConfirmRequest;
+import com.example.backend.dto.StockHoldRequest;
+import com.example.backend.entity.StockHold;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class PaymentService {
 
-    private static final String TOSS_CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
+    // 승인되지 않은 것으로 확정된 토스 결제 상태 (결제 조회 결과)
+    private static final Set<String> NOT_APPROVED_STATUSES = Set.of("ABORTED", "EXPIRED", "CANCELED");
 
-    @Value("${toss.payments.secret-key}")
-    private String secretKey;
+    @Autowired
+    private TossPaymentClient tossPaymentClient;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private StockHoldService stockHoldService;
 
     @Autowired
-    private OrderService orderService;
+    private IdempotencyService idempotencyService;
+
+    // 결제창을 열기 전 재고 선점
+    public Map<String, Object> holdStock(StockHoldRequest request) {
+        return stockHoldService.hold(request.getOrderId(), request.getAmount(), request.getOrderRequest());
+    }
+
+    // 결제 취소/실패 시 선점 해제
+    public void releaseStock(String orderId, int userId) {
+        stockHoldService.release(orderId, userId);
+    }
 
-    public Map<String, Object> confirmPayment(PaymentConfirmRequest request) {
+    // 결제 승인 (Idempotency-Key 헤더, 없으면 토스 주문번호 기준으로 한 번만 처리하고 재시도에는 같은 응답 반환)
+    public Map<String, Object> confirmPayment(PaymentConfirmRequest request, String idempotencyKey) {
         if (request.getOrderRequest() == null) {
             throw new IllegalArgumentException("주문 정보를 확인할 수 없습니다.");
         }
+        String key = idempotencyKey != null && !idempotencyKey.isBlank() ? idempotencyKey.trim() : request.getOrderId();
+        if (key == null || key.isBlank()) {
+            return confirmPayment(request);
+        }
+        return idempotencyService.execute("payments/confirm:" + key, request.getOrderRequest().getUserId(), request,
+                () -> confirmPayment(request));
+    }
+
+    // 결제 승인 3단계 (토스 호출 동안 트랜잭션/DB 커넥션을 잡지 않음)
+    // 1. 주문 금액 확인 + 재고 선점 (짧은 트랜잭션, 토스 호출 전이라 실패해도 결제되지 않음)
+    // 2. 토스 결제 승인 (트랜잭션 밖, 연결/응답 시간 제한)
+    // 3. 주문 생성 (짧은 트랜잭션), 실패하면 결제 취소 + 선점 해제로 보상
+    // 토스 응답을 받지 못하면(시간 초과/5xx) 승인됐을 수 있으므로 선점을 유지하고 결제 조회로 주문 생성 또는 해제
+    private Map<String, Object> confirmPayment(PaymentConfirmRequest request) {
         OrderCreateRequest orderRequest = request.getOrderRequest();
         if (orderRequest.getPaymentMethod() == null || orderRequest.getPaymentMethod().isBlank()) {
             orderRequest.setPaymentMethod("CARD");
         }
+        if (request.getPaymentKey() == null || request.getPaymentKey().isBlank()) {
+            throw new IllegalArgumentException("결제 키가 필요합니다.");
+        }
+        if (request.getAmount() == null) {
+            throw new IllegalArgumentException("결제 금액이 필요합니다.");
+        }
+
+        stockHoldService.reserveForPayment(request.getOrderId(), request.getAmount(), orderRequest);
 
-        // 토스페이먼츠 결제 확인 먼저 수행 (실패 시 예외 발생, 주문 생성 안 됨)
-        Map<String, Object> tossResponse = requestTossConfirm(request);
-        
-        // 결제 확인 성공 후에만 주문 생성 (결제 실패 시 주문 생성 안 됨)
-        Map<String, Object> order = orderService.createOrder(orderRequest);
-
-        Object finalPrice = order.get("finalPrice");
-        if (finalPrice instanceof Number) {
-            int actualAmount = ((Number) finalPrice).intValue();
-            if (!Objects.equals(actualAmount, request.getAmount())) {
-                throw new IllegalStateException("결제 금액이 주문 금액과 일치하지 않습니다.");
+        Map<String, Object> tossResponse;
+        try {
+            tossResponse = tossPaymentClient.confirm(request.getPaymentKey(), request.getOrderId(), request.getAmount());
+        } catch (TossPaymentClient.ResultUnknownException e) {
+            // 응답을 못 받았으면 승인됐을 수 있으므로 선점을 해제하지 않고 결과 확인 중으로 두고 토스에 조회
+            StockHold hold = stockHoldService.markUnknown(request.getOrderId(), request.getPaymentKey(), orderRequest);
+            if (hold == null) {
+                // 그 사이 선점이 해제됐으면 재고 없이 결제될 수 있으므로 취소 요청
+                cancelPayment(request, "결제 승인 응답 지연");
+                throw e;
+            }
+            Reconciled reconciled = reconcile(hold);
+            if (reconciled.order() != null) {
+                return reconciled.order();
             }
+            if (reconciled.released()) {
+                throw new IllegalStateException("결제가 승인되지 않았습니다. 다시 시도해주세요.", e);
+            }
+            throw new TossPaymentClient.ResultUnknownException("결제 결과를 확인 중입니다. 잠시 후 주문 내역을 확인해주세요.", e);
+        } catch (RuntimeException e) {
+            releaseHold(request);
+            throw e;
         }
 
-        order.put("payment", tossResponse);
-        return order;
+        try {
+            Map<String, Object> order = stockHoldService.confirmOrder(request.getOrderId(), orderRequest, request.getAmount());
+            order.put("payment", tossResponse);
+            return order;
+        } catch (RuntimeException e) {
+            cancelPayment(request, "주문 생성 실패");
+            releaseHold(request);
+            throw e;
+        }
     }
 
-    @SuppressWarnings("null")
-    private Map<String, Object> requestTossConfirm(PaymentConfirmRequest request) {
+    // 승인 결과 확인 중인 선점 정리 (응답 지연 직후 확인하지 못한 것, 다른 서버/재기동 전에 남은 것)
+    @Scheduled(fixedDelayString = "${payment.reconcile-interval-ms:60000}")
+    public void reconcileUnknown() {
+        for (StockHold hold : stockHoldService.findUnknown()) {
+            try {
+                reconcile(hold);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    // 토스에서 결제를 조회해 마무리 (승인됐으면 주문 생성, 승인되지 않았으면 선점 해제)
+    // 조회 실패/처리 중이면 선점은 결과 확인 중으로 남아 다음 점검에서 다시 확인
+    private Reconciled reconcile(StockHold hold) {
+        Map<String, Object> payment;
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            String basicAuth = Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-            headers.set(HttpHeaders.AUTHORIZATION, "Basic " + basicAuth);
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("paymentKey", request.getPaymentKey());
-            body.put("orderId", request.getOrderId());
-            body.put("amount", request.getAmount());
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-            ResponseEntity<Map<String, Object>> response =
-                    restTemplate.exchange(
-                            TOSS_CONFIRM_URL,
-                            HttpMethod.POST,
-                            entity,
-                            new ParameterizedTypeReference<Map<String, Object>>() {
-                            });
-            return response.getBody();
-        } catch (HttpStatusCodeException e) {
-            throw new IllegalStateException("토스 결제 승인 중 오류가 발생했습니다: " + e.getResponseBodyAsString(), e);
-        } catch (Exception e) {
-            throw new IllegalStateException("토스 결제 승인 중 오류가 발생했습니다.", e);
+            payment = tossPaymentClient.findByOrderId(hold.getTossOrderId());
+        } catch (TossPaymentClient.ResultUnknownException e) {
+            return new Reconciled(null, false);
+        }
+        String status = payment != null ? String.valueOf(payment.get("status")) : null;
+        if ("DONE".equals(status)) {
+            Integer paidAmount = payment.get("totalAmount") instanceof Number amount ? amount.intValue() : null;
+            Map<String, Object> order;
+            try {
+                order = stockHoldService.confirmUnknown(hold.getHoldId(), paidAmount);
+            } catch (RuntimeException e) {
+                // 주문 생성 실패 시 결제 취소, 취소가 확인된 경우에만 선점 해제
+                try {
+                    tossPaymentClient.cancel(hold.getPaymentKey(), "주문 생성 실패");
+                    stockHoldService.releaseUnknown(hold.getHoldId());
+                } catch (RuntimeException cancelError) {
+                    System.err.println("토스 결제 취소 실패 (다음 점검에서 다시 확인): orderId=" + hold.getTossOrderId());
+                    cancelError.printStackTrace();
+                }
+                throw e;
+            }
+            if (order != null) {
+                order.put("payment", payment);
+            }
+            return new Reconciled(order, false);
         }
+        // 결제 없음/중단/만료/취소는 승인되지 않은 것으로 보고 해제, 그 외(인증 완료 후 승인 처리 중 등)는 다음 점검까지 유지
+        if (status == null || NOT_APPROVED_STATUSES.contains(status)) {
+            stockHoldService.releaseUnknown(hold.getHoldId());
+            return new Reconciled(null, true);
+        }
+        return new Reconciled(null, false);
     }
-}
 
+    // 보상 처리 (실패해도 원래 예외를 그대로 던지도록 여기서 로그만 남김)
+    private void cancelPayment(PaymentConfirmRequest request, String reason) {
+        try {
+            tossPaymentClient.cancel(request.getPaymentKey(), reason);
+        } catch (RuntimeException e) {
+            System.err.println("토스 결제 취소 실패 (수동 확인 필요): orderId=" + request.getOrderId());
+            e.printStackTrace();
+        }
+    }
+
+    // 결과 확인 결과 (order: 주문을 만든 경우, released: 승인되지 않아 선점을 해제한 경우)
+    private record Reconciled(Map<String, Object> order, boolean released) {}
 
+    private void releaseHold(PaymentConfirmRequest request) {
+        try {
+            stockHoldService.release(request.getOrderId(), request.getOrderRequest().getUserId());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductDAO;
+import com.example.backend.dao.ProductImageDAO;
+import com.example.backend.dao.ProductListingDAO;
+import com.example.backend.dto.ProductCardDTO;
+import com.example.backend.entity.Product;
+import com.example.backend.entity.ProductImage;
+import com.example.backend.entity.ProductListing;
+import com.example.backend.entity.ProductPost;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// 상품 목록 카드 조립 (게시물 목록의 대표 이미지/최저가를 IN 쿼리 2번으로 조회)
+@Service
+public class ProductCardService {
+
+    @Autowired
+    private ProductImageDAO productImageDAO;
+
+    @Autowired
+    private ProductDAO productDAO;
+
+    @Autowired
+    private ProductListingDAO productListingDAO;
+
+    // 게시물 목록 → 카드 목록 (입력 순서 유지)
+    // 요약 테이블(PRODUCTLISTING)을 먼저 읽고, 요약 행이 없는 게시물만 옵션/이미지에서 계산
+    public List<ProductCardDTO> buildCards(List<ProductPost> posts) {
+        if (posts == null || posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> postIds = posts.stream()
+                .map(ProductPost::getPostId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Integer, ProductListing> listings = new HashMap<>();
+        for (ProductListing listing : productListingDAO.findByPostIds(postIds)) {
+            listings.put(listing.getPostId(), listing);
+        }
+        List<Integer> missingIds = postIds.stream()
+                .filter(postId -> !listings.containsKey(postId))
+                .collect(Collectors.toList());
+        Map<Integer, String> mainImageUrls = findMainImageUrls(missingIds);
+        Map<Integer, Product> minPriceProducts = missingIds.isEmpty()
+                ? Collections.emptyMap()
+                : findMinPriceProducts(missingIds, product -> true);
+
+        return posts.stream().map(post -> {
+            ProductListing listing = listings.get(post.getPostId());
+            if (listing == null) {
+                return toCard(post, mainImageUrls.get(post.getPostId()), minPriceProducts.get(post.getPostId()));
+            }
+            ProductCardDTO card = toCard(post, listing.getMainImageUrl(), null);
+            card.setPrice(listing.getMinPrice());
+            card.setDiscountPrice(listing.getMinDiscountPrice());
+            return card;
+        }).collect(Collectors.toList());
+    }
+
+    // 게시물 목록 → 카드 목록 (최저가는 productFilter를 통과한 옵션 중에서 계산)
+    public List<ProductCardDTO> buildCards(List<ProductPost> posts, Predicate<Product> productFilter) {
+        if (posts == null || posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> postIds = posts.stream()
+                .map(ProductPost::getPostId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Integer, String> mainImageUrls = findMainImageUrls(postIds);
+        Map<Integer, Product> minPriceProducts = findMinPriceProducts(postIds, productFilter);
+
+        return posts.stream()
+                .map(post -> toCard(post, mainImageUrls.get(post.getPostId()), minPriceProducts.get(post.getPostId())))
+                .collect(Collectors.toList());
+    }
+
+    // 카드 공통 응답 필드 (각 목록 API에서 필요한 필드를 추가해서 사용)
+    public Map<String, Object> toBaseItem(ProductCardDTO card) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("postId", card.getPostId());
+        item.put("postName", card.getPostName());
+        item.put("brand", card.getBrand());
+        item.put("categoryId", card.getCategoryId());
+        item.put("categoryName", card.getCategoryName());
+        item.put("wishCount", card.getWishCount());
+        item.put("imageUrl", card.getImageUrl());
+        item.put("price", card.getPrice());
+        item.put("discountPrice", card.getDiscountPrice());
+        return item;
+    }
+
+    // 게시물별 대표 이미지 (ISMAIN = 1인 GALLERY 이미지, 없으면 첫 번째 GALLERY 이미지)
+    public Map<Integer, String> findMainImageUrls(List<Integer> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, ProductImage> selected = new HashMap<>();
+        for (ProductImage img : productImageDAO.findByPostIds(postIds)) {
+            if (img.getImageType() != null && !"GALLERY".equalsIgnoreCase(img.getImageType())) {
+                continue;
+            }
+            ProductImage current = selected.get(img.getPostId());
+            boolean isMain = img.getIsMain() != null && img.getIsMain() == 1;
+            boolean currentIsMain = current != null && current.getIsMain() != null && current.getIsMain() == 1;
+            if (current == null || (isMain && !currentIsMain)) {
+                selected.put(img.getPostId(), img);
+            }
+        }
+        Map<Integer, String> urls = new HashMap<>();
+        selected.forEach((postId, img) -> urls.put(postId, img.getImageUrl()));
+        return urls;
+    }
+
+    // 게시물별 최저 실판매가(할인가 우선, 없으면 원가) 옵션
+    public Map<Integer, Product> findMinPriceProducts(List<Integer> postIds, Predicate<Product> productFilter) {
+        Map<Integer, Product> minProducts = new HashMap<>();
+        for (Product product : productDAO.findByPostIds(postIds)) {
+            Integer effectivePrice = effectivePrice(product);
+            if (effectivePrice == null || !productFilter.test(product)) {
+                continue;
+            }
+            Product current = minProducts.get(product.getPostId());
+            if (current == null || effectivePrice < effectivePrice(current)) {
+                minProducts.put(product.getPostId(), product);
+            }
+        }
+        return minProducts;
+    }
+
+    private Integer effectivePrice(Product product) {
+        return product.getDiscountPrice() != null ? product.getDiscountPrice() : product.getPrice();
+    }
+
+    private ProductCardDTO toCard(ProductPost post, String imageUrl, Product minPriceProduct) {
+        ProductCardDTO card = new ProductCardDTO();
+        card.setPostId(post.getPostId());
+        card.setPostName(post.getPostName());
+        card.setBrand(post.getBrand());
+        card.setCategoryId(post.getCategoryId());
+        card.setCategoryName(post.getCategory() != null ? post.getCategory().getCategoryName() : null);
+        card.setStatus(post.getStatus());
+        card.setGender(post.getGender());
+        card.setSeason(post.getSeason());
+        card.setViewCount(post.getViewCount() != null ? post.getViewCount() : 0);
+        card.setWishCount(post.getWishCount() != null ? post.getWishCount() : 0);
+        card.setCreatedAt(post.getCreatedAt());
+        card.setImageUrl(imageUrl);
+        if (minPriceProduct != null) {
+            card.setPrice(minPriceProduct.getPrice());
+            card.setDiscountPrice(minPriceProduct.getDiscountPrice());
+        }
+        return card;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 상품 상세 캐시 (사용자와 무관한 게시물/이미지/옵션 정보를 postId별로 보관)
+// 게시물 수정/삭제, 옵션 재고 변경 시 커밋 후 해당 게시물만 무효화 (게시물별 세대 번호를 올려서 이전 세대로 만든 결과는 버림)
+// 조회수/찜수는 캐시 항목의 카운터로 따로 관리해서 응답 시 덮어씀 (찜 여부는 호출하는 쪽에서 추가)
+@Service
+public class ProductDetailCacheService {
+
+    @Value("${product.detail.cache.max-size:5000}")
+    private int maxSize;
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    // 게시물별 무효화 세대 (조회 중 무효화된 결과를 캐시에 넣지 않기 위해 사용)
+    private final Map<Integer, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    // 캐시된 상세 정보 (없으면 loader로 만들어서 저장), 반환값은 조회수/찜수를 덮어쓴 복사본
+    public Map<String, Object> get(int postId, Supplier<Map<String, Object>> loader) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            Long generation = generations.get(postId);
+            entry = new Entry(loader.get());
+            if (entries.size() >= maxSize) {
+                evictSome();
+            }
+            Entry loaded = entry;
+            entries.compute(postId, (key, current) -> {
+                if (current != null) return current;
+                return Objects.equals(generations.get(postId), generation) ? loaded : null;
+            });
+        }
+        return entry.view();
+    }
+
+    // 조회수 1 증가 후 현재 조회수 반환 (캐시에 없으면 null)
+    public Integer incrementViewCount(int postId) {
+        Entry entry = entries.get(postId);
+        return entry != null ? entry.viewCount.incrementAndGet() : null;
+    }
+
+    // 찜 추가/삭제 후 호출
+    public void updateWishCount(int postId, int wishCount) {
+        afterCommit(() -> {
+            Entry entry = entries.get(postId);
+            if (entry != null) {
+                entry.wishCount.set(wishCount);
+            }
+        });
+    }
+
+    // 게시물 수정/삭제, 옵션 재고 변경 후 호출
+    public void evict(int postId) {
+        afterCommit(() -> {
+            generations.put(postId, generationSequence.incrementAndGet());
+            entries.remove(postId);
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 최대 개수를 넘으면 임의의 항목 1/10 제거
+    private void evictSome() {
+        int toRemove = Math.max(1, maxSize / 10);
+        Iterator<Integer> iterator = entries.keySet().iterator();
+        while (iterator.hasNext() && toRemove-- > 0) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static class Entry {
+        private final Map<String, Object> detail;
+        private final AtomicInteger viewCount;
+        private final AtomicInteger wishCount;
+
+        private Entry(Map<String, Object> detail) {
+            this.detail = Collections.unmodifiableMap(new HashMap<>(detail));
+            this.viewCount = new AtomicInteger(toInt(detail.get("viewCount")));
+            this.wishCount = new AtomicInteger(toInt(detail.get("wishCount")));
+        }
+
+        private Map<String, Object> view() {
+            Map<String, Object> view = new HashMap<>(detail);
+            view.put("viewCount", viewCount.get());
+            view.put("wishCount", wishCount.get());
+            return view;
+        }
+
+        private static int toInt(Object value) {
+            return value instanceof Number ? ((Number) value).intValue() : 0;
+        }
+    }
+}
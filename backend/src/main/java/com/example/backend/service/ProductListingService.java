@@ -0,0 +1,139 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductDAO;
+import com.example.backend.dao.ProductListingDAO;
+import com.example.backend.dao.ProductPostDAO;
+import com.example.backend.entity.Product;
+import com.example.backend.entity.ProductListing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// 상품 목록 요약 테이블(PRODUCTLISTING) 관리
+// 게시물 등록/수정 트랜잭션 안에서 동기적으로 갱신되고, 기동 시(비어 있거나 옵션 지정)/정기 일정으로 전체 재생성
+@Service
+public class ProductListingService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    @Value("${catalog.listing.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Autowired
+    private ProductListingDAO productListingDAO;
+
+    @Autowired
+    private ProductPostDAO productPostDAO;
+
+    @Autowired
+    private ProductDAO productDAO;
+
+    @Autowired
+    private ProductCardService productCardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 게시물 1건의 요약 정보 갱신 (옵션/이미지 저장 후 호출)
+    @Transactional
+    public ProductListing refresh(int postId) {
+        return productListingDAO.saveAll(buildListings(List.of(postId))).get(0);
+    }
+
+    // 게시물 삭제 시 요약 정보 삭제
+    @Transactional
+    public void delete(int postId) {
+        productListingDAO.deleteById(postId);
+    }
+
+    // 전체 재생성 (게시물 ID 순으로 나누어 처리, 한 트랜잭션으로 교체)
+    public synchronized int rebuildAll() {
+        Integer count = new TransactionTemplate(transactionManager).execute(status -> {
+            productListingDAO.deleteAll();
+            List<Integer> postIds = productPostDAO.findAllPostIds();
+            for (int from = 0; from < postIds.size(); from += REBUILD_BATCH_SIZE) {
+                List<Integer> chunk = postIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, postIds.size()));
+                productListingDAO.saveAll(buildListings(chunk));
+            }
+            return postIds.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    // 정기 전체 재생성 (catalog.listing.rebuild-cron, 기본값 "-"는 사용 안 함)
+    @Scheduled(cron = "${catalog.listing.rebuild-cron:-}")
+    public void rebuild() {
+        try {
+            rebuildAll();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 요약 테이블이 비어 있거나 catalog.listing.rebuild-on-startup=true 인 경우 기동 시 전체 재생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (rebuildOnStartup || productListingDAO.isEmpty()) {
+                rebuildAll();
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private List<ProductListing> buildListings(List<Integer> postIds) {
+        Map<Integer, String> mainImageUrls = productCardService.findMainImageUrls(postIds);
+        Map<Integer, Product> minPriceProducts = productCardService.findMinPriceProducts(postIds, product -> true);
+        Map<Integer, List<Product>> productsByPost = productDAO.findByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(Product::getPostId));
+
+        List<ProductListing> listings = new ArrayList<>();
+        for (Integer postId : postIds) {
+            List<Product> products = productsByPost.getOrDefault(postId, new ArrayList<>());
+            Product minProduct = minPriceProducts.get(postId);
+
+            ProductListing listing = new ProductListing();
+            listing.setPostId(postId);
+            listing.setMainImageUrl(mainImageUrls.get(postId));
+            if (minProduct != null) {
+                listing.setMinPrice(minProduct.getPrice());
+                listing.setMinDiscountPrice(minProduct.getDiscountPrice());
+                listing.setMinEffectivePrice(minProduct.getDiscountPrice() != null ? minProduct.getDiscountPrice() : minProduct.getPrice());
+            }
+            listing.setColors(joinDistinct(products.stream()
+                    .map(Product::getColor)
+                    .filter(Objects::nonNull)
+                    .map(color -> color.toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toList())));
+            listing.setSizes(joinDistinct(products.stream()
+                    .map(Product::getProductSize)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList())));
+            listings.add(listing);
+        }
+        return listings;
+    }
+
+    private String joinDistinct(List<String> values) {
+        String joined = values.stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .collect(Collectors.joining(","));
+        return joined.isEmpty() ? null : joined;
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.backend.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -10,20 +13,27 @@ import com.example.backend.entity.Category;
 import com.example.backend.dao.ProductDAO;
 import com.example.backend.dao.ProductImageDAO;
 import com.example.backend.dao.UserDAO;
+import com.example.backend.dto.PageCursor;
+import com.example.backend.dto.ProductCardDTO;
 import com.example.backend.dto.ProductPostDTO;
 import com.example.backend.dto.ProductDTO;
 import com.example.backend.entity.ProductPost;
 import com.example.backend.entity.Product;
 import com.example.backend.entity.ProductImage;
 import com.example.backend.entity.User;
+import com.example.backend.repository.ProductPostSpecification;
 import com.example.backend.service.ProductImageService;
 import com.example.backend.service.ImageService;
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.Locale;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,6 +55,15 @@ public class ProductPostService {
     private static final String SEASON_WINTER = "WTR";
     private static final String SEASON_ALL = "ALL";
     
+    // 목록 페이징 상수
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    // 패싯 개수 캐시 (필터 조합별, 인덱스가 바뀌거나 TTL이 지나면 다시 계산)
+    private static final long FACET_CACHE_TTL_MILLIS = 30_000;
+    private static final int FACET_CACHE_MAX_SIZE = 1000;
+    private final Map<String, FacetCacheEntry> facetCache = new ConcurrentHashMap<>();
+    
     @Autowired
     private ProductPostDAO productPostDAO;
     
@@ -72,6 +91,36 @@ public class ProductPostService {
     @Autowired
     private CategoryDAO categoryDAO;
     
+    @Autowired
+    private ProductCardService productCardService;
+    
+    @Autowired
+    private ProductListingService productListingService;
+    
+    @Autowired
+    private CatalogIndexService catalogIndexService;
+    
+    @Autowired
+    private SearchIndexService searchIndexService;
+    
+    @Autowired
+    private SuggestService suggestService;
+    
+    @Autowired
+    private HomeFeedService homeFeedService;
+    
+    @Autowired
+    private ProductDetailCacheService productDetailCacheService;
+    
+    @Autowired
+    private MainImageCacheService mainImageCacheService;
+    
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private StockHoldService stockHoldService;
+    
     // STATUS 변환: String → Integer (DB 저장용)
     private Integer convertStatusToDb(String status) {
         if (status == null) return STATUS_SELLING;
@@ -172,6 +221,13 @@ public class ProductPostService {
         productImageService.saveProductImages(savedPost, imageFiles, imageLinks, imageIsMain, "GALLERY");
         productImageService.saveProductImages(savedPost, descriptionImages, null, null, "DESCRIPTION");
         
+        // 목록 요약 테이블 / 필터 인덱스 / 검색 색인 / 자동완성 / 홈 화면 캐시 갱신
+        productListingService.refresh(savedPost.getPostId());
+        catalogIndexService.indexPost(savedPost, productDAO.findByPostId(savedPost.getPostId()));
+        searchIndexService.indexPost(savedPost);
+        suggestService.indexPost(savedPost);
+        homeFeedService.invalidateAll();
+        
         return savedPost;
     }
     
@@ -181,25 +237,29 @@ public class ProductPostService {
                 .orElseThrow(() -> new IllegalArgumentException("판매자를 찾을 수 없습니다. sellerId: " + sellerId));
     }
 
-    // 게시물의 갤러리 이미지 목록만 추출
-    private List<ProductImage> getGalleryImages(int postId) {
-        return productImageDAO.findByPostId(postId).stream()
-                .filter(img -> img.getImageType() == null || "GALLERY".equalsIgnoreCase(img.getImageType()))
-                .collect(Collectors.toList());
-    }
-
     // 상품 상세 정보 조회 + 조회수 증가
-    @Transactional
+    // 사용자와 무관한 정보는 상세 캐시에서 읽고, 조회수/찜수/찜 여부만 요청마다 덮어씀
+    // 조회수는 ViewCountService에 모아 주기적으로 일괄 반영하므로 읽기 전용 트랜잭션
+    @Transactional(readOnly = true)
     public Map<String, Object> getProductDetail(int postId, Integer userId) {
+        Map<String, Object> detail = productDetailCacheService.get(postId, () -> loadProductDetail(postId));
+
+        // 조회수 증가 (DB는 쓰기 지연, 응답은 캐시의 조회수 카운터)
+        viewCountService.increment(postId);
+        Integer viewCount = productDetailCacheService.incrementViewCount(postId);
+        detail.put("viewCount", viewCount != null ? viewCount : ((Number) detail.get("viewCount")).intValue() + 1);
+        detail.put("isWished", userId != null && wishlistService.isWished(userId, postId));
+
+        return detail;
+    }
+    
+    // 상품 상세 정보 중 사용자와 무관한 부분 (게시물, 이미지, 옵션, 컬러 목록)
+    private Map<String, Object> loadProductDetail(int postId) {
         ProductPost post = productPostDAO.findById(postId);
         if (post == null) {
             throw new IllegalArgumentException("게시물을 찾을 수 없습니다.");
         }
 
-        // 조회수 증가
-        post.setViewCount((post.getViewCount() != null ? post.getViewCount() : 0) + 1);
-        productPostDAO.save(post);
-
         List<ProductImage> allImages = productImageDAO.findByPostId(postId);
         List<Map<String, Object>> galleryImages = allImages.stream()
                 .filter(img -> img.getImageType() == null || "GALLERY".equalsIgnoreCase(img.getImageType()))
@@ -289,8 +349,9 @@ public class ProductPostService {
         detail.put("season", convertSeasonFromDb(post.getSeason()));
         detail.put("description", post.getDescription());
         detail.put("status", convertStatusFromDb(post.getStatus()));
-        detail.put("viewCount", post.getViewCount());
-        detail.put("wishCount", post.getWishCount());
+        // DB 조회수 + 아직 반영되지 않은 증가분
+        detail.put("viewCount", (int) ((post.getViewCount() != null ? post.getViewCount() : 0) + viewCountService.getPending(postId)));
+        detail.put("wishCount", post.getWishCount() != null ? post.getWishCount() : 0);
         detail.put("sellerId", post.getSellerId());
         detail.put("minPrice", minPrice);
         detail.put("minDiscountPrice", minDiscountPrice);
@@ -299,7 +360,7 @@ public class ProductPostService {
         detail.put("mainImageUrl", mainImageUrl);
         detail.put("products", productOptions);
         detail.put("colors", colors);
-        detail.put("isWished", userId != null && wishlistService.isWished(userId, postId));
+        detail.put("updatedAt", post.getUpdatedAt() != null ? post.getUpdatedAt().toString() : null);
 
         return detail;
     }
@@ -367,6 +428,15 @@ public class ProductPostService {
         // 이미지 업데이트
         updateProductImages(updatedPost, keptImageIds, keptImageLinks, newImageFiles, imageLinks, imageIsMain, mainImageIndex, keptDescriptionImageIds, newDescriptionImages);
         
+        // 목록 요약 테이블 / 필터 인덱스 / 검색 색인 / 자동완성 / 홈 화면 캐시 / 상세 캐시 / 대표 이미지 캐시 갱신
+        productListingService.refresh(updatedPost.getPostId());
+        catalogIndexService.indexPost(updatedPost, productDAO.findByPostId(updatedPost.getPostId()));
+        searchIndexService.indexPost(updatedPost);
+        suggestService.indexPost(updatedPost);
+        homeFeedService.invalidateAll();
+        productDetailCacheService.evict(updatedPost.getPostId());
+        mainImageCacheService.evict(updatedPost.getPostId());
+        
         return updatedPost;
     }
     
@@ -389,6 +459,8 @@ public class ProductPostService {
         List<Product> productsToDelete = existingProducts.stream()
                 .filter(product -> !updateProductIds.contains(product.getProductId()))
                 .collect(Collectors.toList());
+        // 삭제할 상품을 선점 중인 결제 전 주문은 해제 후 선점 상품 삭제
+        stockHoldService.deleteByProducts(productsToDelete.stream().map(Product::getProductId).collect(Collectors.toList()));
         productDAO.deleteAll(productsToDelete);
         
         // 업데이트 또는 생성
@@ -558,320 +630,346 @@ public class ProductPostService {
     public List<Map<String, Object>> findByBrand(String brand) {
         List<ProductPost> productPosts = productPostDAO.findByBrand(brand);
         
-        return productPosts.stream().map(post -> {
-            Map<String, Object> item = new HashMap<>();
-            item.put("postId", post.getPostId());
-            item.put("postName", post.getPostName());
-            item.put("brand", post.getBrand());
-            String categoryName = post.getCategory() != null ? post.getCategory().getCategoryName() : null;
-            item.put("categoryId", post.getCategoryId());
-            item.put("categoryName", categoryName);
-            item.put("status", convertStatusFromDb(post.getStatus()));
-            item.put("viewCount", post.getViewCount() != null ? post.getViewCount() : 0);
-            item.put("wishCount", post.getWishCount() != null ? post.getWishCount() : 0);
+        return productCardService.buildCards(productPosts).stream().map(card -> {
+            Map<String, Object> item = productCardService.toBaseItem(card);
+            item.put("status", convertStatusFromDb(card.getStatus()));
+            item.put("viewCount", card.getViewCount());
             // Timestamp를 String으로 변환
-            item.put("createdAt", post.getCreatedAt() != null ? post.getCreatedAt().toString() : null);
-            
-            // 대표 이미지 조회 (ISMAIN = 1인 이미지, 없으면 첫 번째 이미지)
-            String mainImageUrl = null;
-            List<ProductImage> images = getGalleryImages(post.getPostId());
-            if (images != null && !images.isEmpty()) {
-                ProductImage mainImage = images.stream()
-                    .filter(img -> img.getIsMain() != null && img.getIsMain() == 1)
-                    .findFirst()
-                    .orElse(images.get(0)); // isMain=1인 이미지가 없으면 첫 번째 GALLERY 이미지 사용
-                mainImageUrl = mainImage != null ? mainImage.getImageUrl() : null;
-            }
-            item.put("imageUrl", mainImageUrl);
-            
-            // 최소 가격 조회 (할인가 우선, 없으면 원가)
-            Integer minPrice = null;
-            Integer minDiscountPrice = null;
-            List<Product> products = productDAO.findByPostId(post.getPostId());
-            if (products != null && !products.isEmpty()) {
-                Product minPriceProduct = products.stream()
-                    .min((p1, p2) -> {
-                        Integer price1 = (p1.getDiscountPrice() != null) ? p1.getDiscountPrice() : p1.getPrice();
-                        Integer price2 = (p2.getDiscountPrice() != null) ? p2.getDiscountPrice() : p2.getPrice();
-                        if (price1 == null && price2 == null) return 0;
-                        if (price1 == null) return 1;
-                        if (price2 == null) return -1;
-                        return price1.compareTo(price2);
-                    })
-                    .orElse(null);
-                
-                if (minPriceProduct != null) {
-                    minPrice = minPriceProduct.getPrice();
-                    minDiscountPrice = minPriceProduct.getDiscountPrice();
-                }
-            }
-            item.put("price", minPrice);
-            item.put("discountPrice", minDiscountPrice);
-            
+            item.put("createdAt", card.getCreatedAt() != null ? card.getCreatedAt().toString() : null);
             return item;
         }).collect(Collectors.toList());
     }
     
-    // 인기순 조회 (찜수 기준, 이미지 및 최소 가격 포함) - WISHCOUNT 컬럼 사용
+    // 필터링된 게시물 목록 페이지 조회 (카테고리, 성별, 검색어, 컬러, 사이즈, 계절, 재고 필터링 지원)
+    // 메모리 필터 인덱스(검색어가 있으면 검색 색인도)가 준비되어 있으면 메모리에서 현재 페이지 게시물 ID를 구하고, 그 외에는 DB에서 필터/정렬/페이징 처리
+    // 검색어가 있고 sort=relevance 이면 검색 관련도순
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> findAllOrderByPopularity() {
-        List<ProductPost> productPosts = productPostDAO.findAllOrderByPopularity();
-        
-        // 디버깅: 찜수 확인
-        System.out.println("=== 인기순 조회 결과 (총 " + productPosts.size() + "개) ===");
-        for (ProductPost post : productPosts) {
-            System.out.println("POSTID: " + post.getPostId() + ", POSTNAME: " + post.getPostName() + ", WISHCOUNT: " + post.getWishCount());
-        }
-        
-        return productPosts.stream().map(post -> {
-            Map<String, Object> item = new HashMap<>();
-            item.put("postId", post.getPostId());
-            item.put("postName", post.getPostName());
-            item.put("brand", post.getBrand());
-            String categoryName = post.getCategory() != null ? post.getCategory().getCategoryName() : null;
-            item.put("categoryId", post.getCategoryId());
-            item.put("categoryName", categoryName);
-            item.put("status", convertStatusFromDb(post.getStatus()));
-            item.put("wishCount", post.getWishCount() != null ? post.getWishCount() : 0);
-            
-            // 대표 이미지 조회 (ISMAIN = 1인 이미지, 없으면 첫 번째 이미지)
-            String mainImageUrl = null;
-            List<ProductImage> images = getGalleryImages(post.getPostId());
-            if (images != null && !images.isEmpty()) {
-                ProductImage mainImage = images.stream()
-                    .filter(img -> img.getIsMain() != null && img.getIsMain() == 1)
-                    .findFirst()
-                    .orElse(images.get(0));
-                mainImageUrl = mainImage.getImageUrl();
-                System.out.println("POSTID " + post.getPostId() + " 이미지 URL: " + mainImageUrl);
+    public Map<String, Object> findWithFilters(String category, String gender, String search,
+                                               List<String> colors, List<String> sizes, List<String> seasons,
+                                               boolean inStockOnly, String sort, Integer page, Integer size) {
+        int pageNumber = page != null && page > 0 ? page : 0;
+        int pageSize = size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+
+        List<ProductPost> posts;
+        long totalCount;
+        String keyword = search != null ? search.replace("%", "").trim() : "";
+        if (catalogIndexService.isReady() && (keyword.isEmpty() || searchIndexService.isReady())) {
+            CatalogIndex.Filter filter = buildIndexFilter(category, gender, colors, sizes, seasons, inStockOnly);
+            List<Integer> hitIds = keyword.isEmpty() ? null : searchPostIds(keyword);
+            if (hitIds != null && ProductPostSpecification.SORT_RELEVANCE.equals(sort)) {
+                List<Integer> ranked = catalogIndexService.retainMatching(filter, hitIds);
+                int from = Math.min(pageNumber * pageSize, ranked.size());
+                posts = findAllByIdInOrder(ranked.subList(from, Math.min(from + pageSize, ranked.size())));
+                totalCount = ranked.size();
             } else {
-                System.out.println("POSTID " + post.getPostId() + " 이미지 없음");
+                filter.setPostIds(hitIds);
+                CatalogIndex.SearchResult result = catalogIndexService.search(filter, sort, pageNumber * pageSize, pageSize);
+                posts = findAllByIdInOrder(result.getPostIds());
+                totalCount = result.getTotalCount();
             }
-            item.put("imageUrl", mainImageUrl);
-            
-            // 최소 가격 조회 (할인가 우선, 없으면 원가)
-            Integer minPrice = null;
-            Integer minDiscountPrice = null;
-            List<Product> products = productDAO.findByPostId(post.getPostId());
-            if (products != null && !products.isEmpty()) {
-                Product minPriceProduct = products.stream()
-                    .min((p1, p2) -> {
-                        Integer price1 = (p1.getDiscountPrice() != null) ? p1.getDiscountPrice() : p1.getPrice();
-                        Integer price2 = (p2.getDiscountPrice() != null) ? p2.getDiscountPrice() : p2.getPrice();
-                        return price1.compareTo(price2);
-                    })
-                    .orElse(null);
-                
-                if (minPriceProduct != null) {
-                    minPrice = minPriceProduct.getPrice();
-                    minDiscountPrice = minPriceProduct.getDiscountPrice();
-                }
-            }
-            item.put("price", minPrice);
-            item.put("discountPrice", minDiscountPrice);
-            
-            return item;
-        }).collect(Collectors.toList());
+        } else {
+            Specification<ProductPost> spec = buildFilterSpecification(category, gender, search, colors, sizes, seasons, inStockOnly)
+                    .and(ProductPostSpecification.orderBy(sort, colors, sizes, inStockOnly));
+            Page<ProductPost> result = productPostDAO.findAll(spec, PageRequest.of(pageNumber, pageSize));
+            posts = result.getContent();
+            totalCount = result.getTotalElements();
+        }
+
+        // 컬러/사이즈/재고 필터에 맞는 옵션 중 최저가 표시
+        List<Map<String, Object>> items = toListItems(productCardService.buildCards(posts, optionFilter(colors, sizes, inStockOnly)));
+
+        Map<String, Object> pageResult = new HashMap<>();
+        pageResult.put("items", items);
+        pageResult.put("totalCount", totalCount);
+        pageResult.put("totalPages", (int) ((totalCount + pageSize - 1) / pageSize));
+        pageResult.put("page", pageNumber);
+        pageResult.put("size", pageSize);
+        pageResult.put("hasNext", (long) (pageNumber + 1) * pageSize < totalCount);
+        return pageResult;
     }
-    
-    // 최신순 조회 (생성일 기준, 이미지 및 최소 가격 포함)
+
+    // 상품 목록 커서 페이징 (필터/정렬은 findWithFilters와 같고, offset 대신 이전 페이지 마지막 게시물의 정렬 키 이후를 조회)
+    // 깊은 페이지도 건너뛸 행을 읽지 않고, 전체 개수(count 쿼리)는 계산하지 않음
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> findAllOrderByCreatedAtDesc() {
-        List<ProductPost> productPosts = productPostDAO.findAllOrderByCreatedAtDesc();
-        
-        return productPosts.stream().map(post -> {
-            Map<String, Object> item = new HashMap<>();
-            item.put("postId", post.getPostId());
-            item.put("postName", post.getPostName());
-            item.put("brand", post.getBrand());
-            String categoryName = post.getCategory() != null ? post.getCategory().getCategoryName() : null;
-            item.put("categoryId", post.getCategoryId());
-            item.put("categoryName", categoryName);
-            item.put("status", convertStatusFromDb(post.getStatus()));
-            
-            // 대표 이미지 조회 (ISMAIN = 1인 이미지, 없으면 첫 번째 이미지)
-            String mainImageUrl = null;
-            List<ProductImage> images = getGalleryImages(post.getPostId());
-            if (images != null && !images.isEmpty()) {
-                ProductImage mainImage = images.stream()
-                    .filter(img -> img.getIsMain() != null && img.getIsMain() == 1)
-                    .findFirst()
-                    .orElse(images.get(0));
-                mainImageUrl = mainImage.getImageUrl();
+    public Map<String, Object> findWithFiltersByCursor(String category, String gender, String search,
+                                                       List<String> colors, List<String> sizes, List<String> seasons,
+                                                       boolean inStockOnly, String sort, String cursor, Integer size) {
+        // 관련도순은 점수가 색인 변경에 따라 달라져 커서로 이어 보기 어려우므로 최신순으로 처리
+        String sortKey = sort != null && !sort.isEmpty() && !ProductPostSpecification.SORT_RELEVANCE.equals(sort)
+                ? sort : ProductPostSpecification.SORT_NEWEST;
+        int pageSize = size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        boolean popular = ProductPostSpecification.SORT_POPULAR.equals(sortKey);
+        boolean priceSort = ProductPostSpecification.SORT_PRICE_LOW.equals(sortKey)
+                || ProductPostSpecification.SORT_PRICE_HIGH.equals(sortKey);
+        PageCursor pageCursor = cursor != null && !cursor.isEmpty()
+                ? PageCursor.decode(cursor, sortKey, popular ? 3 : 2)
+                : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ProductPost> posts;
+        String keyword = search != null ? search.replace("%", "").trim() : "";
+        if (catalogIndexService.isReady() && (keyword.isEmpty() || searchIndexService.isReady())) {
+            CatalogIndex.Filter filter = buildIndexFilter(category, gender, colors, sizes, seasons, inStockOnly);
+            filter.setPostIds(keyword.isEmpty() ? null : searchPostIds(keyword));
+            long[] after = null;
+            if (pageCursor != null) {
+                after = popular
+                        ? new long[]{pageCursor.getInt(0), pageCursor.getTimestamp(1).getTime(), pageCursor.getInt(2)}
+                        : priceSort
+                        ? new long[]{pageCursor.getInt(0), pageCursor.getInt(1)}
+                        : new long[]{pageCursor.getTimestamp(0).getTime(), pageCursor.getInt(1)};
             }
-            item.put("imageUrl", mainImageUrl);
-            
-            // 최소 가격 조회 (할인가 우선, 없으면 원가)
-            Integer minPrice = null;
-            Integer minDiscountPrice = null;
-            List<Product> products = productDAO.findByPostId(post.getPostId());
-            if (products != null && !products.isEmpty()) {
-                Product minPriceProduct = products.stream()
-                    .min((p1, p2) -> {
-                        Integer price1 = (p1.getDiscountPrice() != null) ? p1.getDiscountPrice() : p1.getPrice();
-                        Integer price2 = (p2.getDiscountPrice() != null) ? p2.getDiscountPrice() : p2.getPrice();
-                        return price1.compareTo(price2);
-                    })
-                    .orElse(null);
-                
-                if (minPriceProduct != null) {
-                    minPrice = minPriceProduct.getPrice();
-                    minDiscountPrice = minPriceProduct.getDiscountPrice();
+            posts = findAllByIdInOrder(catalogIndexService.searchAfter(filter, sortKey, after, pageSize + 1).getPostIds());
+        } else {
+            Specification<ProductPost> spec = buildFilterSpecification(category, gender, search, colors, sizes, seasons, inStockOnly)
+                    .and(ProductPostSpecification.orderBy(sortKey, colors, sizes, inStockOnly));
+            if (pageCursor != null) {
+                spec = spec.and(popular
+                        ? ProductPostSpecification.popularAfter(pageCursor.getInt(0), pageCursor.getTimestamp(1), pageCursor.getInt(2))
+                        : priceSort
+                        ? ProductPostSpecification.priceAfter(sortKey, pageCursor.getInt(0), pageCursor.getInt(1), colors, sizes, inStockOnly)
+                        : ProductPostSpecification.createdBefore(pageCursor.getTimestamp(0), pageCursor.getInt(1)));
+            }
+            posts = productPostDAO.findFirst(spec, pageSize + 1);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        List<ProductCardDTO> cards = productCardService.buildCards(
+                hasNext ? posts.subList(0, pageSize) : posts, optionFilter(colors, sizes, inStockOnly));
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductCardDTO last = cards.get(cards.size() - 1);
+            Timestamp createdAt = last.getCreatedAt() != null ? last.getCreatedAt() : new Timestamp(0);
+            if (popular) {
+                nextCursor = PageCursor.encode(sortKey, last.getWishCount(), createdAt, last.getPostId());
+            } else if (priceSort) {
+                Integer price = last.getDiscountPrice() != null ? last.getDiscountPrice() : last.getPrice();
+                if (price == null) {
+                    price = ProductPostSpecification.SORT_PRICE_HIGH.equals(sortKey)
+                            ? ProductPostSpecification.MISSING_PRICE_HIGH
+                            : ProductPostSpecification.MISSING_PRICE_LOW;
                 }
+                nextCursor = PageCursor.encode(sortKey, price, last.getPostId());
+            } else {
+                nextCursor = PageCursor.encode(sortKey, createdAt, last.getPostId());
             }
-            item.put("price", minPrice);
-            item.put("discountPrice", minDiscountPrice);
-            
-            return item;
-        }).collect(Collectors.toList());
+        }
+
+        Map<String, Object> pageResult = new HashMap<>();
+        pageResult.put("items", toListItems(cards));
+        pageResult.put("size", pageSize);
+        pageResult.put("hasNext", hasNext);
+        pageResult.put("nextCursor", nextCursor);
+        return pageResult;
     }
-    
-    // 필터링된 게시물 목록 조회 (카테고리, 성별, 검색어, 컬러, 사이즈, 계절 필터링 지원)
+
+    // 메모리 필터 인덱스 조건
+    private CatalogIndex.Filter buildIndexFilter(String category, String gender, List<String> colors, List<String> sizes,
+                                                 List<String> seasons, boolean inStockOnly) {
+        CatalogIndex.Filter filter = new CatalogIndex.Filter();
+        filter.setCategoryPrefix(category);
+        filter.setGenders(resolveDbGenders(gender));
+        filter.setSeasons(resolveDbSeasons(seasons));
+        filter.setColors(colors);
+        filter.setSizes(sizes);
+        filter.setInStockOnly(inStockOnly);
+        return filter;
+    }
+
+    // 검색 색인에서 검색어에 맞는 게시물 ID (관련도순)
+    private List<Integer> searchPostIds(String keyword) {
+        return searchIndexService.search(keyword).stream()
+                .map(SearchIndex.Hit::getPostId)
+                .collect(Collectors.toList());
+    }
+
+    // 컬러/사이즈/재고 필터에 맞는 옵션 (카드 최저가 계산용)
+    private Predicate<Product> optionFilter(List<String> colors, List<String> sizes, boolean inStockOnly) {
+        return product ->
+                (colors == null || colors.isEmpty() || (product.getColor() != null && colors.contains(product.getColor().toLowerCase())))
+                && (sizes == null || sizes.isEmpty() || (product.getProductSize() != null && sizes.contains(product.getProductSize())))
+                && (!inStockOnly || (product.getStock() != null && product.getStock() > 0));
+    }
+
+    // 목록 응답 항목
+    private List<Map<String, Object>> toListItems(List<ProductCardDTO> cards) {
+        return cards.stream()
+                .map(card -> {
+                    Map<String, Object> item = productCardService.toBaseItem(card);
+                    item.put("status", convertStatusFromDb(card.getStatus()));
+                    item.put("gender", convertGenderFromDb(card.getGender()));
+                    item.put("season", convertSeasonFromDb(card.getSeason()));
+                    // Timestamp를 String으로 변환하여 JSON 직렬화 문제 해결
+                    item.put("createdAt", card.getCreatedAt() != null ? card.getCreatedAt().toString() : null);
+                    return item;
+                })
+                .collect(Collectors.toList());
+    }
+
+    // 필터 패싯별 게시물 수 조회 (성별/계절/컬러/사이즈, 목록 조회와 같은 파라미터)
+    // 각 패싯 값의 개수는 그 패싯을 제외한 나머지 필터를 모두 적용한 결과에서 그 값을 선택했을 때의 게시물 수
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> findWithFilters(String category, String gender, String search, 
-                                                      List<String> colors, List<String> sizes, List<String> seasons) {
-        // 모든 게시물 조회 (SELLING 상태만, DB에는 1로 저장됨)
-        List<ProductPost> allPosts = productPostDAO.findByStatus(STATUS_SELLING);
-        
-        return allPosts.stream()
-            .filter(post -> {
-                // 카테고리 필터링
-                if (category != null && !category.isEmpty()) {
-                    String postCategoryName = post.getCategory() != null ? post.getCategory().getCategoryName() : null;
-                    if (postCategoryName == null || !postCategoryName.startsWith(category)) {
-                        return false;
-                    }
-                }
-                
-                // 성별 필터링
-                if (gender != null && !gender.isEmpty() && !gender.equals("전체")) {
-                    String dbGender = convertGenderToDb(gender);
-                    String postGender = post.getGender();
-                    if (postGender == null || (!postGender.equals(dbGender) && !GENDER_UNISEX.equals(postGender))) {
-                        return false;
-                    }
-                }
-                
-                // 검색어 필터링 (게시물명 및 브랜드명)
-                if (search != null && !search.isEmpty()) {
-                    // % 제거하고 검색어 정리
-                    String searchTerm = search.replace("%", "").trim();
-                    if (searchTerm.isEmpty()) {
-                        // %만 입력된 경우는 모든 결과 반환
-                    } else {
-                        String searchTermLower = searchTerm.toLowerCase();
-                        String postNameLower = post.getPostName() != null ? post.getPostName().toLowerCase() : "";
-                        // BRAND 컬럼에서 값 가져오기 (null 체크 및 공백 제거)
-                        String brandValue = post.getBrand();
-                        String brandLower = (brandValue != null && !brandValue.trim().isEmpty()) 
-                            ? brandValue.trim().toLowerCase() : "";
-                        
-                        // 게시물명 또는 브랜드명에 검색어가 포함되어 있는지 확인 (LIKE 검색)
-                        boolean matchesPostName = !postNameLower.isEmpty() && postNameLower.contains(searchTermLower);
-                        boolean matchesBrand = !brandLower.isEmpty() && brandLower.contains(searchTermLower);
-                        
-                        // 디버깅: 브랜드 검색 확인
-                        if (searchTermLower.length() > 0) {
-                            System.out.println("[검색 디버깅] 검색어: '" + searchTermLower + "', 게시물명: '" + postNameLower + "', 브랜드: '" + brandLower + "', 게시물명매칭: " + matchesPostName + ", 브랜드매칭: " + matchesBrand);
-                        }
-                        
-                        if (!matchesPostName && !matchesBrand) {
-                            return false;
-                        }
-                    }
-                }
-                
-                // 계절 필터링
-                if (seasons != null && !seasons.isEmpty()) {
-                    List<String> dbSeasons = seasons.stream()
-                        .map(this::convertSeasonToDb)
-                        .collect(Collectors.toList());
-                    if (post.getSeason() == null || !dbSeasons.contains(post.getSeason())) {
-                        return false;
-                    }
-                }
-                
-                return true;
-            })
-            .map(post -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("postId", post.getPostId());
-                item.put("postName", post.getPostName());
-                item.put("brand", post.getBrand());
-                String categoryName = post.getCategory() != null ? post.getCategory().getCategoryName() : null;
-            item.put("categoryId", post.getCategoryId());
-            item.put("categoryName", categoryName);
-                item.put("status", convertStatusFromDb(post.getStatus()));
-                item.put("gender", convertGenderFromDb(post.getGender()));
-                item.put("season", convertSeasonFromDb(post.getSeason()));
-                item.put("wishCount", post.getWishCount() != null ? post.getWishCount() : 0);
-                // Timestamp를 String으로 변환하여 JSON 직렬화 문제 해결
-                item.put("createdAt", post.getCreatedAt() != null ? post.getCreatedAt().toString() : null);
-                
-                // 대표 이미지 조회
-                String mainImageUrl = null;
-                List<ProductImage> images = getGalleryImages(post.getPostId());
-                if (images != null && !images.isEmpty()) {
-                    ProductImage mainImage = images.stream()
-                        .filter(img -> img.getIsMain() != null && img.getIsMain() == 1)
-                        .findFirst()
-                        .orElse(images.get(0));
-                    mainImageUrl = mainImage.getImageUrl();
-                }
-                item.put("imageUrl", mainImageUrl);
-                
-                // 최소 가격 조회 (할인가 우선, 없으면 원가)
-                Integer minPrice = null;
-                Integer minDiscountPrice = null;
-                List<Product> products = productDAO.findByPostId(post.getPostId());
-                
-                // 컬러/사이즈 필터링
-                if (products != null && !products.isEmpty()) {
-                    List<Product> filteredProducts = products;
-                    
-                    // 컬러 필터링
-                    if (colors != null && !colors.isEmpty()) {
-                        filteredProducts = filteredProducts.stream()
-                            .filter(p -> p.getColor() != null && colors.contains(p.getColor().toLowerCase()))
-                            .collect(Collectors.toList());
-                    }
-                    
-                    // 사이즈 필터링
-                    if (sizes != null && !sizes.isEmpty()) {
-                        filteredProducts = filteredProducts.stream()
-                            .filter(p -> p.getProductSize() != null && sizes.contains(p.getProductSize()))
-                            .collect(Collectors.toList());
-                    }
-                    
-                    // 필터링된 상품 중 최소 가격 찾기
-                    if (!filteredProducts.isEmpty()) {
-                        Product minPriceProduct = filteredProducts.stream()
-                            .min((p1, p2) -> {
-                                Integer price1 = (p1.getDiscountPrice() != null) ? p1.getDiscountPrice() : p1.getPrice();
-                                Integer price2 = (p2.getDiscountPrice() != null) ? p2.getDiscountPrice() : p2.getPrice();
-                                return price1.compareTo(price2);
-                            })
-                            .orElse(null);
-                        
-                        if (minPriceProduct != null) {
-                            minPrice = minPriceProduct.getPrice();
-                            minDiscountPrice = minPriceProduct.getDiscountPrice();
-                        }
-                    }
-                }
-                
-                item.put("price", minPrice);
-                item.put("discountPrice", minDiscountPrice);
-                
-                return item;
-            })
-            .filter(item -> {
-                // 컬러/사이즈 필터링 후 가격이 있는 상품만 반환
-                return item.get("price") != null;
-            })
+    public Map<String, Object> findFacetCounts(String category, String gender, String search,
+                                               List<String> colors, List<String> sizes, List<String> seasons,
+                                               boolean inStockOnly) {
+        String keyword = search != null ? search.replace("%", "").trim() : "";
+        CatalogIndex.Filter filter = new CatalogIndex.Filter();
+        filter.setCategoryPrefix(category != null && !category.trim().isEmpty() ? category.trim() : null);
+        filter.setGenders(resolveDbGenders(gender));
+        filter.setSeasons(normalizeValues(resolveDbSeasons(seasons), false));
+        filter.setColors(normalizeValues(colors, true));
+        filter.setSizes(normalizeValues(sizes, false));
+        filter.setInStockOnly(inStockOnly);
+
+        String cacheKey = String.join("|", String.valueOf(filter.getCategoryPrefix()), String.valueOf(filter.getGenders()),
+                String.valueOf(filter.getSeasons()), String.valueOf(filter.getColors()), String.valueOf(filter.getSizes()),
+                String.valueOf(inStockOnly), keyword.toLowerCase(Locale.ROOT));
+        long version = catalogIndexService.isReady() ? catalogIndexService.getVersion() : -1;
+        FacetCacheEntry cached = facetCache.get(cacheKey);
+        if (cached != null && cached.version == version && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.result;
+        }
+
+        Map<String, Map<String, Integer>> rawCounts;
+        int totalCount;
+        if (catalogIndexService.isReady()) {
+            if (!keyword.isEmpty()) {
+                filter.setPostIds(searchIndexService.isReady()
+                        ? searchPostIds(keyword)
+                        : productPostDAO.findAll(sellingPostSpecification(null, keyword)).stream()
+                                .map(ProductPost::getPostId)
+                                .collect(Collectors.toList()));
+            }
+            rawCounts = catalogIndexService.facetCounts(filter);
+            totalCount = catalogIndexService.count(filter);
+        } else {
+            // 인덱스를 쓰지 않는 경우: 카테고리/검색어로 좁힌 게시물과 옵션을 한 번에 읽어 임시 인덱스에서 계산
+            List<ProductPost> posts = productPostDAO.findAll(sellingPostSpecification(category, keyword));
+            List<Integer> postIds = posts.stream().map(ProductPost::getPostId).collect(Collectors.toList());
+            CatalogIndex snapshot = catalogIndexService.buildIndex(posts, productDAO.findByPostIds(postIds));
+            rawCounts = snapshot.facetCounts(filter);
+            totalCount = snapshot.count(filter);
+        }
+
+        // 성별은 목록 필터와 같이 UNISEX 게시물을 남성/여성에 모두 포함
+        Map<String, Integer> genderCounts = rawCounts.get(CatalogIndex.FACET_GENDER);
+        int unisexCount = genderCounts.getOrDefault(GENDER_UNISEX, 0);
+        Map<String, Integer> genders = new TreeMap<>();
+        genders.put(convertGenderFromDb(GENDER_MEN), genderCounts.getOrDefault(GENDER_MEN, 0) + unisexCount);
+        genders.put(convertGenderFromDb(GENDER_WOMEN), genderCounts.getOrDefault(GENDER_WOMEN, 0) + unisexCount);
+        genders.put(convertGenderFromDb(GENDER_UNISEX), unisexCount);
+
+        Map<String, Integer> seasonCounts = new TreeMap<>();
+        rawCounts.get(CatalogIndex.FACET_SEASON).forEach((code, count) -> seasonCounts.put(convertSeasonFromDb(code), count));
+
+        Map<String, Object> facets = new HashMap<>();
+        facets.put("gender", genders);
+        facets.put("season", seasonCounts);
+        facets.put("color", new TreeMap<>(rawCounts.get(CatalogIndex.FACET_COLOR)));
+        facets.put("size", new TreeMap<>(rawCounts.get(CatalogIndex.FACET_SIZE)));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("facets", facets);
+        result.put("totalCount", totalCount);
+
+        if (facetCache.size() >= FACET_CACHE_MAX_SIZE) {
+            facetCache.clear();
+        }
+        facetCache.put(cacheKey, new FacetCacheEntry(version, System.currentTimeMillis() + FACET_CACHE_TTL_MILLIS, result));
+        return result;
+    }
+
+    // 판매중 게시물 중 카테고리/검색어 조건 (옵션 조건 없음)
+    private Specification<ProductPost> sellingPostSpecification(String category, String keyword) {
+        return ProductPostSpecification.statusEquals(STATUS_SELLING)
+                .and(ProductPostSpecification.categoryStartsWith(category))
+                .and(ProductPostSpecification.keywordContains(keyword));
+    }
+
+    // 캐시 키 정규화 (앞뒤 공백 제거, 중복 제거, 정렬)
+    private List<String> normalizeValues(List<String> values, boolean lowerCase) {
+        if (values == null) {
+            return null;
+        }
+        List<String> normalized = values.stream()
+                .filter(value -> value != null)
+                .map(value -> lowerCase ? value.trim().toLowerCase(Locale.ROOT) : value.trim())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static class FacetCacheEntry {
+        private final long version;
+        private final long expiresAt;
+        private final Map<String, Object> result;
+
+        private FacetCacheEntry(long version, long expiresAt, Map<String, Object> result) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+            this.result = result;
+        }
+    }
+
+    // 게시물 ID 목록 순서대로 게시물 조회 (IN 쿼리 1번)
+    private List<ProductPost> findAllByIdInOrder(List<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, ProductPost> postMap = productPostDAO.findAllById(postIds).stream()
+                .collect(Collectors.toMap(ProductPost::getPostId, post -> post));
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(post -> post != null)
+                .collect(Collectors.toList());
+    }
+
+    // 성별 필터 → DB 코드 목록 (UNISEX 게시물은 항상 포함, 필터 없으면 null)
+    private List<String> resolveDbGenders(String gender) {
+        if (gender == null || gender.isEmpty() || gender.equals("전체")) {
+            return null;
+        }
+        List<String> dbGenders = new ArrayList<>();
+        String dbGender = convertGenderToDb(gender);
+        if (dbGender != null) {
+            dbGenders.add(dbGender);
+        }
+        dbGenders.add(GENDER_UNISEX);
+        return dbGenders;
+    }
+
+    // 계절 필터 → DB 코드 목록 (변환 가능한 값이 없으면 아무것도 일치하지 않도록 빈 코드, 필터 없으면 null)
+    private List<String> resolveDbSeasons(List<String> seasons) {
+        if (seasons == null || seasons.isEmpty()) {
+            return null;
+        }
+        List<String> dbSeasons = seasons.stream()
+            .map(this::convertSeasonToDb)
+            .filter(season -> season != null)
             .collect(Collectors.toList());
+        return dbSeasons.isEmpty() ? List.of("") : dbSeasons;
     }
-    
+
+    // 목록 필터 조건 생성 (SELLING 상태만, DB에는 1로 저장됨)
+    private Specification<ProductPost> buildFilterSpecification(String category, String gender, String search,
+                                                                List<String> colors, List<String> sizes, List<String> seasons,
+                                                                boolean inStockOnly) {
+        Specification<ProductPost> spec = ProductPostSpecification.statusEquals(STATUS_SELLING)
+                .and(ProductPostSpecification.categoryStartsWith(category))
+                .and(ProductPostSpecification.hasMatchingProduct(colors, sizes, inStockOnly))
+                .and(ProductPostSpecification.genderIn(resolveDbGenders(gender)));
+
+        // 검색어 필터링 (게시물명 및 브랜드명, %만 입력된 경우는 모든 결과 반환)
+        if (search != null && !search.isEmpty()) {
+            spec = spec.and(ProductPostSpecification.keywordContains(search.replace("%", "").trim()));
+        }
+
+        // 계절 필터링
+        return spec.and(ProductPostSpecification.seasonIn(resolveDbSeasons(seasons)));
+    }
+
     // 게시물 삭제
     @Transactional
     public void deleteProductPost(int postId) {
@@ -880,9 +978,13 @@ public class ProductPostService {
             throw new IllegalArgumentException("게시물을 찾을 수 없습니다.");
         }
         
-        // 관련 Product 삭제
+        // 목록 요약 정보 삭제
+        productListingService.delete(postId);
+        
+        // 관련 Product 삭제 (선점 중인 결제 전 주문은 해제 후 선점 상품 삭제)
         List<Product> products = productDAO.findByPostId(postId);
         if (products != null && !products.isEmpty()) {
+            stockHoldService.deleteByProducts(products.stream().map(Product::getProductId).collect(Collectors.toList()));
             productDAO.deleteAll(products);
         }
         
@@ -894,6 +996,17 @@ public class ProductPostService {
         
         // ProductPost 삭제
         productPostDAO.deleteById(postId);
+        removePostCaches(postId);
+    }
+    
+    // 삭제된 게시물을 색인/캐시에서 제거 (회원 탈퇴로 게시물을 삭제할 때도 사용)
+    public void removePostCaches(int postId) {
+        catalogIndexService.removePost(postId);
+        searchIndexService.removePost(postId);
+        suggestService.removePost(postId);
+        homeFeedService.invalidateAll();
+        productDetailCacheService.evict(postId);
+        mainImageCacheService.evict(postId);
     }
     
     // Product STATUS 변환: String → Integer (DB 저장용)
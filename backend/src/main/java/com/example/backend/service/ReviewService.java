@@ -5,6 +5,7 @@ import com.example.backend.dao.ReviewImageDAO;
 import com.example.backend.dao.UserDAO;
 import com.example.backend.dao.ProductPostDAO;
 import com.example.backend.dao.ProductDAO;
+import com.example.backend.dto.PageCursor;
 import com.example.backend.entity.Review;
 import com.example.backend.entity.ReviewImage;
 import com.example.backend.entity.User;
@@ -18,13 +19,21 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class ReviewService {
     
+    // 커서 페이징 상수
+    private static final String CURSOR_SORT = "latest";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
     @Autowired
     private ReviewDAO reviewDAO;
     
@@ -180,6 +189,42 @@ public class ReviewService {
         return allReviews;
     }
     
+    // 리뷰 목록 커서 페이징 조회 (게시물/작성자/판매자 중 하나 기준, 최신순)
+    // 반환: reviews(현재 페이지), hasNext, nextCursor
+    @Transactional(readOnly = true)
+    public Map<String, Object> getReviewPage(Integer postId, Integer userId, Integer sellerId, String cursor, Integer limit) {
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        Timestamp createdAt = null;
+        int reviewId = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            PageCursor pageCursor = PageCursor.decode(cursor, CURSOR_SORT, 2);
+            createdAt = pageCursor.getTimestamp(0);
+            reviewId = pageCursor.getInt(1);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Review> reviews;
+        if (postId != null) {
+            reviews = reviewDAO.findPageByPostId(postId, createdAt, reviewId, pageSize + 1);
+        } else if (userId != null) {
+            reviews = reviewDAO.findPageByUserId(userId, createdAt, reviewId, pageSize + 1);
+        } else if (sellerId != null) {
+            reviews = reviewDAO.findPageBySellerId(sellerId, createdAt, reviewId, pageSize + 1);
+        } else {
+            throw new IllegalArgumentException("postId, userId 또는 sellerId를 입력해주세요.");
+        }
+
+        boolean hasNext = reviews.size() > pageSize;
+        List<Review> page = hasNext ? new ArrayList<>(reviews.subList(0, pageSize)) : reviews;
+        Review last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("reviews", page);
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext ? PageCursor.encode(CURSOR_SORT, last.getCreatedAt(), last.getReviewId()) : null);
+        return result;
+    }
+    
     // 리뷰 ID로 조회
     public Review getReviewById(int reviewId) {
         return reviewDAO.findById(reviewId)
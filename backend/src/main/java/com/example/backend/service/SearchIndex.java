@@ -0,0 +1,230 @@
+package com.example.backend.service;
+
+import lombok.Data;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 상품 검색용 메모리 역색인 (게시물명/브랜드/카테고리/소재/설명)
+// 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많아 형태소 대신 2글자 단위(bigram)로 색인 → 부분 문자열 검색과 같은 효과
+// 검색어의 모든 토큰을 포함하는 게시물만 반환하고, BM25 점수(필드별 가중치 적용) 순으로 정렬
+public class SearchIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 필드 가중치 (게시물명 > 브랜드 > 카테고리 > 소재/설명)
+    private static final double WEIGHT_POST_NAME = 3.0;
+    private static final double WEIGHT_BRAND = 2.0;
+    private static final double WEIGHT_CATEGORY = 1.5;
+    private static final double WEIGHT_MATERIAL = 1.0;
+    private static final double WEIGHT_DESCRIPTION = 1.0;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 → (postId → 가중치 적용 빈도)
+    private final Map<String, Map<Integer, Double>> postings = new HashMap<>();
+    // postId → (토큰 → 가중치 적용 빈도), 수정/삭제 시 기존 색인 제거용
+    private final Map<Integer, Map<String, Double>> docTerms = new HashMap<>();
+    private final Map<Integer, Double> docLengths = new HashMap<>();
+    private double totalLength = 0;
+
+    // 게시물 등록/수정 (기존 색인을 지우고 다시 색인)
+    public void putPost(Document document) {
+        Map<String, Double> terms = new HashMap<>();
+        double length = 0;
+        length += addField(terms, document.getPostName(), WEIGHT_POST_NAME);
+        length += addField(terms, document.getBrand(), WEIGHT_BRAND);
+        length += addField(terms, document.getCategoryName(), WEIGHT_CATEGORY);
+        length += addField(terms, document.getMaterial(), WEIGHT_MATERIAL);
+        length += addField(terms, stripTags(document.getDescription()), WEIGHT_DESCRIPTION);
+
+        lock.writeLock().lock();
+        try {
+            removeTerms(document.getPostId());
+            for (Map.Entry<String, Double> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(document.getPostId(), term.getValue());
+            }
+            docTerms.put(document.getPostId(), terms);
+            docLengths.put(document.getPostId(), length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시물 삭제
+    public void removePost(int postId) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 토큰을 포함하는 게시물 (점수 내림차순, 같은 점수는 최신 게시물(postId 큰 순) 우선)
+    public List<Hit> search(String query) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(queryTokens(query)));
+        List<Hit> hits = new ArrayList<>();
+        if (queryTerms.isEmpty()) {
+            return hits;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Integer, Double>> lists = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Integer, Double> list = postings.get(term);
+                if (list == null) {
+                    return hits;
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 목록부터 순회하며 나머지 목록에 모두 있는 게시물만 채점
+            lists.sort(Comparator.comparingInt(Map::size));
+            int docCount = docLengths.size();
+            double avgLength = docCount > 0 ? totalLength / docCount : 1;
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).size();
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            for (Integer postId : lists.get(0).keySet()) {
+                double lengthNorm = K1 * (1 - B + B * docLengths.get(postId) / avgLength);
+                double score = 0;
+                boolean matched = true;
+                for (int i = 0; i < lists.size() && matched; i++) {
+                    Double tf = lists.get(i).get(postId);
+                    if (tf == null) {
+                        matched = false;
+                    } else {
+                        score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                    }
+                }
+                if (matched) {
+                    hits.add(new Hit(postId, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+                .thenComparing(Comparator.comparingInt(Hit::getPostId).reversed()));
+        return hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인용 토큰: 글자/숫자 연속 구간마다 1글자 토큰 + 2글자 토큰
+    // 1글자 토큰은 한 글자 검색어용 ("셔" → "셔츠", "티셔츠" 모두 검색)
+    static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어 토큰: 2글자 이상 단어는 2글자 토큰, 1글자 단어는 1글자 토큰
+    static List<String> queryTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 정규화(전각/반각 통일, 소문자) 후 글자/숫자 연속 구간으로 분리
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static double addField(Map<String, Double> terms, String text, double weight) {
+        List<String> tokens = indexTokens(text);
+        for (String token : tokens) {
+            terms.merge(token, weight, Double::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private static String stripTags(String html) {
+        return html != null ? html.replaceAll("<[^>]*>", " ") : null;
+    }
+
+    private void removeTerms(int postId) {
+        Map<String, Double> terms = docTerms.remove(postId);
+        if (terms == null) return;
+        for (String term : terms.keySet()) {
+            Map<Integer, Double> list = postings.get(term);
+            if (list != null) {
+                list.remove(postId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= docLengths.remove(postId);
+    }
+
+    @Data
+    public static class Document {
+        private int postId;
+        private String postName;
+        private String brand;
+        private String categoryName;
+        private String material;
+        private String description;
+    }
+
+    @Data
+    public static class Hit {
+        private final int postId;
+        private final double score;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductPostDAO;
+import com.example.backend.entity.ProductPost;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// 상품 검색 색인 관리 (기동 시 전체 색인, 이후 게시물 등록/수정/삭제를 커밋 후 반영)
+// 색인 전이거나 catalog.search.enabled=false 이면 isReady()가 false → 검색어는 DB LIKE 조건으로 처리
+@Service
+public class SearchIndexService {
+
+    @Value("${catalog.search.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    private ProductPostDAO productPostDAO;
+
+    private volatile SearchIndex index;
+
+    // 기동 시 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        SearchIndex loaded = new SearchIndex();
+        for (ProductPost post : productPostDAO.findAll()) {
+            loaded.putPost(toDocument(post));
+        }
+        index = loaded;
+        System.out.println("상품 검색 색인 완료: " + loaded.size() + "건");
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    // 검색어에 맞는 게시물 (관련도순)
+    public List<SearchIndex.Hit> search(String keyword) {
+        return index.search(keyword);
+    }
+
+    // 게시물 등록/수정 후 호출 (엔티티 값은 지금 복사하고 색인 반영은 커밋 후)
+    public void indexPost(ProductPost post) {
+        if (!isReady()) return;
+        SearchIndex.Document document = toDocument(post);
+        afterCommit(() -> index.putPost(document));
+    }
+
+    // 게시물 삭제 후 호출
+    public void removePost(int postId) {
+        if (!isReady()) return;
+        afterCommit(() -> index.removePost(postId));
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private SearchIndex.Document toDocument(ProductPost post) {
+        SearchIndex.Document document = new SearchIndex.Document();
+        document.setPostId(post.getPostId());
+        document.setPostName(post.getPostName());
+        document.setBrand(post.getBrand());
+        document.setCategoryName(post.getCategory() != null ? post.getCategory().getCategoryName() : null);
+        document.setMaterial(post.getMaterial());
+        document.setDescription(post.getDescription());
+        return document;
+    }
+}
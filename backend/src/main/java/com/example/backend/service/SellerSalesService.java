@@ -0,0 +1,238 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.SellerSalesDAO;
+import com.example.backend.dao.SellerSalesDAO.SalesKey;
+import com.example.backend.entity.OrderItem;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.backend.dao.SellerSalesDAO.*;
+
+// 판매자 일별 판매 집계 (판매자/주문일/게시물/상품별 주문·배송완료·구매확정·취소·환불 수량과 금액)
+// 주문상세 생성/상태 변경/삭제 시 같은 트랜잭션 안에서 증감분을 MERGE (주문상세 변경과 함께 커밋/롤백)
+// 모든 수치는 주문일 행에 반영하고 취소/환불/배송완료/구매확정은 현재 상태 기준이라 ORDERITEM에서 그대로 다시 계산할 수 있음
+// 집계를 거치지 않은 변경(직접 수정한 데이터 등)은 매일 재계산으로 맞춤
+@Service
+public class SellerSalesService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+
+    @Autowired
+    private SellerSalesDAO sellerSalesDAO;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 주문상세 생성 (주문 수량/금액 + 현재 상태)
+    @Transactional
+    public void recordCreated(Collection<OrderItem> orderItems) {
+        Map<SalesKey, long[]> deltas = new HashMap<>();
+        for (OrderItem item : orderItems) {
+            long[] delta = new long[METRIC_COUNT];
+            delta[ORDERED_QTY] = quantity(item);
+            delta[ORDERED_AMOUNT] = amount(item);
+            addStatus(delta, item, item.getStatus(), 1);
+            deltas.merge(key(item), delta, SellerSalesService::sum);
+        }
+        sellerSalesDAO.addDeltas(deltas);
+    }
+
+    // 주문상세 삭제 (생성 때 더한 값을 모두 뺌)
+    @Transactional
+    public void recordRemoved(Collection<OrderItem> orderItems) {
+        Map<SalesKey, long[]> deltas = new HashMap<>();
+        for (OrderItem item : orderItems) {
+            long[] delta = new long[METRIC_COUNT];
+            delta[ORDERED_QTY] = -quantity(item);
+            delta[ORDERED_AMOUNT] = -amount(item);
+            addStatus(delta, item, item.getStatus(), -1);
+            deltas.merge(key(item), delta, SellerSalesService::sum);
+        }
+        sellerSalesDAO.addDeltas(deltas);
+    }
+
+    // 주문상세 상태 변경 (이전 상태 집계에서 빼고 새 상태 집계에 더함, DB 상태 코드)
+    @Transactional
+    public void recordStatusChange(OrderItem item, String previousStatus, String newStatus) {
+        long[] delta = new long[METRIC_COUNT];
+        addStatus(delta, item, previousStatus, -1);
+        addStatus(delta, item, newStatus, 1);
+        if (Arrays.stream(delta).anyMatch(value -> value != 0)) {
+            sellerSalesDAO.addDeltas(Map.of(key(item), delta));
+        }
+    }
+
+    // 여러 주문상세를 같은 상태로 변경 (주문상세의 현재 상태를 이전 상태로 보고 증감분을 합쳐 한 번에 반영)
+    @Transactional
+    public void recordStatusChanges(Collection<OrderItem> orderItems, String newStatus) {
+        Map<SalesKey, long[]> deltas = new HashMap<>();
+        for (OrderItem item : orderItems) {
+            long[] delta = new long[METRIC_COUNT];
+            addStatus(delta, item, item.getStatus(), -1);
+            addStatus(delta, item, newStatus, 1);
+            if (Arrays.stream(delta).anyMatch(value -> value != 0)) {
+                deltas.merge(key(item), delta, SellerSalesService::sum);
+            }
+        }
+        sellerSalesDAO.addDeltas(deltas);
+    }
+
+    // 판매자 기간 통계 (from/to: yyyy-MM-dd, 기본 최근 30일, 집계 테이블만 조회)
+    public Map<String, Object> getStats(int sellerId, String from, String to) {
+        LocalDate toDate = parseDate(to, LocalDate.now());
+        LocalDate fromDate = parseDate(from, toDate.minusDays(DEFAULT_RANGE_DAYS - 1));
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        // 판매가 없는 날은 0으로 채움
+        Map<String, Map<String, Object>> daily = new LinkedHashMap<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("date", date.toString());
+            addSummary(row, new long[METRIC_COUNT]);
+            daily.put(date.toString(), row);
+        }
+        long[] totals = new long[METRIC_COUNT];
+        for (Map<String, Object> row : sellerSalesDAO.findDailyTotals(sellerId, fromDate, toDate)) {
+            long[] metrics = metrics(row);
+            addSummary(row, metrics);
+            daily.put((String) row.get("date"), row);
+            totals = sum(totals, metrics);
+        }
+        List<Map<String, Object>> posts = sellerSalesDAO.findPostTotals(sellerId, fromDate, toDate);
+        posts.forEach(row -> addSummary(row, metrics(row)));
+
+        Map<String, Object> totalRow = new LinkedHashMap<>();
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            totalRow.put(metricKey(i), totals[i]);
+        }
+        addSummary(totalRow, totals);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("sellerId", sellerId);
+        response.put("from", fromDate.toString());
+        response.put("to", toDate.toString());
+        response.put("totals", totalRow);
+        response.put("daily", new ArrayList<>(daily.values()));
+        response.put("posts", posts);
+        return response;
+    }
+
+    // ORDERITEM 기준 전체 재계산 (집계 테이블을 잠가 진행 중인 증감분 반영이 끝난 뒤 계산하고, 재계산 중 증감분은 끝날 때까지 대기)
+    @Scheduled(cron = "${seller.sales.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> sellerSalesDAO.rebuild());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 집계가 비어 있으면 기동 시 한 번 채움 (최초 배포)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (sellerSalesDAO.isEmpty()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 상태별 집계 (배송완료/구매확정/취소/환불, 결제완료/배송중은 주문 수량에만 포함)
+    private void addStatus(long[] delta, OrderItem item, String status, int sign) {
+        if (status == null) {
+            return;
+        }
+        switch (status) {
+            case "dld":
+                delta[DELIVERED_QTY] += sign * quantity(item);
+                break;
+            case "cnf":
+            case "con":
+                delta[CONFIRMED_QTY] += sign * quantity(item);
+                break;
+            case "can":
+                delta[CANCELED_QTY] += sign * quantity(item);
+                delta[CANCELED_AMOUNT] += sign * amount(item);
+                break;
+            case "ref":
+                delta[REFUNDED_QTY] += sign * quantity(item);
+                delta[REFUNDED_AMOUNT] += sign * amount(item);
+                break;
+            default:
+                break;
+        }
+    }
+
+    // 순매출/순판매수량/환불률 (환불률 = 환불 수량 / 취소 제외 주문 수량)
+    private void addSummary(Map<String, Object> row, long[] metrics) {
+        row.put("netAmount", metrics[ORDERED_AMOUNT] - metrics[CANCELED_AMOUNT] - metrics[REFUNDED_AMOUNT]);
+        row.put("unitsSold", metrics[ORDERED_QTY] - metrics[CANCELED_QTY] - metrics[REFUNDED_QTY]);
+        long paidQty = metrics[ORDERED_QTY] - metrics[CANCELED_QTY];
+        row.put("refundRate", paidQty > 0 ? Math.round(metrics[REFUNDED_QTY] * 10000.0 / paidQty) / 10000.0 : 0.0);
+    }
+
+    private long[] metrics(Map<String, Object> row) {
+        long[] metrics = new long[METRIC_COUNT];
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            metrics[i] = (Long) row.get(metricKey(i));
+        }
+        return metrics;
+    }
+
+    private SalesKey key(OrderItem item) {
+        LocalDate saleDate = item.getCreatedAt() != null ? item.getCreatedAt().toLocalDateTime().toLocalDate() : LocalDate.now();
+        return new SalesKey(item.getSellerId(), saleDate, item.getPostId(), item.getProductId());
+    }
+
+    private long quantity(OrderItem item) {
+        return item.getQuantity() != null ? item.getQuantity() : 0;
+    }
+
+    private long amount(OrderItem item) {
+        return quantity(item) * (item.getPrice() != null ? item.getPrice() : 0);
+    }
+
+    private LocalDate parseDate(String value, LocalDate defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] result = new long[METRIC_COUNT];
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            result[i] = a[i] + b[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,426 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.OrderCreateRequest;
+import com.example.backend.entity.StockHold;
+import com.example.backend.entity.StockHoldItem;
+import com.example.backend.repository.StockHoldRepository;
+import com.example.backend.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// 결제 전 재고 선점 (결제창을 열 때 재고를 차감해 두고, 결제 승인 시 주문으로 확정, 만료되면 자동 복구)
+// 만료는 DelayQueue 하나와 전용 스레드로 처리 (선점이 많아도 만료 시각이 된 항목만 깨어남)
+// 기동 시 DB의 선점 중인 항목을 다시 큐에 넣고, 다른 서버에서 만든 선점 등은 주기적 점검으로 정리
+// 승인 응답을 받지 못한 선점은 결과 확인 중(UNK)으로 두어 만료되지 않게 하고, 결제 조회 후 주문 확정 또는 해제 (PaymentService)
+@Service
+public class StockHoldService {
+
+    private static final String STATUS_HELD = "HLD";
+    private static final String STATUS_CONFIRMED = "CNF";
+    private static final String STATUS_RELEASED = "REL";
+    private static final String STATUS_UNKNOWN = "UNK";
+
+    @Value("${stock.hold.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 회원별 동시에 유지할 수 있는 선점 수 (결제하지 않고 선점만 반복해 재고를 묶어두지 못하게)
+    @Value("${stock.hold.max-per-user:3}")
+    private int maxHoldsPerUser;
+
+    // 확정/해제된 선점 보관 시간(시간), 지난 선점 삭제 주기는 stock.hold.purge-interval-ms
+    @Value("${stock.hold.retention-hours:72}")
+    private long retentionHours;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DelayQueue<Expiry> expiries = new DelayQueue<>();
+    private final Thread expiryThread = new Thread(this::runExpiry, "stock-hold-expiry");
+
+    // 기동 시 선점 중인 항목을 큐에 넣고 만료 처리 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            for (StockHold hold : stockHoldRepository.findByStatus(STATUS_HELD)) {
+                expiries.add(new Expiry(hold.getHoldId(), hold.getExpiresAt().getTime()));
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+        expiryThread.setDaemon(true);
+        expiryThread.start();
+    }
+
+    // 재고 선점 (같은 orderId로 다시 요청하면 기존 선점 반환)
+    @Transactional
+    public Map<String, Object> hold(String tossOrderId, Integer amount, OrderCreateRequest request) {
+        if (tossOrderId == null || tossOrderId.isBlank()) {
+            throw new IllegalArgumentException("주문번호가 필요합니다.");
+        }
+        if (request == null) {
+            throw new IllegalArgumentException("주문 정보를 확인할 수 없습니다.");
+        }
+        StockHold existing = stockHoldRepository.findByTossOrderId(tossOrderId).orElse(null);
+        if (existing != null) {
+            if (existing.getUserId() != request.getUserId() || !STATUS_HELD.equals(existing.getStatus())) {
+                throw new IllegalStateException("이미 처리된 주문번호입니다.");
+            }
+            return buildHoldResponse(existing);
+        }
+
+        checkHoldLimit(request.getUserId());
+        OrderService.StockReservation reservation = orderService.reserveStock(request);
+        checkAmount(amount, reservation.getFinalPrice());
+
+        StockHold hold = new StockHold();
+        hold.setTossOrderId(tossOrderId);
+        hold.setUserId(request.getUserId());
+        return buildHoldResponse(saveHold(hold, reservation));
+    }
+
+    // 결제 승인 전 단계 (토스 호출 전 짧은 트랜잭션에서 금액 확인 + 재고 선점)
+    // 결제창을 열 때 선점한 것이 있으면 그대로 쓰고 만료 시각만 늘림 (입장은 선점 시 확인됨), 없거나 만료됐으면 대기열 입장 확인 후 새로 선점
+    @Transactional
+    public void reserveForPayment(String tossOrderId, Integer amount, OrderCreateRequest request) {
+        if (tossOrderId == null || tossOrderId.isBlank()) {
+            throw new IllegalArgumentException("주문번호가 필요합니다.");
+        }
+        StockHold hold = stockHoldRepository.findByTossOrderId(tossOrderId).orElse(null);
+        if (hold != null && (hold.getUserId() != request.getUserId() || STATUS_CONFIRMED.equals(hold.getStatus()))) {
+            throw new IllegalStateException("이미 처리된 주문번호입니다.");
+        }
+        if (hold != null && STATUS_UNKNOWN.equals(hold.getStatus())) {
+            throw new IllegalStateException("결제 결과를 확인 중입니다. 잠시 후 주문 내역을 확인해주세요.");
+        }
+        if (hold != null && STATUS_HELD.equals(hold.getStatus())) {
+            checkAmount(amount, hold.getAmount());
+            Timestamp expiresAt = new Timestamp(System.currentTimeMillis() + ttlSeconds * 1000);
+            if (stockHoldRepository.extendExpiry(hold.getHoldId(), expiresAt) == 1) {
+                Expiry expiry = new Expiry(hold.getHoldId(), expiresAt.getTime());
+                afterCommit(() -> expiries.add(expiry));
+                return;
+            }
+            // 그 사이 만료됐으면 새로 선점
+            entityManager.refresh(hold);
+            if (!STATUS_RELEASED.equals(hold.getStatus())) {
+                throw new IllegalStateException("이미 처리된 주문번호입니다.");
+            }
+        }
+
+        checkHoldLimit(request.getUserId());
+        OrderService.StockReservation reservation = orderService.reserveStock(request);
+        checkAmount(amount, reservation.getFinalPrice());
+        if (hold == null) {
+            hold = new StockHold();
+            hold.setTossOrderId(tossOrderId);
+            hold.setUserId(request.getUserId());
+        }
+        saveHold(hold, reservation);
+    }
+
+    // 결제 승인 후 주문 생성 (승인 전 단계에서 만든 선점을 주문으로 확정, 선점한 재고로 주문 생성)
+    // 그 사이 선점이 해제됐으면 주문을 만들지 않음 (대기열 입장 없이 재고를 새로 차감하지 않도록, 호출한 쪽에서 결제 취소)
+    // 주문 금액이 결제 금액과 다르면 주문을 저장하지 않고 롤백
+    @Transactional
+    public Map<String, Object> confirmOrder(String tossOrderId, OrderCreateRequest request, Integer paidAmount) {
+        StockHold hold = tossOrderId != null ? stockHoldRepository.findByTossOrderId(tossOrderId).orElse(null) : null;
+        if (hold == null || hold.getUserId() != request.getUserId()
+                || stockHoldRepository.updateStatus(hold.getHoldId(), STATUS_HELD, STATUS_CONFIRMED) != 1) {
+            throw new IllegalStateException("재고 선점이 만료되었습니다. 다시 주문해주세요.");
+        }
+        return createOrder(hold, request, paidAmount);
+    }
+
+    // 승인 응답을 받지 못한 선점을 결과 확인 중으로 표시 (선점 유지, 만료 처리 대상에서 빠짐)
+    // 결제 키/주문 요청을 함께 저장해 두고 토스 조회 결과에 따라 confirmUnknown 또는 releaseUnknown으로 마무리
+    // 이미 선점 중이 아니면 null
+    @Transactional
+    public StockHold markUnknown(String tossOrderId, String paymentKey, OrderCreateRequest request) {
+        StockHold hold = stockHoldRepository.findByTossOrderId(tossOrderId).orElse(null);
+        if (hold == null || hold.getUserId() != request.getUserId()
+                || stockHoldRepository.markUnknown(hold.getHoldId(), paymentKey, writeRequest(request)) != 1) {
+            return null;
+        }
+        entityManager.refresh(hold);
+        return hold;
+    }
+
+    // 승인 결과 확인 중인 선점 목록
+    @Transactional(readOnly = true)
+    public List<StockHold> findUnknown() {
+        return stockHoldRepository.findByStatus(STATUS_UNKNOWN);
+    }
+
+    // 승인이 확인된 경우 저장해 둔 주문 요청으로 주문 생성 (다른 서버에서 이미 마무리했으면 null)
+    @Transactional
+    public Map<String, Object> confirmUnknown(int holdId, Integer paidAmount) {
+        StockHold hold = stockHoldRepository.findById(holdId).orElse(null);
+        if (hold == null || stockHoldRepository.updateStatus(holdId, STATUS_UNKNOWN, STATUS_CONFIRMED) != 1) {
+            return null;
+        }
+        return createOrder(hold, readRequest(hold.getOrderRequest()), paidAmount);
+    }
+
+    // 승인되지 않았거나 취소된 경우 선점 해제
+    @Transactional
+    public void releaseUnknown(int holdId) {
+        stockHoldRepository.findById(holdId).ifPresent(hold -> {
+            if (stockHoldRepository.updateStatus(holdId, STATUS_UNKNOWN, STATUS_RELEASED) == 1) {
+                orderService.releaseStock(quantities(hold));
+            }
+        });
+    }
+
+    // 결제 취소/실패 시 선점 해제
+    @Transactional
+    public void release(String tossOrderId, int userId) {
+        StockHold hold = stockHoldRepository.findByTossOrderId(tossOrderId)
+                .orElseThrow(() -> new IllegalArgumentException("재고 선점 정보를 찾을 수 없습니다."));
+        if (hold.getUserId() != userId) {
+            throw new IllegalArgumentException("해당 주문에 접근할 수 없습니다.");
+        }
+        releaseHold(hold);
+    }
+
+    // 지연 큐에서 빠진 만료 선점 정리 (다른 서버에서 만든 선점, 큐에 넣기 전 종료된 경우 등)
+    @Scheduled(fixedDelayString = "${stock.hold.sweep-interval-ms:60000}")
+    public void sweep() {
+        for (StockHold hold : stockHoldRepository.findByStatusAndExpiresAtBefore(STATUS_HELD, new Timestamp(System.currentTimeMillis()))) {
+            expire(hold.getHoldId());
+        }
+    }
+
+    // 보관 기간이 지난 확정/해제 선점 삭제
+    @Scheduled(fixedDelayString = "${stock.hold.purge-interval-ms:3600000}")
+    public void purge() {
+        Timestamp before = new Timestamp(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(retentionHours));
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                stockHoldRepository.deleteFinishedItems(before);
+                stockHoldRepository.deleteFinished(before);
+            });
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 회원 탈퇴 전 선점 삭제 (선점 중이면 재고 복구, 승인 결과 확인 중인 결제가 있으면 탈퇴 불가)
+    @Transactional
+    public void deleteByUser(int userId) {
+        List<StockHold> holds = stockHoldRepository.findByUserId(userId);
+        checkNoUnknown(holds, "결제 결과를 확인 중인 주문이 있어 탈퇴할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        for (StockHold hold : holds) {
+            releaseHold(hold);
+        }
+        stockHoldRepository.deleteAll(holds);
+    }
+
+    // 상품 삭제 전 정리 (상품을 선점 중인 선점은 해제해 나머지 상품 재고를 복구하고, 해당 상품의 선점 상품 행 삭제)
+    @Transactional
+    public void deleteByProducts(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<StockHold> holds = stockHoldRepository.findByProductIds(productIds);
+        checkNoUnknown(holds, "결제 결과를 확인 중인 주문이 있는 상품은 삭제할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        for (StockHold hold : holds) {
+            releaseHold(hold);
+        }
+        stockHoldRepository.deleteItemsByProductIds(productIds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryThread.interrupt();
+    }
+
+    private void runExpiry() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                expire(expiries.take().holdId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    // 만료 시각이 지난 경우만 해제 (결제 승인 중 만료 시각을 늘렸으면 이전 큐 항목은 무시)
+    private void expire(int holdId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                stockHoldRepository.findById(holdId).ifPresent(hold -> {
+                    if (stockHoldRepository.releaseIfExpired(holdId, new Timestamp(System.currentTimeMillis())) == 1) {
+                        orderService.releaseStock(quantities(hold));
+                    }
+                }));
+    }
+
+    // 선점 중일 때만 해제하고 재고 복구
+    private void releaseHold(StockHold hold) {
+        if (stockHoldRepository.updateStatus(hold.getHoldId(), STATUS_HELD, STATUS_RELEASED) == 1) {
+            orderService.releaseStock(quantities(hold));
+        }
+    }
+
+    // 선점 저장 (만료된 선점을 다시 쓰는 경우 상품별 수량을 새 선점으로 교체)
+    private StockHold saveHold(StockHold hold, OrderService.StockReservation reservation) {
+        hold.setStatus(STATUS_HELD);
+        hold.setAmount(reservation.getFinalPrice());
+        hold.setExpiresAt(new Timestamp(System.currentTimeMillis() + ttlSeconds * 1000));
+        if (hold.getItems() == null) {
+            hold.setItems(new ArrayList<>());
+        }
+        hold.getItems().clear();
+        reservation.getQuantities().forEach((productId, quantity) -> {
+            StockHoldItem item = new StockHoldItem();
+            item.setStockHold(hold);
+            item.setProductId(productId);
+            item.setQuantity(quantity);
+            hold.getItems().add(item);
+        });
+        StockHold saved = stockHoldRepository.save(hold);
+
+        Expiry expiry = new Expiry(saved.getHoldId(), saved.getExpiresAt().getTime());
+        afterCommit(() -> expiries.add(expiry));
+        return saved;
+    }
+
+    // 회원 행을 잠그고 만료 전 선점 수 확인 (같은 회원의 동시 요청이 함께 제한을 넘지 않게)
+    private void checkHoldLimit(int userId) {
+        userRepository.lockById(userId);
+        if (stockHoldRepository.countByUserIdAndStatusAndExpiresAtAfter(userId, STATUS_HELD, new Timestamp(System.currentTimeMillis())) >= maxHoldsPerUser) {
+            throw new IllegalStateException("결제 대기 중인 주문이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void checkNoUnknown(List<StockHold> holds, String message) {
+        for (StockHold hold : holds) {
+            if (STATUS_UNKNOWN.equals(hold.getStatus())) {
+                throw new IllegalStateException(message);
+            }
+        }
+    }
+
+    // 선점한 재고로 주문 생성 (주문 금액이 결제 금액과 다르면 예외로 롤백)
+    private Map<String, Object> createOrder(StockHold hold, OrderCreateRequest request, Integer paidAmount) {
+        Map<String, Object> order = orderService.createOrder(request, quantities(hold));
+        if (order.get("finalPrice") instanceof Number finalPrice) {
+            checkAmount(paidAmount, finalPrice.intValue());
+        }
+        return order;
+    }
+
+    private String writeRequest(OrderCreateRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 정보를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private OrderCreateRequest readRequest(String json) {
+        try {
+            return objectMapper.readValue(json, OrderCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 주문 정보를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void checkAmount(Integer amount, int finalPrice) {
+        if (amount != null && amount != finalPrice) {
+            throw new IllegalStateException("결제 금액이 주문 금액과 일치하지 않습니다.");
+        }
+    }
+
+    private Map<Integer, Integer> quantities(StockHold hold) {
+        Map<Integer, Integer> quantities = new TreeMap<>();
+        for (StockHoldItem item : hold.getItems()) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private Map<String, Object> buildHoldResponse(StockHold hold) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("holdId", hold.getHoldId());
+        response.put("orderId", hold.getTossOrderId());
+        response.put("amount", hold.getAmount());
+        response.put("expiresAt", hold.getExpiresAt().toString());
+        return response;
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static class Expiry implements Delayed {
+        private final int holdId;
+        private final long expiresAtMillis;
+
+        private Expiry(int holdId, long expiresAtMillis) {
+            this.holdId = holdId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.backend.service;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 검색어 자동완성용 압축 트라이 (공통 접두어를 한 간선으로 합친 radix tree, 생성 후 변경하지 않음)
+// 게시물명/브랜드/카테고리명의 각 단어 시작 위치부터의 문자열과 그 초성 문자열을 키로 등록
+// 노드마다 그 아래 모든 후보 중 가중치 상위 k개를 미리 계산해 두어 조회는 검색어 길이만큼만 이동
+public class SuggestIndex {
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int JUNGSEONG_JONGSEONG_COUNT = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final Node root = new Node("");
+    private final int topK;
+    private final int size;
+
+    // 후보 목록으로 트라이 생성 (같은 후보가 여러 키로 등록되어도 결과에는 한 번만 포함)
+    public SuggestIndex(Collection<Suggestion> suggestions, int topK) {
+        this.topK = topK;
+        for (Suggestion suggestion : suggestions) {
+            for (String key : keys(suggestion.getText())) {
+                insert(key, suggestion);
+            }
+        }
+        computeTopK(root);
+        this.size = suggestions.size();
+    }
+
+    // 접두어(또는 초성 접두어)로 시작하는 후보 중 가중치 상위 limit개
+    public List<Suggestion> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (hasChoseong(prefix)) {
+            prefix = toChoseong(prefix);
+        }
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return new ArrayList<>();
+            }
+            int length = Math.min(child.label.length(), prefix.length() - i);
+            if (!prefix.regionMatches(i, child.label, 0, length)) {
+                return new ArrayList<>();
+            }
+            i += length;
+            node = child;
+        }
+        return node.top.subList(0, Math.min(limit, node.top.size()));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 초성 문자열 (한글 음절은 초성으로, 그 외 문자는 그대로)
+    static String toChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(c >= HANGUL_BEGIN && c <= HANGUL_END ? CHOSEONG[(c - HANGUL_BEGIN) / JUNGSEONG_JONGSEONG_COUNT] : c);
+        }
+        return builder.toString();
+    }
+
+    // 소문자, 연속 공백을 한 칸으로
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 단어 시작 위치마다의 문자열 + 초성 문자열 ("오버핏 반팔" → "오버핏 반팔", "반팔", "ㅇㅂㅍ ㅂㅍ", "ㅂㅍ")
+    private static Set<String> keys(String text) {
+        String normalized = normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                String key = normalized.substring(i);
+                keys.add(key);
+                keys.add(toChoseong(key));
+            }
+        }
+        return keys;
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+                node = child;
+                break;
+            }
+            int common = 0;
+            while (common < child.label.length() && i + common < key.length()
+                    && child.label.charAt(common) == key.charAt(i + common)) {
+                common++;
+            }
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 공통 부분으로 노드를 나눔
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+        node.terminals.add(suggestion);
+    }
+
+    // 자식 노드의 상위 k개 + 자기 노드에서 끝나는 후보를 합쳐 상위 k개 계산
+    private void computeTopK(Node node) {
+        List<Suggestion> candidates = new ArrayList<>(node.terminals);
+        for (Node child : node.children.values()) {
+            computeTopK(child);
+            candidates.addAll(child.top);
+        }
+        candidates.sort(Comparator.comparingLong(Suggestion::getWeight).reversed()
+                .thenComparing(Suggestion::getText));
+        Set<Suggestion> top = new LinkedHashSet<>();
+        for (Suggestion candidate : candidates) {
+            if (top.size() >= topK) break;
+            top.add(candidate);
+        }
+        node.top = new ArrayList<>(top);
+        node.terminals = null;
+    }
+
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        private List<Suggestion> terminals = new ArrayList<>();
+        private List<Suggestion> top;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    // 자동완성 후보 (type: post/brand/category, post는 postId 포함)
+    @Data
+    public static class Suggestion {
+        private final String type;
+        private final String text;
+        private final Integer postId;
+        private final long weight;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductPostDAO;
+import com.example.backend.entity.ProductPost;
+import jakarta.annotation.PreDestroy;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 검색어 자동완성 (판매중 게시물의 게시물명/브랜드/카테고리명)
+// 조회는 메모리 트라이 스냅샷에서만 처리, 게시물/찜수 변경은 원본 목록에 반영 후 스냅샷을 백그라운드에서 다시 생성
+// 재생성은 변경이 있을 때 최대 REBUILD_INTERVAL_MILLIS에 한 번 (그 사이에는 이전 스냅샷으로 응답)
+@Service
+public class SuggestService {
+
+    public static final int MAX_LIMIT = 10;
+    private static final int STATUS_SELLING = 1;
+    private static final long REBUILD_INTERVAL_MILLIS = 30_000;
+    // 가중치 = 찜수 * WISH_WEIGHT + 조회수 (브랜드/카테고리는 소속 게시물 가중치 합)
+    private static final long WISH_WEIGHT = 10;
+
+    @Autowired
+    private ProductPostDAO productPostDAO;
+
+    private final Map<Integer, PostSource> sources = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "suggest-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile SuggestIndex index;
+    private volatile long builtAt;
+
+    // 기동 시 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        for (ProductPost post : productPostDAO.findAll()) {
+            sources.put(post.getPostId(), toSource(post));
+        }
+        rebuild();
+        System.out.println("자동완성 색인 완료: " + index.size() + "건");
+    }
+
+    // 접두어/초성 자동완성
+    public List<SuggestIndex.Suggestion> suggest(String query, int limit) {
+        SuggestIndex current = index;
+        if (current == null) {
+            return new ArrayList<>();
+        }
+        if (dirty.get() && System.currentTimeMillis() - builtAt >= REBUILD_INTERVAL_MILLIS
+                && rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+        return current.suggest(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    // 게시물 등록/수정 후 호출
+    public void indexPost(ProductPost post) {
+        PostSource source = toSource(post);
+        afterCommit(() -> {
+            sources.put(source.getPostId(), source);
+            dirty.set(true);
+        });
+    }
+
+    // 게시물 삭제 후 호출
+    public void removePost(int postId) {
+        afterCommit(() -> {
+            sources.remove(postId);
+            dirty.set(true);
+        });
+    }
+
+    // 찜 추가/삭제 후 호출
+    public void updateWishCount(int postId, int wishCount) {
+        afterCommit(() -> {
+            PostSource source = sources.get(postId);
+            if (source != null) {
+                source.setWishCount(wishCount);
+                dirty.set(true);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void rebuild() {
+        dirty.set(false);
+        List<SuggestIndex.Suggestion> suggestions = new ArrayList<>();
+        Map<String, Long> brandWeights = new HashMap<>();
+        Map<String, Long> categoryWeights = new HashMap<>();
+        for (PostSource source : sources.values()) {
+            if (source.getStatus() == null || source.getStatus() != STATUS_SELLING) continue;
+            long weight = source.getWishCount() * WISH_WEIGHT + source.getViewCount();
+            if (source.getPostName() != null && !source.getPostName().trim().isEmpty()) {
+                suggestions.add(new SuggestIndex.Suggestion("post", source.getPostName().trim(), source.getPostId(), weight));
+            }
+            if (source.getBrand() != null && !source.getBrand().trim().isEmpty()) {
+                brandWeights.merge(source.getBrand().trim(), weight, Long::sum);
+            }
+            if (source.getCategoryName() != null && !source.getCategoryName().trim().isEmpty()) {
+                categoryWeights.merge(source.getCategoryName().trim(), weight, Long::sum);
+            }
+        }
+        brandWeights.forEach((brand, weight) -> suggestions.add(new SuggestIndex.Suggestion("brand", brand, null, weight)));
+        categoryWeights.forEach((category, weight) -> suggestions.add(new SuggestIndex.Suggestion("category", category, null, weight)));
+        index = new SuggestIndex(suggestions, MAX_LIMIT);
+        builtAt = System.currentTimeMillis();
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private PostSource toSource(ProductPost post) {
+        PostSource source = new PostSource();
+        source.setPostId(post.getPostId());
+        source.setPostName(post.getPostName());
+        source.setBrand(post.getBrand());
+        source.setCategoryName(post.getCategory() != null ? post.getCategory().getCategoryName() : null);
+        source.setStatus(post.getStatus());
+        source.setWishCount(post.getWishCount() != null ? post.getWishCount() : 0);
+        source.setViewCount(post.getViewCount() != null ? post.getViewCount() : 0);
+        return source;
+    }
+
+    @Data
+    private static class PostSource {
+        private int postId;
+        private String postName;
+        private String brand;
+        private String categoryName;
+        private Integer status;
+        private volatile int wishCount;
+        private int viewCount;
+    }
+}
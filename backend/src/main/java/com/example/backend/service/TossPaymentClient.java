@@ -0,0 +1,132 @@
+package com.example.backend.service;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+// 토스페이먼츠 API 호출 (결제 승인/취소/조회)
+// 커넥션 풀을 쓰는 전용 HTTP 클라이언트 (연결/응답/풀 대기 시간 제한, 자동 재시도 없음)
+// 토스가 거절한 경우는 IllegalStateException, 시간 초과/연결 오류처럼 승인 여부를 알 수 없으면 ResultUnknownException
+public class TossPaymentClient implements AutoCloseable {
+
+    private final String baseUrl;
+    private final String authorization;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+
+    public TossPaymentClient(String baseUrl, String secretKey, Duration connectTimeout, Duration readTimeout, int maxConnections) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+        // 풀이 모두 사용 중이면 연결 시간만큼만 기다림 (PG 지연 시 요청 스레드가 계속 쌓이지 않게)
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableAutomaticRetries()
+                .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    // 결제 승인
+    public Map<String, Object> confirm(String paymentKey, String orderId, Integer amount) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("paymentKey", paymentKey);
+        body.put("orderId", orderId);
+        body.put("amount", amount);
+        return exchange(HttpMethod.POST, "/v1/payments/confirm", body, "토스 결제 승인");
+    }
+
+    // 주문번호로 결제 조회 (승인 응답을 받지 못했을 때 실제 승인 여부 확인, 결제가 없으면 null)
+    public Map<String, Object> findByOrderId(String orderId) {
+        try {
+            return exchange(HttpMethod.GET, "/v1/payments/orders/{orderId}", null, "토스 결제 조회", orderId);
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
+    // 결제 취소 (승인 후 주문 생성에 실패했을 때 보상 처리)
+    public Map<String, Object> cancel(String paymentKey, String cancelReason) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("cancelReason", cancelReason);
+        return exchange(HttpMethod.POST, "/v1/payments/{paymentKey}/cancel", body, "토스 결제 취소", paymentKey);
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    @SuppressWarnings("null")
+    private Map<String, Object> exchange(HttpMethod method, String path, Map<String, Object> body, String action, Object... uriVariables) {
+        HttpHeaders headers = new HttpHeaders();
+        if (body != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        try {
+            return restTemplate.exchange(baseUrl + path, method, new HttpEntity<>(body, headers),
+                    new ParameterizedTypeReference<Map<String, Object>>() {
+                    }, uriVariables).getBody();
+        } catch (HttpStatusCodeException e) {
+            // 5xx는 토스 쪽에서 처리됐는지 알 수 없음
+            if (e.getStatusCode().is5xxServerError()) {
+                throw new ResultUnknownException(action + " 결과를 확인할 수 없습니다: " + e.getResponseBodyAsString(), e);
+            }
+            if (e.getStatusCode().value() == 404) {
+                throw new NotFoundException(action + " 대상을 찾을 수 없습니다: " + e.getResponseBodyAsString(), e);
+            }
+            throw new IllegalStateException(action + " 중 오류가 발생했습니다: " + e.getResponseBodyAsString(), e);
+        } catch (RestClientException e) {
+            throw new ResultUnknownException(action + " 결과를 확인할 수 없습니다.", e);
+        }
+    }
+
+    // 응답을 받지 못해 토스에서 처리됐는지 알 수 없는 경우 (시간 초과, 연결 끊김, 5xx)
+    public static class ResultUnknownException extends IllegalStateException {
+        public ResultUnknownException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    // 토스에 해당 결제/주문이 없는 경우 (404)
+    public static class NotFoundException extends IllegalStateException {
+        public NotFoundException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
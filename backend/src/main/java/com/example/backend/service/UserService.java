@@ -58,9 +58,24 @@ public class UserService {
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private SellerSalesService sellerSalesService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockHoldService stockHoldService;
+
     @Autowired
     private ProductPostDAO productPostDAO;
 
+    @Autowired
+    private ProductPostService productPostService;
+
+    @Autowired
+    private ProductListingService productListingService;
+
     @Autowired
     private ProductDAO productDAO;
 
@@ -265,6 +280,9 @@ public class UserService {
         // 관련 데이터 삭제 (외래키 제약조건 해결)
         // 삭제 순서: 자식 테이블부터 부모 테이블 순서로 삭제
         
+        // 0. 결제 전 재고 선점 삭제 (선점 중이면 재고 복구, user로 연결)
+        stockHoldService.deleteByUser(userId);
+        
         // 1. 리뷰 이미지 삭제 (리뷰 삭제 전에)
         List<com.example.backend.entity.Review> userReviews = reviewDAO.findByUserId(userId);
         if (userReviews != null && !userReviews.isEmpty()) {
@@ -304,6 +322,7 @@ public class UserService {
                 // 4-2. 주문상세 삭제 (order로 연결)
                 List<com.example.backend.entity.OrderItem> orderItems = orderItemRepository.findByOrder_OrderId(order.getOrderId());
                 if (orderItems != null && !orderItems.isEmpty()) {
+                    sellerSalesService.recordRemoved(orderItems);
                     orderItemRepository.deleteAll(orderItems);
                 }
             }
@@ -360,6 +379,9 @@ public class UserService {
                             reviewDAO.deleteById(orderItemReview.getReviewId());
                         }
                     }
+                    // 주문은 남으므로 주문을 잠그고 상태별 주문상세 개수/주문 상태 갱신
+                    orderService.removeOrderItems(postOrderItems);
+                    sellerSalesService.recordRemoved(postOrderItems);
                     orderItemRepository.deleteAll(postOrderItems);
                 }
                 
@@ -369,14 +391,17 @@ public class UserService {
                     productImageDAO.deleteAll(productImages);
                 }
                 
-                // 5-5. 상품 삭제 (productPost로 연결)
+                // 5-5. 상품 삭제 (productPost로 연결, 다른 회원의 재고 선점은 해제 후 선점 상품 삭제)
                 List<com.example.backend.entity.Product> products = productDAO.findByPostId(postId);
                 if (products != null && !products.isEmpty()) {
+                    stockHoldService.deleteByProducts(products.stream().map(com.example.backend.entity.Product::getProductId).collect(Collectors.toList()));
                     productDAO.deleteAll(products);
                 }
                 
-                // 5-6. 상품게시물 삭제
+                // 5-6. 상품게시물 삭제 (목록 요약 정보 삭제 후 색인/캐시에서도 제거)
+                productListingService.delete(postId);
                 productPostDAO.delete(productPost);
+                productPostService.removePostCaches(postId);
             }
         }
         
@@ -0,0 +1,60 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductPostDAO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 상품 조회수 쓰기 지연 (조회 요청마다 UPDATE 하지 않고 게시물별 증가분을 메모리에 모아 주기적으로 일괄 반영)
+// 반영 실패 시 증가분을 되돌려 다음 주기에 다시 시도, 종료 시 남은 증가분 반영
+@Service
+public class ViewCountService {
+
+    @Autowired
+    private ProductPostDAO productPostDAO;
+
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가 (메모리에만 반영)
+    public void increment(int postId) {
+        pending.computeIfAbsent(postId, key -> new LongAdder()).increment();
+    }
+
+    // 아직 DB에 반영되지 않은 증가분
+    public long getPending(int postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // 모인 증가분을 배치 UPDATE로 반영
+    @Scheduled(fixedDelayString = "${product.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Integer, Long> deltas = new HashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            productPostDAO.addViewCounts(deltas);
+        } catch (RuntimeException e) {
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, key -> new LongAdder()).add(delta));
+            e.printStackTrace();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
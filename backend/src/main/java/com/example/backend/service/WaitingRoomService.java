@@ -0,0 +1,291 @@
+package com.example.backend.service;
+
+import com.example.backend.dao.ProductDAO;
+import com.example.backend.dao.ProductPostDAO;
+import com.example.backend.entity.Product;
+import com.example.backend.entity.ProductPost;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 한정 판매 게시물 대기열 (판매자가 켠 게시물은 입장한 구매자만 결제/주문 가능)
+// 게시물별로 결제 슬롯 수만큼만 입장시키고 나머지는 도착 순서대로 대기, 주문 완료/입장 만료/대기 이탈 시 다음 순번 입장
+// 대기열은 메모리에만 두고 구매자당 토큰 하나(고정 크기), 게시물당 대기 인원은 max-waiting으로 제한
+@Service
+public class WaitingRoomService {
+
+    public static final String STATUS_WAITING = "WAITING";
+    public static final String STATUS_ADMITTED = "ADMITTED";
+    public static final String STATUS_EXPIRED = "EXPIRED";
+
+    @Value("${waiting-room.max-waiting:100000}")
+    private int maxWaiting;
+
+    // 입장 후 주문까지 허용 시간
+    @Value("${waiting-room.admission-ttl-seconds:300}")
+    private long admissionTtlSeconds;
+
+    // 이 시간 동안 상태 조회가 없으면 대기 이탈로 처리
+    @Value("${waiting-room.poll-timeout-seconds:30}")
+    private long pollTimeoutSeconds;
+
+    @Autowired
+    private ProductPostDAO productPostDAO;
+
+    @Autowired
+    private ProductDAO productDAO;
+
+    private final Map<Integer, Room> rooms = new ConcurrentHashMap<>();
+    // 상품 ID → 대기열 게시물 ID (주문 시 입장 확인용)
+    private final Map<Integer, Integer> roomByProductId = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    // 판매자 대기열 설정 (enabled=false면 대기열 종료, 대기 중인 토큰은 만료)
+    @Transactional(readOnly = true)
+    public Map<String, Object> configure(int postId, int sellerId, boolean enabled, Integer slots) {
+        ProductPost post = productPostDAO.findById(postId);
+        if (post == null) {
+            throw new IllegalArgumentException("게시물을 찾을 수 없습니다.");
+        }
+        if (post.getSellerId() != sellerId) {
+            throw new IllegalArgumentException("해당 게시물에 접근할 수 없습니다.");
+        }
+        if (!enabled) {
+            Room removed = rooms.remove(postId);
+            if (removed != null) {
+                synchronized (removed) {
+                    removed.productIds.forEach(roomByProductId::remove);
+                    removed.byUser.values().forEach(ticket -> tickets.remove(ticket.token));
+                }
+            }
+            return getRoom(postId);
+        }
+        if (slots == null || slots < 1) {
+            throw new IllegalArgumentException("결제 슬롯 수는 1 이상이어야 합니다.");
+        }
+        Set<Integer> productIds = new HashSet<>();
+        for (Product product : productDAO.findByPostId(postId)) {
+            productIds.add(product.getProductId());
+        }
+        Room room = rooms.computeIfAbsent(postId, Room::new);
+        synchronized (room) {
+            room.slots = slots;
+            room.productIds = productIds;
+            productIds.forEach(productId -> roomByProductId.put(productId, postId));
+            admit(room, System.currentTimeMillis());
+        }
+        return getRoom(postId);
+    }
+
+    // 게시물 대기열 현황 (enabled=false면 대기열 없이 바로 구매)
+    public Map<String, Object> getRoom(int postId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("postId", postId);
+        Room room = rooms.get(postId);
+        response.put("enabled", room != null);
+        if (room != null) {
+            synchronized (room) {
+                response.put("slots", room.slots);
+                response.put("admitted", room.admitted.size());
+                response.put("waiting", room.waiting.size());
+            }
+        }
+        return response;
+    }
+
+    // 대기열 입장 (같은 구매자는 기존 토큰 반환)
+    public Map<String, Object> enter(int postId, int userId) {
+        Room room = rooms.get(postId);
+        if (room == null) {
+            throw new IllegalStateException("대기열이 운영 중인 상품이 아닙니다.");
+        }
+        long now = System.currentTimeMillis();
+        synchronized (room) {
+            Ticket ticket = room.byUser.get(userId);
+            if (ticket == null) {
+                if (room.waiting.size() >= maxWaiting) {
+                    throw new IllegalStateException("대기 인원이 많습니다. 잠시 후 다시 시도해주세요.");
+                }
+                ticket = new Ticket(UUID.randomUUID().toString(), postId, userId, room.nextSeq++);
+                room.byUser.put(userId, ticket);
+                room.waiting.add(ticket);
+                tickets.put(ticket.token, ticket);
+            }
+            ticket.lastSeen = now;
+            admit(room, now);
+            return buildStatus(room, ticket, now);
+        }
+    }
+
+    // 대기 상태 조회 (폴링, 조회할 때마다 이탈 판정 시간 갱신)
+    public Map<String, Object> status(String token) {
+        Ticket ticket = token != null ? tickets.get(token) : null;
+        Room room = ticket != null ? rooms.get(ticket.postId) : null;
+        if (room == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("token", token);
+            response.put("status", STATUS_EXPIRED);
+            return response;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (room) {
+            ticket.lastSeen = now;
+            admit(room, now);
+            return buildStatus(room, ticket, now);
+        }
+    }
+
+    // 주문/재고 선점 전 입장 확인 (대기열 게시물 상품이 있으면 그 게시물에 입장한 토큰 필요)
+    public void checkAdmission(Collection<Integer> productIds, int userId, List<String> tokens) {
+        long now = System.currentTimeMillis();
+        for (Integer productId : productIds) {
+            Integer postId = roomByProductId.get(productId);
+            if (postId == null) continue;
+            boolean admitted = tokens != null && tokens.stream()
+                    .map(tickets::get)
+                    .anyMatch(ticket -> ticket != null && ticket.postId == postId && ticket.userId == userId
+                            && ticket.admittedUntil > now);
+            if (!admitted) {
+                throw new IllegalStateException("대기열 입장 후 주문할 수 있습니다.");
+            }
+        }
+    }
+
+    // 주문 완료 후 호출 (입장 토큰을 반납하고 다음 순번 입장)
+    public void complete(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) return;
+        afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            for (String token : tokens) {
+                Ticket ticket = tickets.get(token);
+                Room room = ticket != null ? rooms.get(ticket.postId) : null;
+                if (room == null || ticket.admittedUntil == 0) continue;
+                synchronized (room) {
+                    room.admitted.remove(ticket);
+                    remove(room, ticket);
+                    admit(room, now);
+                }
+            }
+        });
+    }
+
+    // 입장 만료/대기 이탈 정리 후 빈 슬롯만큼 입장
+    @Scheduled(fixedDelayString = "${waiting-room.tick-interval-ms:1000}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        for (Room room : rooms.values()) {
+            synchronized (room) {
+                admit(room, now);
+            }
+        }
+    }
+
+    // room 잠금 안에서 호출
+    private void admit(Room room, long now) {
+        Iterator<Ticket> iterator = room.admitted.iterator();
+        while (iterator.hasNext()) {
+            Ticket ticket = iterator.next();
+            if (ticket.admittedUntil <= now) {
+                iterator.remove();
+                remove(room, ticket);
+            }
+        }
+        long pollTimeoutMillis = pollTimeoutSeconds * 1000;
+        while (room.admitted.size() < room.slots && !room.waiting.isEmpty()) {
+            Ticket ticket = room.waiting.poll();
+            room.headSeq = ticket.seq + 1;
+            if (now - ticket.lastSeen > pollTimeoutMillis) {
+                remove(room, ticket);
+                continue;
+            }
+            ticket.admittedUntil = now + admissionTtlSeconds * 1000;
+            room.admitted.add(ticket);
+        }
+    }
+
+    private void remove(Room room, Ticket ticket) {
+        room.byUser.remove(ticket.userId, ticket);
+        tickets.remove(ticket.token);
+    }
+
+    private Map<String, Object> buildStatus(Room room, Ticket ticket, long now) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("token", ticket.token);
+        response.put("postId", ticket.postId);
+        if (ticket.admittedUntil > now) {
+            response.put("status", STATUS_ADMITTED);
+            response.put("expiresInSeconds", (ticket.admittedUntil - now) / 1000);
+        } else if (ticket.admittedUntil == 0) {
+            response.put("status", STATUS_WAITING);
+            // 앞선 순번 중 이탈한 인원도 포함한 최대 대기 순번
+            response.put("position", ticket.seq - room.headSeq + 1);
+            response.put("waiting", room.waiting.size());
+        } else {
+            response.put("status", STATUS_EXPIRED);
+        }
+        return response;
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 게시물별 대기열 (필드는 room 잠금 안에서만 읽고 씀)
+    private static class Room {
+        private final int postId;
+        private int slots;
+        private Set<Integer> productIds = new HashSet<>();
+        private final ArrayDeque<Ticket> waiting = new ArrayDeque<>();
+        private final Set<Ticket> admitted = new HashSet<>();
+        private final Map<Integer, Ticket> byUser = new HashMap<>();
+        private long nextSeq;
+        // 다음에 입장할 순번
+        private long headSeq;
+
+        private Room(int postId) {
+            this.postId = postId;
+        }
+    }
+
+    // 대기 토큰 (admittedUntil: 0이면 대기 중, 그 외에는 입장 만료 시각)
+    private static class Ticket {
+        private final String token;
+        private final int postId;
+        private final int userId;
+        private final long seq;
+        private volatile long lastSeen;
+        private volatile long admittedUntil;
+
+        private Ticket(String token, int postId, int userId, long seq) {
+            this.token = token;
+            this.postId = postId;
+            this.userId = userId;
+            this.seq = seq;
+        }
+    }
+}
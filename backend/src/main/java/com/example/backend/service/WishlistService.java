@@ -1,12 +1,9 @@
 package com.example.backend.service;
 
-import com.example.backend.dao.ProductDAO;
-import com.example.backend.dao.ProductImageDAO;
 import com.example.backend.dao.ProductPostDAO;
 import com.example.backend.dao.UserDAO;
 import com.example.backend.dao.WishlistDAO;
-import com.example.backend.entity.Product;
-import com.example.backend.entity.ProductImage;
+import com.example.backend.dto.PageCursor;
 import com.example.backend.entity.ProductPost;
 import com.example.backend.entity.User;
 import com.example.backend.entity.Wishlist;
@@ -14,14 +11,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class WishlistService {
 
+    // 커서 페이징 상수
+    private static final String CURSOR_SORT = "latest";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private WishlistDAO wishlistDAO;
 
@@ -32,10 +36,19 @@ public class WishlistService {
     private ProductPostDAO productPostDAO;
     
     @Autowired
-    private ProductDAO productDAO;
+    private ProductCardService productCardService;
+    
+    @Autowired
+    private CatalogIndexService catalogIndexService;
+    
+    @Autowired
+    private SuggestService suggestService;
+    
+    @Autowired
+    private HomeFeedService homeFeedService;
     
     @Autowired
-    private ProductImageDAO productImageDAO;
+    private ProductDetailCacheService productDetailCacheService;
 
     // 찜 여부 확인
     @Transactional(readOnly = true)
@@ -63,7 +76,12 @@ public class WishlistService {
         wishlistDAO.save(wishlist);
 
         // 트리거로 wishCount 업데이트되므로 새 값 조회
-        return getWishCount(postId);
+        int wishCount = getWishCount(postId);
+        catalogIndexService.updateWishCount(postId, wishCount);
+        suggestService.updateWishCount(postId, wishCount);
+        homeFeedService.invalidatePopular();
+        productDetailCacheService.updateWishCount(postId, wishCount);
+        return wishCount;
     }
 
     // 찜 삭제
@@ -71,7 +89,12 @@ public class WishlistService {
     public int removeWishlist(int userId, int postId) {
         wishlistDAO.findByUserIdAndPostId(userId, postId)
                 .ifPresent(wishlistDAO::delete);
-        return getWishCount(postId);
+        int wishCount = getWishCount(postId);
+        catalogIndexService.updateWishCount(postId, wishCount);
+        suggestService.updateWishCount(postId, wishCount);
+        homeFeedService.invalidatePopular();
+        productDetailCacheService.updateWishCount(postId, wishCount);
+        return wishCount;
     }
 
     // 현재 찜수 조회
@@ -88,60 +111,52 @@ public class WishlistService {
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getUserWishlist(int userId) {
         // 사용자가 찜한 게시물 목록 조회 (최신순)
-        List<Wishlist> wishlists = wishlistDAO.findByUserIdOrderByCreatedAtDesc(userId);
+        return buildWishlistItems(wishlistDAO.findByUserIdOrderByCreatedAtDesc(userId));
+    }
+    
+    // 사용자 찜목록 커서 페이징 조회 (최신순, 반환: items, hasNext, nextCursor)
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserWishlistPage(int userId, String cursor, Integer limit) {
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        Timestamp createdAt = null;
+        int wishlistId = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            PageCursor pageCursor = PageCursor.decode(cursor, CURSOR_SORT, 2);
+            createdAt = pageCursor.getTimestamp(0);
+            wishlistId = pageCursor.getInt(1);
+        }
+        List<Wishlist> wishlists = wishlistDAO.findPageByUserId(userId, createdAt, wishlistId, pageSize + 1);
+        
+        boolean hasNext = wishlists.size() > pageSize;
+        List<Wishlist> page = hasNext ? wishlists.subList(0, pageSize) : wishlists;
+        Wishlist last = page.isEmpty() ? null : page.get(page.size() - 1);
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", buildWishlistItems(page));
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext ? PageCursor.encode(CURSOR_SORT, last.getCreatedAt(), last.getWishlistId()) : null);
+        return result;
+    }
+    
+    // 찜 목록 → 응답 항목 (찜한 순서 유지)
+    private List<Map<String, Object>> buildWishlistItems(List<Wishlist> wishlists) {
+        List<Integer> postIds = wishlists.stream()
+                .map(Wishlist::getPostId)
+                .collect(Collectors.toList());
+        
+        // 게시물은 한 번에 조회한 뒤 찜한 순서대로 정렬
+        Map<Integer, ProductPost> postsById = productPostDAO.findAllById(postIds).stream()
+                .collect(Collectors.toMap(ProductPost::getPostId, Function.identity()));
+        List<ProductPost> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(post -> post != null)
+                .collect(Collectors.toList());
         
-        return wishlists.stream().map(wishlist -> {
-            ProductPost post = productPostDAO.findById(wishlist.getPostId());
-            if (post == null) {
-                return null;
-            }
-            
-            Map<String, Object> item = new HashMap<>();
-            item.put("postId", post.getPostId());
-            item.put("postName", post.getPostName());
-            item.put("brand", post.getBrand());
-            String categoryName = post.getCategory() != null ? post.getCategory().getCategoryName() : null;
-            item.put("categoryId", post.getCategoryId());
-            item.put("categoryName", categoryName);
-            item.put("status", post.getStatus());
-            
-            // 대표 이미지 조회 (ISMAIN = 1인 이미지, 없으면 첫 번째 이미지)
-            String mainImageUrl = null;
-            List<ProductImage> images = productImageDAO.findByPostId(post.getPostId()).stream()
-                    .filter(img -> img.getImageType() == null || "GALLERY".equalsIgnoreCase(img.getImageType()))
-                    .collect(Collectors.toList());
-            if (images != null && !images.isEmpty()) {
-                ProductImage mainImage = images.stream()
-                        .filter(img -> img.getIsMain() != null && img.getIsMain() == 1)
-                        .findFirst()
-                        .orElse(images.get(0));
-                mainImageUrl = mainImage.getImageUrl();
-            }
-            item.put("imageUrl", mainImageUrl);
-            
-            // 최소 가격 조회 (할인가 우선, 없으면 원가)
-            Integer minPrice = null;
-            Integer minDiscountPrice = null;
-            List<Product> products = productDAO.findByPostId(post.getPostId());
-            if (products != null && !products.isEmpty()) {
-                Product minPriceProduct = products.stream()
-                        .min((p1, p2) -> {
-                            Integer price1 = (p1.getDiscountPrice() != null) ? p1.getDiscountPrice() : p1.getPrice();
-                            Integer price2 = (p2.getDiscountPrice() != null) ? p2.getDiscountPrice() : p2.getPrice();
-                            return price1.compareTo(price2);
-                        })
-                        .orElse(null);
-                
-                if (minPriceProduct != null) {
-                    minPrice = minPriceProduct.getPrice();
-                    minDiscountPrice = minPriceProduct.getDiscountPrice();
-                }
-            }
-            item.put("price", minPrice);
-            item.put("discountPrice", minDiscountPrice);
-            
+        return productCardService.buildCards(posts).stream().map(card -> {
+            Map<String, Object> item = productCardService.toBaseItem(card);
+            item.put("status", card.getStatus());
             return item;
-        }).filter(item -> item != null).collect(Collectors.toList());
+        }).collect(Collectors.toList());
     }
 }
 
@@ -0,0 +1,87 @@
+package com.example.backend.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 주문상세 상태 일괄 변경 확인 (상태가 NULL인 기존 주문상세도 이전 상태 조건으로 변경되는지)
+class OrderItemDAOTest {
+
+    private static final String GUARD = "AND (STATUS = ? OR (? IS NULL AND STATUS IS NULL))";
+
+    // 주문상세 ID → STATUS (NULL은 기존 데이터)
+    private final Map<Integer, String> rows = new HashMap<>();
+    private OrderItemDAO orderItemDAO;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        // 조건절을 DB와 같은 3값 논리로 평가 (NULL = 값은 참이 아님)
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            List<Object[]> args = invocation.getArgument(1);
+            assertTrue(sql.endsWith(GUARD));
+            int[] counts = new int[args.size()];
+            for (int i = 0; i < args.size(); i++) {
+                Object[] row = args.get(i);
+                Integer orderItemId = (Integer) row[1];
+                String status = rows.get(orderItemId);
+                String from = (String) ((SqlParameterValue) row[2]).getValue();
+                String fromAgain = (String) ((SqlParameterValue) row[3]).getValue();
+                boolean equal = status != null && from != null && status.equals(from);
+                boolean bothNull = fromAgain == null && status == null;
+                if (rows.containsKey(orderItemId) && (equal || bothNull)) {
+                    rows.put(orderItemId, (String) row[0]);
+                    counts[i] = 1;
+                }
+            }
+            return counts;
+        });
+        orderItemDAO = new OrderItemDAO();
+        ReflectionTestUtils.setField(orderItemDAO, "jdbcTemplate", jdbcTemplate);
+    }
+
+    @Test
+    void changesNullStatusItem() {
+        rows.put(1, null);
+        rows.put(2, "pai");
+
+        Map<Integer, String[]> transitions = new LinkedHashMap<>();
+        transitions.put(1, new String[]{null, "dli"});
+        transitions.put(2, new String[]{"pai", "dli"});
+
+        assertTrue(orderItemDAO.updateStatuses(transitions).isEmpty());
+        assertEquals("dli", rows.get(1));
+        assertEquals("dli", rows.get(2));
+    }
+
+    @Test
+    void skipsItemChangedConcurrently() {
+        // 읽은 이전 상태와 현재 상태가 다르면 변경하지 않음 (NULL과 'pai'도 다른 상태로 취급)
+        rows.put(1, "can");
+        rows.put(2, null);
+
+        Map<Integer, String[]> transitions = new LinkedHashMap<>();
+        transitions.put(1, new String[]{null, "dli"});
+        transitions.put(2, new String[]{"pai", "dli"});
+
+        assertEquals(List.of(1, 2), orderItemDAO.updateStatuses(transitions));
+        assertEquals("can", rows.get(1));
+        assertNull(rows.get(2));
+    }
+}
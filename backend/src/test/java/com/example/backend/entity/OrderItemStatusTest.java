@@ -0,0 +1,49 @@
+package com.example.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 주문상세 상태 전이와 상태별 개수로 계산한 주문 상태 확인
+class OrderItemStatusTest {
+
+    @Test
+    void allowsOnlyForwardTransitions() {
+        assertTrue(OrderItemStatus.PAID.canChangeTo(OrderItemStatus.DELIVERING));
+        assertTrue(OrderItemStatus.PAID.canChangeTo(OrderItemStatus.CANCELLED));
+        assertTrue(OrderItemStatus.DELIVERING.canChangeTo(OrderItemStatus.DELIVERING));
+        assertTrue(OrderItemStatus.DELIVERED.canChangeTo(OrderItemStatus.REFUNDED));
+        assertFalse(OrderItemStatus.DELIVERING.canChangeTo(OrderItemStatus.CANCELLED));
+        assertFalse(OrderItemStatus.DELIVERED.canChangeTo(OrderItemStatus.DELIVERING));
+        assertFalse(OrderItemStatus.CANCELLED.canChangeTo(OrderItemStatus.PAID));
+        assertFalse(OrderItemStatus.CONFIRMED.canChangeTo(OrderItemStatus.REFUNDED));
+    }
+
+    @Test
+    void parsesDbCodes() {
+        assertEquals(OrderItemStatus.PAID, OrderItemStatus.fromCode(null));
+        assertEquals(OrderItemStatus.CONFIRMED, OrderItemStatus.fromCode("con"));
+        assertEquals(OrderItemStatus.DELIVERED, OrderItemStatus.fromCode("DLD"));
+        assertThrows(IllegalStateException.class, () -> OrderItemStatus.fromCode("xyz"));
+    }
+
+    @Test
+    void derivesOrderStatusFromCounts() {
+        Order order = new Order();
+        assertNull(OrderItemStatus.deriveOrderStatus(order));
+
+        order.setPaidCount(2);
+        assertEquals("PROCESSING", OrderItemStatus.deriveOrderStatus(order));
+
+        OrderItemStatus.PAID.addTo(order, -1);
+        OrderItemStatus.CANCELLED.addTo(order, 1);
+        OrderItemStatus.PAID.addTo(order, -1);
+        OrderItemStatus.DELIVERED.addTo(order, 1);
+        assertEquals(2, OrderItemStatus.totalOf(order));
+        assertEquals("COMPLETED", OrderItemStatus.deriveOrderStatus(order));
+    }
+}
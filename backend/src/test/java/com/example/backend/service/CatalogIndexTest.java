@@ -0,0 +1,205 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 메모리 필터 인덱스 결과가 기존 스트림 필터와 같은지 확인
+class CatalogIndexTest {
+
+    private static final String[] CATEGORIES = {"상의 티셔츠", "상의 셔츠", "하의 청바지", "신발 스니커즈", "신발 로퍼"};
+    private static final String[] GENDERS = {"M", "W", "U"};
+    private static final String[] SEASONS = {"SPR", "SMR", "FAL", "WTR", "ALL"};
+    private static final String[] COLORS = {"Black", "White", "Navy", "Gray", "Beige"};
+    private static final String[] SIZES = {"S", "M", "L", "XL"};
+
+    private final List<CatalogIndex.PostEntry> posts = new ArrayList<>();
+    private final List<List<CatalogIndex.ProductEntry>> productsByPost = new ArrayList<>();
+    private CatalogIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        index = new CatalogIndex();
+        int productId = 1;
+        for (int postId = 1; postId <= 5000; postId++) {
+            CatalogIndex.PostEntry post = new CatalogIndex.PostEntry();
+            post.setPostId(postId);
+            post.setCategoryName(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            post.setGender(GENDERS[random.nextInt(GENDERS.length)]);
+            post.setSeason(SEASONS[random.nextInt(SEASONS.length)]);
+            post.setStatus(random.nextInt(10) == 0 ? 0 : 1);
+            post.setCreatedAt(random.nextInt(100000));
+            post.setWishCount(random.nextInt(50));
+
+            List<CatalogIndex.ProductEntry> products = new ArrayList<>();
+            int optionCount = random.nextInt(5);
+            for (int i = 0; i < optionCount; i++) {
+                CatalogIndex.ProductEntry product = new CatalogIndex.ProductEntry();
+                product.setProductId(productId++);
+                product.setColor(COLORS[random.nextInt(COLORS.length)]);
+                product.setSize(SIZES[random.nextInt(SIZES.length)]);
+                product.setEffectivePrice(10000 + random.nextInt(90) * 1000);
+                product.setStock(random.nextInt(3));
+                products.add(product);
+            }
+            posts.add(post);
+            productsByPost.add(products);
+            index.putPost(post, products);
+        }
+    }
+
+    @Test
+    void searchMatchesStreamFilter() {
+        List<CatalogIndex.Filter> filters = new ArrayList<>();
+        filters.add(new CatalogIndex.Filter());
+        filters.add(filter("신발", List.of("M", "U"), null, List.of("black"), null, false));
+        filters.add(filter("상의", List.of("W", "U"), List.of("SMR", "ALL"), null, List.of("M", "L"), true));
+        filters.add(filter(null, null, List.of(""), null, null, false));
+
+        for (CatalogIndex.Filter filter : filters) {
+            for (String sort : List.of("newest", "popular", "price-low", "price-high")) {
+                List<Integer> expected = streamFilter(filter, sort);
+                CatalogIndex.SearchResult result = index.search(filter, sort, 0, Integer.MAX_VALUE);
+                assertEquals(expected.size(), result.getTotalCount());
+                assertEquals(expected, result.getPostIds());
+            }
+        }
+    }
+
+    @Test
+    void searchAfterWalksSameOrderAsSearch() {
+        CatalogIndex.Filter filter = filter("상의", null, null, null, List.of("M", "L"), false);
+        for (String sort : List.of("newest", "popular", "price-low", "price-high")) {
+            List<Integer> expected = streamFilter(filter, sort);
+            Map<Integer, int[]> rows = streamRows(filter);
+            List<Integer> walked = new ArrayList<>();
+            long[] after = null;
+            while (true) {
+                List<Integer> page = index.searchAfter(filter, sort, after, 7).getPostIds();
+                if (page.isEmpty()) break;
+                walked.addAll(page);
+                int[] last = rows.get(page.get(page.size() - 1));
+                switch (sort) {
+                    case "popular":
+                        after = new long[]{last[2], last[1], last[0]};
+                        break;
+                    case "price-low":
+                    case "price-high":
+                        after = new long[]{last[3], last[0]};
+                        break;
+                    default:
+                        after = new long[]{last[1], last[0]};
+                }
+            }
+            assertEquals(expected, walked);
+        }
+    }
+
+    @Test
+    void facetCountsMatchSingleValueFilters() {
+        CatalogIndex.Filter base = filter("상의", List.of("W"), List.of("SMR"), List.of("black"), List.of("M"), false);
+        Map<String, Map<String, Integer>> facets = index.facetCounts(base);
+
+        // 각 값의 개수 = 해당 패싯만 그 값으로 바꿔서 조회한 결과 수
+        facets.get(CatalogIndex.FACET_COLOR).forEach((color, count) ->
+                assertEquals(index.count(filter("상의", List.of("W"), List.of("SMR"), List.of(color), List.of("M"), false)), count));
+        facets.get(CatalogIndex.FACET_SIZE).forEach((size, count) ->
+                assertEquals(index.count(filter("상의", List.of("W"), List.of("SMR"), List.of("black"), List.of(size), false)), count));
+        facets.get(CatalogIndex.FACET_SEASON).forEach((season, count) ->
+                assertEquals(index.count(filter("상의", List.of("W"), List.of(season), List.of("black"), List.of("M"), false)), count));
+        facets.get(CatalogIndex.FACET_GENDER).forEach((gender, count) ->
+                assertEquals(index.count(filter("상의", List.of(gender), List.of("SMR"), List.of("black"), List.of("M"), false)), count));
+    }
+
+    @Test
+    void incrementalUpdates() {
+        CatalogIndex.Filter inStockBlack = filter(null, null, null, List.of("black"), null, true);
+        int before = index.count(inStockBlack);
+
+        // 게시물 삭제 → 결과에서 제외
+        CatalogIndex.SearchResult first = index.search(inStockBlack, "newest", 0, 1);
+        index.removePost(first.getPostIds().get(0));
+        assertEquals(before - 1, index.count(inStockBlack));
+
+        // 재고 변경 반영
+        CatalogIndex.PostEntry post = posts.get(0);
+        CatalogIndex.ProductEntry option = new CatalogIndex.ProductEntry();
+        option.setProductId(999999);
+        option.setColor("BLACK");
+        option.setSize("M");
+        option.setEffectivePrice(1000);
+        option.setStock(0);
+        post.setStatus(1);
+        index.putPost(post, List.of(option));
+        int withSoldOut = index.count(inStockBlack);
+        index.updateStock(999999, 5);
+        assertEquals(withSoldOut + 1, index.count(inStockBlack));
+        assertEquals(post.getPostId(), index.search(inStockBlack, "price-low", 0, 1).getPostIds().get(0));
+    }
+
+    private CatalogIndex.Filter filter(String category, List<String> genders, List<String> seasons,
+                                       List<String> colors, List<String> sizes, boolean inStockOnly) {
+        CatalogIndex.Filter filter = new CatalogIndex.Filter();
+        filter.setCategoryPrefix(category);
+        filter.setGenders(genders);
+        filter.setSeasons(seasons);
+        filter.setColors(colors);
+        filter.setSizes(sizes);
+        filter.setInStockOnly(inStockOnly);
+        return filter;
+    }
+
+    // 기존 findWithFilters의 스트림 필터와 같은 방식 (정렬은 DB 정렬과 같은 기준)
+    private List<Integer> streamFilter(CatalogIndex.Filter filter, String sort) {
+        List<int[]> matched = new ArrayList<>(streamRows(filter).values());
+        Comparator<int[]> byPostIdDesc = Comparator.comparingInt((int[] row) -> row[0]).reversed();
+        Comparator<int[]> comparator;
+        switch (sort) {
+            case "popular":
+                comparator = Comparator.comparingInt((int[] row) -> row[2]).reversed()
+                        .thenComparing(Comparator.comparingInt((int[] row) -> row[1]).reversed())
+                        .thenComparing(byPostIdDesc);
+                break;
+            case "price-low":
+                comparator = Comparator.comparingInt((int[] row) -> row[3]).thenComparing(byPostIdDesc);
+                break;
+            case "price-high":
+                comparator = Comparator.comparingInt((int[] row) -> row[3]).reversed().thenComparing(byPostIdDesc);
+                break;
+            default:
+                comparator = Comparator.comparingInt((int[] row) -> row[1]).reversed().thenComparing(byPostIdDesc);
+        }
+        return matched.stream().sorted(comparator).map(row -> row[0]).collect(Collectors.toList());
+    }
+
+    // 조건에 맞는 게시물별 {postId, 작성일시, 찜수, 조건에 맞는 옵션 중 최저가}
+    private Map<Integer, int[]> streamRows(CatalogIndex.Filter filter) {
+        Map<Integer, int[]> rows = new LinkedHashMap<>();
+        for (int i = 0; i < posts.size(); i++) {
+            CatalogIndex.PostEntry post = posts.get(i);
+            if (post.getStatus() != 1) continue;
+            if (filter.getCategoryPrefix() != null && !post.getCategoryName().startsWith(filter.getCategoryPrefix())) continue;
+            if (filter.getGenders() != null && !filter.getGenders().contains(post.getGender())) continue;
+            if (filter.getSeasons() != null && !filter.getSeasons().contains(post.getSeason())) continue;
+            List<CatalogIndex.ProductEntry> products = productsByPost.get(i).stream()
+                    .filter(p -> filter.getColors() == null || filter.getColors().contains(p.getColor().toLowerCase()))
+                    .filter(p -> filter.getSizes() == null || filter.getSizes().contains(p.getSize()))
+                    .filter(p -> !filter.isInStockOnly() || p.getStock() > 0)
+                    .collect(Collectors.toList());
+            if (products.isEmpty()) continue;
+            int minPrice = products.stream().mapToInt(CatalogIndex.ProductEntry::getEffectivePrice).min().getAsInt();
+            rows.put(post.getPostId(), new int[]{post.getPostId(), (int) post.getCreatedAt(), post.getWishCount(), minPrice});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 재고 장부 동시성 확인 (여러 스레드가 같은 SKU에 예약/확정/취소/복구를 반복해도 초과 판매가 없는지)
+class InventoryLedgerTest {
+
+    private static final int SKUS = 3;
+    private static final int INITIAL_STOCK = 100;
+
+    @Test
+    void neverOversellsUnderConcurrency() throws Exception {
+        InventoryLedger ledger = new InventoryLedger(4);
+        AtomicIntegerArray db = new AtomicIntegerArray(SKUS);
+        for (int sku = 0; sku < SKUS; sku++) {
+            db.set(sku, INITIAL_STOCK);
+            assertTrue(ledger.track(sku, productId -> db.get(productId)));
+        }
+        AtomicIntegerArray sold = new AtomicIntegerArray(SKUS);
+        AtomicBoolean negativeSeen = new AtomicBoolean();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger failures = new AtomicInteger();
+        Object flushLock = new Object();
+
+        // DB 반영/보정 스레드 (InventoryService.flush/reconcile과 같은 순서)
+        Thread writer = new Thread(() -> {
+            while (running.get()) {
+                synchronized (flushLock) {
+                    ledger.drainPending().forEach((sku, delta) -> db.addAndGet(sku, -delta));
+                    for (int sku = 0; sku < SKUS; sku++) {
+                        ledger.reconcile(sku, db.get(sku));
+                    }
+                }
+                Thread.yield();
+            }
+        });
+        writer.start();
+
+        List<Thread> buyers = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            Thread buyer = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 5000; i++) {
+                    Map<Integer, Integer> quantities = new TreeMap<>();
+                    int lines = 1 + random.nextInt(2);
+                    for (int line = 0; line < lines; line++) {
+                        quantities.merge(random.nextInt(SKUS), 1 + random.nextInt(3), Integer::sum);
+                    }
+                    InventoryLedger.StockChange change = ledger.reserve(quantities);
+                    if (!change.getFailed().isEmpty()) {
+                        failures.incrementAndGet();
+                        continue;
+                    }
+                    for (int sku = 0; sku < SKUS; sku++) {
+                        Integer available = ledger.available(sku);
+                        if (available != null && available < 0) {
+                            negativeSeen.set(true);
+                        }
+                    }
+                    boolean committed = random.nextInt(10) < 8;
+                    ledger.complete(change, committed);
+                    if (!committed) {
+                        continue;
+                    }
+                    quantities.forEach((sku, quantity) -> sold.addAndGet(sku, quantity));
+                    // 일부는 취소 후 재고 복구
+                    if (random.nextInt(10) == 0) {
+                        InventoryLedger.StockChange restock = ledger.restock(quantities);
+                        ledger.complete(restock, true);
+                        quantities.forEach((sku, quantity) -> sold.addAndGet(sku, -quantity));
+                    }
+                }
+            });
+            buyers.add(buyer);
+            buyer.start();
+        }
+        for (Thread buyer : buyers) {
+            buyer.join();
+        }
+        running.set(false);
+        writer.join();
+        ledger.drainPending().forEach((sku, delta) -> db.addAndGet(sku, -delta));
+
+        assertFalse(negativeSeen.get());
+        assertTrue(failures.get() > 0);
+        for (int sku = 0; sku < SKUS; sku++) {
+            assertTrue(sold.get(sku) <= INITIAL_STOCK);
+            assertEquals(INITIAL_STOCK - sold.get(sku), db.get(sku));
+            assertEquals(INITIAL_STOCK - sold.get(sku), ledger.available(sku));
+        }
+    }
+
+    @Test
+    void tracksOnlyWithoutInflightDbOrders() {
+        InventoryLedger ledger = new InventoryLedger(4);
+        InventoryLedger.StockChange dbOrder = ledger.reserve(Map.of(7, 2));
+        assertEquals(Map.of(7, 2), dbOrder.getDbQuantities());
+        assertFalse(ledger.track(7, productId -> 10));
+
+        ledger.complete(dbOrder, true);
+        assertTrue(ledger.track(7, productId -> 8));
+        InventoryLedger.StockChange ledgerOrder = ledger.reserve(Map.of(7, 3));
+        assertEquals(Map.of(7, 3), ledgerOrder.getLedgerQuantities());
+        assertFalse(ledger.untrack(7));
+
+        ledger.complete(ledgerOrder, false);
+        assertEquals(8, ledger.available(7));
+        assertTrue(ledger.untrack(7));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 주문번호 생성기 확인 (여러 스레드가 동시에 발급해도 중복 없이 증가하는지)
+class OrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 200_000;
+
+    @Test
+    void noDuplicatesAcrossThreads() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(3, ZoneId.systemDefault());
+        long[][] ids = new long[THREADS][PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long[] out = ids[t];
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < PER_THREAD; i++) {
+                    out[i] = generator.nextId();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<Long> unique = new HashSet<>();
+        for (long[] out : ids) {
+            for (int i = 0; i < PER_THREAD; i++) {
+                assertTrue(unique.add(out[i]));
+                // 스레드 안에서는 발급 순서대로 증가
+                if (i > 0) {
+                    assertTrue(out[i] > out[i - 1]);
+                }
+                assertEquals(3, (out[i] >>> OrderNumberGenerator.SEQUENCE_BITS) & OrderNumberGenerator.MAX_NODE_ID);
+            }
+        }
+        assertEquals(THREADS * PER_THREAD, unique.size());
+    }
+
+    @Test
+    void formatsOrderNumberWithDate() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, ZoneId.systemDefault());
+        String first = generator.nextOrderNumber();
+        String second = generator.nextOrderNumber();
+        // 접두어 날짜는 ID에 담긴 발급 시각 기준
+        long id = Long.parseLong(first.substring(first.indexOf('-') + 1));
+        LocalDate issued = Instant.ofEpochMilli((id >>> (OrderNumberGenerator.NODE_BITS + OrderNumberGenerator.SEQUENCE_BITS)) + OrderNumberGenerator.EPOCH_MILLIS)
+                .atZone(ZoneId.systemDefault()).toLocalDate();
+        assertEquals("ORD" + issued.format(DateTimeFormatter.BASIC_ISO_DATE) + "-" + id, first);
+        assertTrue(first.length() <= 50);
+        assertNotEquals(first, second);
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumberGenerator(OrderNumberGenerator.MAX_NODE_ID + 1, ZoneId.systemDefault()));
+    }
+}
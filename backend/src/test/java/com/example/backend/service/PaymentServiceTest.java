@@ -0,0 +1,158 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.OrderCreateRequest;
+import com.example.backend.dto.PaymentConfirmRequest;
+import com.example.backend.entity.StockHold;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 결제 승인 응답을 받지 못한 경우 확인 (선점을 해제하지 않고 토스 결제 조회 결과로 주문 생성/해제)
+class PaymentServiceTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private TossPaymentClient client;
+    private StockHoldService stockHoldService;
+    private PaymentService paymentService;
+
+    // 결제 조회 스텁 응답 (상태 코드, 본문), 받은 요청 경로
+    private volatile int lookupStatus = 200;
+    private volatile String lookupBody;
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/payments", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            paths.add(path);
+            exchange.getRequestBody().readAllBytes();
+            if (path.equals("/v1/payments/confirm")) {
+                // 토스에서는 승인됐지만 응답이 응답 제한 시간보다 늦게 오는 경우
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, 200, "{\"status\":\"DONE\",\"orderId\":\"order-1\",\"totalAmount\":15000}");
+            } else if (path.equals("/v1/payments/orders/order-1")) {
+                respond(exchange, lookupStatus, lookupBody);
+            } else {
+                respond(exchange, 200, "{\"status\":\"CANCELED\"}");
+            }
+        });
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+
+        client = new TossPaymentClient("http://127.0.0.1:" + server.getAddress().getPort(), "test_sk",
+                Duration.ofMillis(500), Duration.ofMillis(300), 4);
+        stockHoldService = mock(StockHoldService.class);
+        paymentService = new PaymentService();
+        ReflectionTestUtils.setField(paymentService, "tossPaymentClient", client);
+        ReflectionTestUtils.setField(paymentService, "stockHoldService", stockHoldService);
+
+        StockHold hold = new StockHold();
+        hold.setHoldId(7);
+        hold.setTossOrderId("order-1");
+        hold.setPaymentKey("pay-key");
+        hold.setStatus("UNK");
+        when(stockHoldService.markUnknown(eq("order-1"), eq("pay-key"), any())).thenReturn(hold);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void timedOutButApprovedPaymentCreatesOrder() {
+        lookupBody = "{\"status\":\"DONE\",\"orderId\":\"order-1\",\"totalAmount\":15000}";
+        Map<String, Object> created = new HashMap<>();
+        created.put("orderId", 1);
+        when(stockHoldService.confirmUnknown(7, 15000)).thenReturn(created);
+
+        Map<String, Object> order = invokeConfirm();
+
+        assertEquals(1, order.get("orderId"));
+        verify(stockHoldService, never()).release(anyString(), anyInt());
+        verify(stockHoldService, never()).releaseUnknown(anyInt());
+        assertFalse(paths.stream().anyMatch(path -> path.endsWith("/cancel")));
+    }
+
+    @Test
+    void timedOutAndNotApprovedPaymentReleasesHold() {
+        lookupStatus = 404;
+        lookupBody = "{\"code\":\"NOT_FOUND_PAYMENT\"}";
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, this::invokeConfirm);
+
+        assertFalse(e instanceof TossPaymentClient.ResultUnknownException);
+        verify(stockHoldService).releaseUnknown(7);
+        verify(stockHoldService, never()).confirmUnknown(anyInt(), any());
+    }
+
+    @Test
+    void stillProcessingPaymentKeepsHold() {
+        lookupBody = "{\"status\":\"IN_PROGRESS\",\"orderId\":\"order-1\"}";
+
+        assertThrows(TossPaymentClient.ResultUnknownException.class, this::invokeConfirm);
+
+        verify(stockHoldService, never()).releaseUnknown(anyInt());
+        verify(stockHoldService, never()).release(anyString(), anyInt());
+    }
+
+    private Map<String, Object> invokeConfirm() {
+        OrderCreateRequest orderRequest = new OrderCreateRequest();
+        orderRequest.setUserId(3);
+        PaymentConfirmRequest request = new PaymentConfirmRequest();
+        request.setPaymentKey("pay-key");
+        request.setOrderId("order-1");
+        request.setAmount(15000);
+        request.setOrderRequest(orderRequest);
+        return ReflectionTestUtils.invokeMethod(paymentService, "confirmPayment", request);
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 시간 초과로 먼저 끊은 경우
+        }
+    }
+}
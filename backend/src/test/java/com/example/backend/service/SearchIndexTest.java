@@ -0,0 +1,68 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 검색 색인이 부분 문자열 검색 결과를 포함하고 관련도순으로 정렬되는지 확인
+class SearchIndexTest {
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        index.putPost(document(1, "오버핏 반팔 티셔츠", "무신사 스탠다드", "상의 티셔츠", "면 100%", "여름용 기본 티셔츠입니다."));
+        index.putPost(document(2, "옥스포드 셔츠", "BrandA", "상의 셔츠", "면", "<p>사계절 셔츠</p>"));
+        index.putPost(document(3, "와이드 데님 팬츠", "BrandB", "하의 청바지", "데님", "티셔츠와 잘 어울리는 청바지"));
+        index.putPost(document(4, "린넨 셔츠", "ＢＲＡＮＤＡ", "상의 셔츠", "린넨", null));
+    }
+
+    @Test
+    void matchesSubstringsAndRanksByField() {
+        // 게시물명에 있는 게시물이 설명에만 있는 게시물보다 앞
+        assertEquals(List.of(1, 3), postIds("티셔츠"));
+        // 띄어쓰기 없는 부분 문자열, 한 글자 검색
+        assertEquals(List.of(1), postIds("반팔"));
+        assertTrue(postIds("셔").containsAll(List.of(1, 2, 3, 4)));
+        // 대소문자/전각 문자 통일
+        assertEquals(List.of(4, 2), postIds("branda"));
+        // 모든 토큰을 포함해야 검색됨
+        assertEquals(List.of(4), postIds("린넨 셔츠"));
+        assertEquals(List.of(), postIds("린넨 바지"));
+        // HTML 태그는 색인하지 않음
+        assertEquals(List.of(), postIds("p"));
+    }
+
+    @Test
+    void incrementalUpdates() {
+        index.putPost(document(2, "옥스포드 블라우스", "BrandA", "상의 블라우스", "면", null));
+        assertEquals(List.of(4), postIds("branda 셔츠"));
+        assertEquals(List.of(2), postIds("블라우스"));
+
+        index.removePost(4);
+        assertEquals(List.of(2), postIds("branda"));
+        assertEquals(3, index.size());
+    }
+
+    private List<Integer> postIds(String query) {
+        return index.search(query).stream().map(SearchIndex.Hit::getPostId).collect(Collectors.toList());
+    }
+
+    private SearchIndex.Document document(int postId, String postName, String brand, String categoryName,
+                                          String material, String description) {
+        SearchIndex.Document document = new SearchIndex.Document();
+        document.setPostId(postId);
+        document.setPostName(postName);
+        document.setBrand(brand);
+        document.setCategoryName(categoryName);
+        document.setMaterial(material);
+        document.setDescription(description);
+        return document;
+    }
+}
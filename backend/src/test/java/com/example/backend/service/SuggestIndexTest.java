@@ -0,0 +1,70 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 자동완성 트라이의 접두어/초성 검색, 상위 k개 확인
+class SuggestIndexTest {
+
+    @Test
+    void prefixAndChoseong() {
+        SuggestIndex index = new SuggestIndex(List.of(
+                suggestion("brand", "나이키", 300),
+                suggestion("brand", "뉴발란스", 200),
+                suggestion("post", "나이키 에어포스 1", 50),
+                suggestion("post", "오버핏 반팔 티셔츠", 80),
+                suggestion("category", "상의 반팔", 10)), 10);
+
+        assertEquals(List.of("나이키", "나이키 에어포스 1"), texts(index.suggest("나이", 10)));
+        assertEquals(List.of("나이키", "나이키 에어포스 1"), texts(index.suggest("ㄴㅇㅋ", 10)));
+        assertEquals(List.of("나이키", "뉴발란스", "나이키 에어포스 1"), texts(index.suggest("ㄴ", 10)));
+        // 초성과 완성형 혼합, 단어 중간 시작, 대소문자
+        assertEquals(List.of("나이키"), texts(index.suggest("나ㅇㅋ", 1)));
+        assertEquals(List.of("오버핏 반팔 티셔츠", "상의 반팔"), texts(index.suggest("반팔", 10)));
+        assertEquals(List.of("오버핏 반팔 티셔츠"), texts(index.suggest("ㅂㅍ ㅌ", 10)));
+        assertEquals(List.of(), texts(index.suggest("아디다스", 10)));
+        assertEquals(List.of(), texts(index.suggest("  ", 10)));
+    }
+
+    @Test
+    void topKMatchesBruteForce() {
+        Random random = new Random(7);
+        String[] syllables = {"나", "이", "키", "반", "팔", "셔", "츠", "데", "님", "오", "버", "핏"};
+        List<SuggestIndex.Suggestion> suggestions = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = 2 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                text.append(syllables[random.nextInt(syllables.length)]);
+            }
+            suggestions.add(new SuggestIndex.Suggestion("post", text.toString(), i, random.nextInt(100000)));
+        }
+        SuggestIndex index = new SuggestIndex(suggestions, 10);
+
+        for (String query : Arrays.asList("나", "나이", "ㄴㅇ", "반팔셔", "ㅂㅍㅅ")) {
+            String prefix = query.chars().anyMatch(c -> c >= 'ㄱ' && c <= 'ㅎ') ? SuggestIndex.toChoseong(query) : query;
+            List<SuggestIndex.Suggestion> expected = suggestions.stream()
+                    .filter(s -> s.getText().startsWith(query) || SuggestIndex.toChoseong(s.getText()).startsWith(prefix))
+                    .sorted((a, b) -> Long.compare(b.getWeight(), a.getWeight()) != 0
+                            ? Long.compare(b.getWeight(), a.getWeight()) : a.getText().compareTo(b.getText()))
+                    .limit(10)
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.suggest(query, 10));
+        }
+    }
+
+    private SuggestIndex.Suggestion suggestion(String type, String text, long weight) {
+        return new SuggestIndex.Suggestion(type, text, null, weight);
+    }
+
+    private List<String> texts(List<SuggestIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestIndex.Suggestion::getText).collect(Collectors.toList());
+    }
+}
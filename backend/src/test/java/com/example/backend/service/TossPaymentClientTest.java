@@ -0,0 +1,154 @@
+package com.example.backend.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 토스 API 클라이언트 확인 (로컬 스텁 서버로 응답 지연/오류를 만들어 시간 제한과 예외 구분 확인)
+class TossPaymentClientTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private String baseUrl;
+
+    // 스텁 응답 (지연 시간, 상태 코드, 본문)
+    private volatile long latencyMillis;
+    private volatile int status = 200;
+    private volatile String responseBody = "{\"status\":\"DONE\",\"orderId\":\"order-1\"}";
+    private volatile String lastPath;
+    private volatile String lastAuthorization;
+    private volatile String lastRequestBody;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/payments", exchange -> {
+            lastPath = exchange.getRequestURI().getPath();
+            lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+            lastRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            try {
+                exchange.sendResponseHeaders(status, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (IOException e) {
+                // 클라이언트가 시간 초과로 먼저 끊은 경우
+            }
+        });
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void confirmSendsRequestAndReturnsBody() throws Exception {
+        try (TossPaymentClient client = client(Duration.ofSeconds(2), 4)) {
+            Map<String, Object> response = client.confirm("pay-key", "order-1", 15000);
+
+            assertEquals("DONE", response.get("status"));
+            assertEquals("/v1/payments/confirm", lastPath);
+            assertEquals("Basic " + Base64.getEncoder().encodeToString("test_sk:".getBytes(StandardCharsets.UTF_8)), lastAuthorization);
+            assertTrue(lastRequestBody.contains("\"paymentKey\":\"pay-key\""));
+            assertTrue(lastRequestBody.contains("\"amount\":15000"));
+        }
+    }
+
+    @Test
+    void cancelUsesPaymentKeyPath() throws Exception {
+        try (TossPaymentClient client = client(Duration.ofSeconds(2), 4)) {
+            client.cancel("pay-key", "주문 생성 실패");
+
+            assertEquals("/v1/payments/pay-key/cancel", lastPath);
+            assertTrue(lastRequestBody.contains("cancelReason"));
+        }
+    }
+
+    @Test
+    void slowResponseTimesOutAsUnknownResult() throws Exception {
+        // 응답 지연을 제한 시간보다 충분히 길게 두고, 지연이 끝나기 한참 전에 실패하는지만 확인 (느린 CI 감안)
+        Duration readTimeout = Duration.ofMillis(300);
+        latencyMillis = 10_000;
+        try (TossPaymentClient client = client(readTimeout, 4)) {
+            long start = System.nanoTime();
+            assertThrows(TossPaymentClient.ResultUnknownException.class, () -> client.confirm("pay-key", "order-1", 15000));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(elapsedMillis < readTimeout.toMillis() * 15, "응답을 기다리지 않고 제한 시간 후 실패해야 함: " + elapsedMillis + "ms");
+        }
+    }
+
+    @Test
+    void rejectionIsNotUnknownResult() throws Exception {
+        status = 400;
+        responseBody = "{\"code\":\"REJECT_CARD_PAYMENT\",\"message\":\"한도초과\"}";
+        try (TossPaymentClient client = client(Duration.ofSeconds(2), 4)) {
+            IllegalStateException e = assertThrows(IllegalStateException.class, () -> client.confirm("pay-key", "order-1", 15000));
+
+            assertFalse(e instanceof TossPaymentClient.ResultUnknownException);
+            assertTrue(e.getMessage().contains("REJECT_CARD_PAYMENT"));
+        }
+    }
+
+    @Test
+    void serverErrorIsUnknownResult() throws Exception {
+        status = 500;
+        responseBody = "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}";
+        try (TossPaymentClient client = client(Duration.ofSeconds(2), 4)) {
+            assertThrows(TossPaymentClient.ResultUnknownException.class, () -> client.confirm("pay-key", "order-1", 15000));
+        }
+    }
+
+    // 커넥션이 모두 사용 중이면 풀 대기 시간(연결 제한 시간)만큼만 기다리고 실패
+    @Test
+    void exhaustedPoolFailsFast() throws Exception {
+        Duration poolWait = Duration.ofMillis(200);
+        latencyMillis = 5000;
+        try (TossPaymentClient client = new TossPaymentClient(baseUrl, "test_sk", poolWait, Duration.ofSeconds(10), 1)) {
+            CompletableFuture<Map<String, Object>> first = CompletableFuture.supplyAsync(() -> client.confirm("pay-1", "order-1", 1000));
+            Thread.sleep(300);
+
+            long start = System.nanoTime();
+            assertThrows(IllegalStateException.class, () -> client.confirm("pay-2", "order-2", 1000));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // 첫 요청이 끝날 때까지(약 4.7초) 기다리지 않았는지만 확인
+            assertTrue(elapsedMillis < poolWait.toMillis() * 15, "커넥션 반환을 기다리지 않고 풀 대기 시간 후 실패해야 함: " + elapsedMillis + "ms");
+            assertEquals("DONE", first.get().get("status"));
+        }
+    }
+
+    private TossPaymentClient client(Duration readTimeout, int maxConnections) {
+        return new TossPaymentClient(baseUrl, "test_sk", Duration.ofMillis(500), readTimeout, maxConnections);
+    }
+}
@@ -4,6 +4,7 @@ import './Payment.css';
 import { fetchSessionUser } from '../services/authService';
 import { loadTossPayments } from '@tosspayments/payment-sdk';
 import { resolveImageUrl } from '../utils/image';
+import { holdStock, releaseStockHold } from '../services/paymentService';
 
 function Payment() {
   const navigate = useNavigate();
@@ -58,6 +59,7 @@ function Payment() {
       return;
     }
 
+    let heldOrderId = null;
     try {
       setProcessing(true);
       const tossPayments = await loadTossPayments(clientKey);
@@ -77,6 +79,11 @@ function Payment() {
             productSize: item.productSize
           }));
 
+      // 대기열 게시물에서 받은 입장 토큰 (대기열 상품이 있으면 서버에서 확인)
+      const admissionTokens = Object.keys(sessionStorage)
+        .filter((key) => key.startsWith('admissionToken:'))
+        .map((key) => sessionStorage.getItem(key));
+
       const pendingOrder = {
         userId: orderData.userId,
         cartItemIds: orderData.cartItemIds || null,
@@ -92,10 +99,31 @@ function Payment() {
         deliveryInfo: orderData.deliveryInfo,
         orderAmount: orderData.orderAmount,
         orderId,
-        orderName
+        orderName,
+        admissionTokens
       };
       sessionStorage.setItem('pendingOrder', JSON.stringify(pendingOrder));
 
+      // 결제창을 열기 전 재고 선점 (재고가 부족하면 결제 진행 안 함)
+      await holdStock({
+        orderId,
+        amount: totalAmount,
+        orderRequest: {
+          userId: pendingOrder.userId,
+          cartItemIds: pendingOrder.cartItemIds,
+          orderItems: pendingOrder.orderItems,
+          recipientName: pendingOrder.recipientName,
+          recipientPhone: pendingOrder.recipientPhone,
+          zipcode: pendingOrder.zipcode,
+          address: pendingOrder.address,
+          detailAddress: pendingOrder.detailAddress,
+          deliveryMemo: pendingOrder.deliveryMemo,
+          paymentMethod: pendingOrder.paymentMethod,
+          admissionTokens
+        }
+      });
+      heldOrderId = orderId;
+
       // 토스페이먼츠 결제창 열기 (카드 결제 기본)
       await tossPayments.requestPayment('CARD', {
         amount: totalAmount,
@@ -107,6 +135,10 @@ function Payment() {
         failUrl
       });
     } catch (error) {
+      // 결제창을 닫았거나 요청이 실패하면 선점 해제 (실패해도 만료 시 복구됨)
+      if (heldOrderId) {
+        releaseStockHold({ orderId: heldOrderId, userId: orderData.userId }).catch(() => {});
+      }
       if (error.code === 'USER_CANCEL') {
         alert('결제가 취소되었습니다.');
       } else {
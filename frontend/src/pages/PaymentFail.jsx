@@ -1,11 +1,23 @@
+import { useEffect } from 'react';
 import { useNavigate, useSearchParams } from 'react-router-dom';
 import './PaymentResult.css';
+import { releaseStockHold } from '../services/paymentService';
 
 function PaymentFail() {
   const [searchParams] = useSearchParams();
   const errorMessage = searchParams.get('message') || '결제가 취소되었습니다.';
   const navigate = useNavigate();
 
+  // 결제 실패 시 선점한 재고 해제 (실패해도 만료 시 복구됨)
+  useEffect(() => {
+    const pendingOrderStr = sessionStorage.getItem('pendingOrder');
+    if (!pendingOrderStr) return;
+    const pendingOrder = JSON.parse(pendingOrderStr);
+    if (pendingOrder.orderId && pendingOrder.userId) {
+      releaseStockHold({ orderId: pendingOrder.orderId, userId: pendingOrder.userId }).catch(() => {});
+    }
+  }, []);
+
   const handleRetry = () => {
     const pendingOrderStr = sessionStorage.getItem('pendingOrder');
     if (pendingOrderStr) {
@@ -52,7 +52,8 @@ function PaymentSuccess() {
       address: pendingOrder.address || pendingOrder.deliveryInfo?.address,
       detailAddress: pendingOrder.detailAddress || pendingOrder.deliveryInfo?.detailAddress,
       deliveryMemo: pendingOrder.deliveryMemo || pendingOrder.deliveryInfo?.deliveryMemo,
-      paymentMethod: pendingOrder.paymentMethod
+      paymentMethod: pendingOrder.paymentMethod,
+      admissionTokens: pendingOrder.admissionTokens || null
     };
 
     confirmPayment({
@@ -63,6 +64,9 @@ function PaymentSuccess() {
     })
       .then((response) => {
         sessionStorage.removeItem('pendingOrder');
+        Object.keys(sessionStorage)
+          .filter((key) => key.startsWith('admissionToken:'))
+          .forEach((key) => sessionStorage.removeItem(key));
         setStatus('success');
         setMessage('결제가 완료되었습니다.');
         navigate(`/order/${response.item.orderId}`, {
@@ -9,6 +9,7 @@ import {
 } from '../services/productService';
 import { addCartItem as addCartItemApi } from '../services/cartService';
 import { getReviewsByPostId } from '../services/reviewService';
+import { getWaitingRoom, enterWaitingRoom, getWaitingStatus } from '../services/waitingRoomService';
 import { resolveImageUrl } from '../utils/image';
 function ProductDetail() {
   const { id } = useParams();
@@ -29,6 +30,7 @@ function ProductDetail() {
   const [cartProcessing, setCartProcessing] = useState(false);
   const [reviews, setReviews] = useState([]);
   const [reviewsLoading, setReviewsLoading] = useState(false);
+  const [waitingPosition, setWaitingPosition] = useState(null);
 
   // 페이지 진입 시 스크롤 최상단
   useEffect(() => {
@@ -296,13 +298,42 @@ function ProductDetail() {
     }
   };
 
-  const handleBuyNow = () => {
+  // 대기열 게시물이면 입장할 때까지 순번을 폴링하고 입장 토큰을 저장 (주문/결제 시 함께 전송)
+  const waitForAdmission = async () => {
+    const roomResponse = await getWaitingRoom(detail.postId);
+    if (!roomResponse.item?.enabled) return true;
+
+    let status = (await enterWaitingRoom(detail.postId, sessionUser.userId)).item;
+    while (status.status === 'WAITING') {
+      setWaitingPosition(status.position);
+      await new Promise((resolve) => setTimeout(resolve, 2000));
+      status = (await getWaitingStatus(status.token)).item;
+    }
+    setWaitingPosition(null);
+    if (status.status !== 'ADMITTED') {
+      alert('대기 시간이 만료되었습니다. 다시 시도해주세요.');
+      return false;
+    }
+    sessionStorage.setItem(`admissionToken:${detail.postId}`, status.token);
+    return true;
+  };
+
+  const handleBuyNow = async () => {
     if (!ensureCustomerAvailable()) return;
     if (!ensureSelectionValid()) return;
     if (!selectedProduct || isOutOfStock) {
       alert('품절된 옵션입니다.');
       return;
     }
+    if (waitingPosition !== null) return;
+
+    try {
+      if (!(await waitForAdmission())) return;
+    } catch (error) {
+      setWaitingPosition(null);
+      alert(error.message || '대기열 입장 중 오류가 발생했습니다.');
+      return;
+    }
 
     const orderItem = {
       postId: detail.postId,
@@ -587,7 +618,7 @@ function ProductDetail() {
                 onClick={handleBuyNow}
                 disabled={buyDisabled}
               >
-                {isOutOfStock ? '품절' : '바로 구매'}
+                {isOutOfStock ? '품절' : waitingPosition !== null ? `대기 ${waitingPosition}번` : '바로 구매'}
               </button>
             </div>
 
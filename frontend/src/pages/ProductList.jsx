@@ -1,17 +1,27 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import { useSearchParams } from 'react-router-dom';
 import ProductCard from '../components/ProductCard';
 import categoryStructure from '../data/categories.json';
-import { getFilteredProductPosts } from '../services/productService';
+import { getFilteredProductPosts, getSearchSuggestions } from '../services/productService';
 import { resolveImageUrl } from '../utils/image';
 import './ProductList.css';
 
+const PAGE_SIZE = 20;
+
 function ProductList() {
   const [searchParams, setSearchParams] = useSearchParams();
   const [products, setProducts] = useState([]);
   const [sortOption, setSortOption] = useState('newest');
   const [loading, setLoading] = useState(true);
+  // 페이지 단위 조회 (더보기로 다음 페이지를 이어 붙임)
+  const [page, setPage] = useState(0);
+  const [hasNext, setHasNext] = useState(false);
+  const [totalCount, setTotalCount] = useState(0);
+  const [loadingMore, setLoadingMore] = useState(false);
+  // 필터/정렬이 바뀔 때마다 증가 (이전 조건으로 보낸 더보기 응답은 버림)
+  const queryVersion = useRef(0);
   const [searchInput, setSearchInput] = useState('');
+  const [suggestions, setSuggestions] = useState([]);
   const [isCategoryMenuOpen, setIsCategoryMenuOpen] = useState(false);
   const [selectedMainCategory, setSelectedMainCategory] = useState(null);
   const [selectedSubCategory, setSelectedSubCategory] = useState(null);
@@ -33,51 +43,109 @@ function ProductList() {
     setSearchInput(search);
   }, [sort, search]);
 
+  // 상품 목록 한 페이지 조회 (API 응답을 ProductCard 컴포넌트 형식으로 변환)
+  const fetchProductPage = async (pageNumber) => {
+    const response = await getFilteredProductPosts({
+      category: category || undefined,
+      gender: gender || undefined,
+      search: search || undefined,
+      colors: color ? [color] : undefined,
+      sizes: size ? [size] : undefined,
+      seasons: season ? [season] : undefined,
+      sort: sortOption,
+      page: pageNumber,
+      pageSize: PAGE_SIZE
+    });
+
+    if (response.rt !== 'OK' || !response.items) {
+      return { items: [], hasNext: false, totalCount: 0 };
+    }
+    const items = response.items.map(item => ({
+      id: item.postId,
+      brand: item.brand || '',
+      name: item.postName || '',
+      price: item.price || 0,
+      discountPrice: item.discountPrice || null,
+      image: resolveImageUrl(item.imageUrl),
+      wishCount: item.wishCount || 0,
+      categoryName: item.categoryName || '',
+      gender: item.gender || '',
+      season: item.season || '',
+      createdAt: item.createdAt || new Date().toISOString()
+    }));
+    return { items, hasNext: !!response.hasNext, totalCount: response.totalCount ?? items.length };
+  };
+
+  // 필터/정렬이 바뀌면 첫 페이지부터 다시 조회
   useEffect(() => {
-    // 실제 API 호출
+    let ignore = false;
+    queryVersion.current += 1;
     const fetchProducts = async () => {
       setLoading(true);
       try {
-        const response = await getFilteredProductPosts({
-          category: category || undefined,
-          gender: gender || undefined,
-          search: search || undefined,
-          colors: color ? [color] : undefined,
-          sizes: size ? [size] : undefined,
-          seasons: season ? [season] : undefined,
-          sort: sortOption
-        });
-        
-        if (response.rt === 'OK' && response.items) {
-          // API 응답을 ProductCard 컴포넌트 형식으로 변환
-          const formattedProducts = response.items.map(item => ({
-            id: item.postId,
-            brand: item.brand || '',
-            name: item.postName || '',
-            price: item.price || 0,
-            discountPrice: item.discountPrice || null,
-            image: resolveImageUrl(item.imageUrl),
-            wishCount: item.wishCount || 0,
-            categoryName: item.categoryName || '',
-            gender: item.gender || '',
-            season: item.season || '',
-            createdAt: item.createdAt || new Date().toISOString()
-          }));
-          setProducts(formattedProducts);
-        } else {
-          setProducts([]);
-        }
+        const result = await fetchProductPage(0);
+        if (ignore) return;
+        setProducts(result.items);
+        setPage(0);
+        setHasNext(result.hasNext);
+        setTotalCount(result.totalCount);
       } catch (error) {
+        if (ignore) return;
         console.error('상품 목록 조회 오류:', error);
         setProducts([]);
+        setHasNext(false);
+        setTotalCount(0);
       } finally {
-        setLoading(false);
+        if (!ignore) setLoading(false);
       }
     };
     
     fetchProducts();
+    return () => {
+      ignore = true;
+    };
   }, [category, gender, search, sortOption, color, size, season]);
 
+  // 더보기 (다음 페이지를 목록 뒤에 붙임, 이미 있는 게시물은 제외)
+  const handleLoadMore = async () => {
+    if (loadingMore || !hasNext) return;
+    const version = queryVersion.current;
+    setLoadingMore(true);
+    try {
+      const result = await fetchProductPage(page + 1);
+      if (version !== queryVersion.current) return;
+      setProducts(prev => {
+        const ids = new Set(prev.map(product => product.id));
+        return [...prev, ...result.items.filter(product => !ids.has(product.id))];
+      });
+      setPage(page + 1);
+      setHasNext(result.hasNext);
+      setTotalCount(result.totalCount);
+    } catch (error) {
+      console.error('상품 목록 조회 오류:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // 검색어 자동완성 (입력이 멈춘 뒤 150ms 후 조회)
+  useEffect(() => {
+    const query = searchInput.trim();
+    if (!query || query === search) {
+      setSuggestions([]);
+      return;
+    }
+    const timer = setTimeout(async () => {
+      try {
+        const response = await getSearchSuggestions(query);
+        setSuggestions(response.rt === 'OK' && response.items ? response.items : []);
+      } catch (error) {
+        setSuggestions([]);
+      }
+    }, 150);
+    return () => clearTimeout(timer);
+  }, [searchInput, search]);
+
   // 정렬 함수
   const sortProducts = (productList, sort) => {
     const sorted = [...productList];
@@ -239,6 +307,8 @@ function ProductList() {
     params.delete('season');
     
     params.set('search', searchInput.trim());
+    // 검색 결과는 관련도순으로 표시
+    params.set('sort', 'relevance');
     setSearchParams(params);
   };
 
@@ -572,7 +642,13 @@ function ProductList() {
                   value={searchInput}
                   onChange={(e) => setSearchInput(e.target.value)}
                   className="search-input"
+                  list="search-suggestions"
                 />
+                <datalist id="search-suggestions">
+                  {suggestions.map((suggestion) => (
+                    <option key={`${suggestion.type}-${suggestion.postId ?? suggestion.text}`} value={suggestion.text} />
+                  ))}
+                </datalist>
                 <button type="submit" className="search-btn">검색</button>
               </form>
             </div>
@@ -581,7 +657,7 @@ function ProductList() {
             <div className="list-header">
               <div className="filter-info">
                 <h1>{getFilterInfo()}</h1>
-                <p className="product-count">총 {products.length}개의 상품</p>
+                <p className="product-count">총 {totalCount}개의 상품</p>
               </div>
               <div className="sort-controls">
                 <label htmlFor="sort-select">정렬:</label>
@@ -591,6 +667,7 @@ function ProductList() {
                   onChange={handleSortChange}
                   className="sort-select"
                 >
+                  {search && <option value="relevance">관련도순</option>}
                   <option value="newest">최신순</option>
                   <option value="popular">인기순</option>
                   <option value="price-low">가격 낮은순</option>
@@ -606,11 +683,25 @@ function ProductList() {
                 <p className="empty-subtitle">다른 검색어나 카테고리를 선택해보세요.</p>
               </div>
             ) : (
-              <div className="product-grid">
-                {products.map(product => (
-                  <ProductCard key={product.id} product={product} />
-                ))}
-              </div>
+              <>
+                <div className="product-grid">
+                  {products.map(product => (
+                    <ProductCard key={product.id} product={product} />
+                  ))}
+                </div>
+                {hasNext && (
+                  <div className="load-more">
+                    <button
+                      type="button"
+                      className="load-more-btn"
+                      onClick={handleLoadMore}
+                      disabled={loadingMore}
+                    >
+                      {loadingMore ? '불러오는 중...' : '더보기'}
+                    </button>
+                  </div>
+                )}
+              </>
             )}
           </div>
         </div>
@@ -4,6 +4,7 @@ import './SellerDashboard.css';
 import { fetchSessionUser, changePassword, setSession, verifyCredentials, deleteUser, logout } from '../services/authService';
 import {
   getSellerOrders,
+  getSellerOrderCounts,
   shipOrderItem,
   cancelOrderItemBySeller,
   getSellerRefunds,
@@ -200,6 +201,7 @@ function SellerDashboard() {
   });
   const [orders, setOrders] = useState([]);
   const [ordersLoading, setOrdersLoading] = useState(false);
+  const [orderCounts, setOrderCounts] = useState(null);
   const [ordersError, setOrdersError] = useState('');
   const [refunds, setRefunds] = useState([]);
   const [refundsLoading, setRefundsLoading] = useState(false);
@@ -271,6 +273,10 @@ function SellerDashboard() {
         setOrdersError('');
         const data = await getSellerOrders(id);
         setOrders(data.items || []);
+        // 처리 대기 건수는 서버 집계 사용 (실패하면 목록에서 계산)
+        getSellerOrderCounts(id)
+          .then(response => setOrderCounts(response.item || null))
+          .catch(() => setOrderCounts(null));
       } catch (error) {
         console.error('판매자 주문 조회 오류:', error);
         setOrders([]);
@@ -404,7 +410,9 @@ function SellerDashboard() {
     const paidOrdersCount = orderList.filter(
       order => normalizeOrderStatus(order.status) === 'PAID'
     ).length;
-    const pendingTaskCount = requestedRefundCount + paidOrdersCount;
+    const pendingTaskCount = orderCounts
+      ? (orderCounts.PAID || 0) + (orderCounts.REFUND_REQUESTED || 0)
+      : requestedRefundCount + paidOrdersCount;
 
     if (!orderList || orderList.length === 0) {
       return {
@@ -432,7 +440,7 @@ function SellerDashboard() {
       totalProducts: products.length,
       pendingTasks: pendingTaskCount
     };
-  }, [orders, products.length, refunds]);
+  }, [orders, orderCounts, products.length, refunds]);
 
   const popularProducts = useMemo(() => {
     if (!products || products.length === 0) return [];
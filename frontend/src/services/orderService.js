@@ -51,6 +51,31 @@ export const getSellerOrders = async (sellerId) => {
   return handleResponse(response);
 };
 
+// 판매자 주문 커서 페이징 (status, from, to, keyword, cursor, limit 중 필요한 것만 전달)
+export const getSellerOrdersPage = async (sellerId, filters = {}) => {
+  const params = new URLSearchParams();
+  params.append('sellerId', sellerId);
+  Object.entries(filters).forEach(([key, value]) => {
+    if (value !== undefined && value !== null && value !== '') {
+      params.append(key, value);
+    }
+  });
+  const response = await fetch(`${API_BASE_URL}/seller/orders?${params.toString()}`, {
+    method: 'GET',
+    credentials: 'include'
+  });
+  return handleResponse(response);
+};
+
+// 판매자 주문 상태별 건수 (PAID, DELIVERING, ..., REFUND_REQUESTED, TOTAL)
+export const getSellerOrderCounts = async (sellerId) => {
+  const response = await fetch(`${API_BASE_URL}/seller/orders/counts?sellerId=${sellerId}`, {
+    method: 'GET',
+    credentials: 'include'
+  });
+  return handleResponse(response);
+};
+
 export const shipOrderItem = async (orderItemId, sellerId) => {
   const response = await fetch(`${API_BASE_URL}/seller/orders/${orderItemId}/ship`, {
     method: 'POST',
@@ -27,3 +27,29 @@ export const confirmPayment = async (payload) => {
 };
 
 
+
+// 결제창을 열기 전 재고 선점 (만료 시 서버에서 자동 복구)
+export const holdStock = async ({ orderId, amount, orderRequest }) => {
+  const response = await fetch(`${API_BASE_URL}/payments/hold`, {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json'
+    },
+    credentials: 'include',
+    body: JSON.stringify({ orderId, amount, orderRequest })
+  });
+  return handleResponse(response);
+};
+
+// 결제 취소/실패 시 선점 해제
+export const releaseStockHold = async ({ orderId, userId }) => {
+  const response = await fetch(`${API_BASE_URL}/payments/hold/release`, {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json'
+    },
+    credentials: 'include',
+    body: JSON.stringify({ orderId, userId })
+  });
+  return handleResponse(response);
+};
@@ -173,6 +173,21 @@ export const getNewestProductPosts = async () => {
   }
 };
 
+// 검색어 자동완성 조회 (접두어 또는 초성)
+export const getSearchSuggestions = async (query, limit = 10) => {
+  try {
+    const params = new URLSearchParams({ q: query, limit });
+    const response = await fetch(`${API_BASE_URL}/productposts/suggest?${params.toString()}`, {
+      method: 'GET',
+      credentials: 'include'
+    });
+    return handleResponse(response);
+  } catch (error) {
+    console.error('자동완성 조회 오류:', error);
+    throw error;
+  }
+};
+
 // 필터링된 상품 게시물 목록 조회
 export const getFilteredProductPosts = async (filters) => {
   try {
@@ -182,6 +197,9 @@ export const getFilteredProductPosts = async (filters) => {
     if (filters.gender && filters.gender !== '전체') params.append('gender', filters.gender);
     if (filters.search) params.append('search', filters.search);
     if (filters.sort) params.append('sort', filters.sort);
+    if (filters.page != null) params.append('page', filters.page);
+    if (filters.pageSize) params.append('pageSize', filters.pageSize);
+    if (filters.inStock) params.append('inStock', 'true');
     
     // 다중 선택 필터
     if (filters.colors && filters.colors.length > 0) {
@@ -205,6 +223,37 @@ export const getFilteredProductPosts = async (filters) => {
   }
 };
 
+// 필터 패싯별 상품 수 조회 (목록 조회와 같은 필터)
+export const getProductPostFacets = async (filters) => {
+  try {
+    const params = new URLSearchParams();
+    
+    if (filters.category) params.append('category', filters.category);
+    if (filters.gender && filters.gender !== '전체') params.append('gender', filters.gender);
+    if (filters.search) params.append('search', filters.search);
+    if (filters.inStock) params.append('inStock', 'true');
+    
+    if (filters.colors && filters.colors.length > 0) {
+      filters.colors.forEach(color => params.append('color', color));
+    }
+    if (filters.sizes && filters.sizes.length > 0) {
+      filters.sizes.forEach(size => params.append('size', size));
+    }
+    if (filters.seasons && filters.seasons.length > 0) {
+      filters.seasons.forEach(season => params.append('season', season));
+    }
+    
+    const response = await fetch(`${API_BASE_URL}/productposts/facets?${params.toString()}`, {
+      method: 'GET',
+      credentials: 'include'
+    });
+    return handleResponse(response);
+  } catch (error) {
+    console.error('필터 개수 조회 오류:', error);
+    throw error;
+  }
+};
+
 // 찜 추가
 export const addWishlist = async (userId, postId) => {
   try {
@@ -0,0 +1,33 @@
+const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080';
+
+const handleResponse = async (response) => {
+  const data = await response.json();
+  if (!response.ok || data.rt !== 'OK') {
+    throw new Error(data.message || '요청 처리 중 오류가 발생했습니다.');
+  }
+  return data;
+};
+
+export const getWaitingRoom = async (postId) => {
+  const response = await fetch(`${API_BASE_URL}/waiting-room/${postId}`, {
+    method: 'GET',
+    credentials: 'include'
+  });
+  return handleResponse(response);
+};
+
+export const enterWaitingRoom = async (postId, userId) => {
+  const response = await fetch(`${API_BASE_URL}/waiting-room/${postId}/enter?userId=${userId}`, {
+    method: 'POST',
+    credentials: 'include'
+  });
+  return handleResponse(response);
+};
+
+export const getWaitingStatus = async (token) => {
+  const response = await fetch(`${API_BASE_URL}/waiting-room/status?token=${encodeURIComponent(token)}`, {
+    method: 'GET',
+    credentials: 'include'
+  });
+  return handleResponse(response);
+};
@@ -0,0 +1,216 @@
+-- ============================================
+-- 단성사 쇼핑몰 Oracle DB 마이그레이션 스크립트
+-- 이미 운영 중인 DB에 스키마 변경분을 적용 (새로 만드는 DB는 oracle_db_schema.sql만 실행)
+-- 각 항목은 한 번만 실행
+-- ============================================
+
+-- ============================================
+-- 상품 목록 요약 (PRODUCTLISTING)
+-- 비어 있으면 서버 기동 시 게시물/상품 기준으로 채워지므로 데이터 이관은 필요 없음
+-- ============================================
+CREATE TABLE PRODUCTLISTING (
+    POSTID_SEQ NUMBER PRIMARY KEY,
+    MINPRICE NUMBER,
+    MINDISCOUNTPRICE NUMBER,
+    MINEFFECTIVEPRICE NUMBER,
+    MAINIMAGEURL VARCHAR2(500),
+    COLORS VARCHAR2(1000),
+    SIZES VARCHAR2(1000),
+    UPDATEDAT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT FK_PRODUCTLISTING_POSTID_SEQ FOREIGN KEY (POSTID_SEQ) REFERENCES PRODUCTPOST(POSTID_SEQ) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE PRODUCTLISTING IS '상품 목록 요약 테이블 (게시물 1건당 1행)';
+COMMENT ON COLUMN PRODUCTLISTING.POSTID_SEQ IS '게시물ID (PK, FK -> ProductPost)';
+COMMENT ON COLUMN PRODUCTLISTING.MINPRICE IS '최저 실판매가 옵션의 원가';
+COMMENT ON COLUMN PRODUCTLISTING.MINDISCOUNTPRICE IS '최저 실판매가 옵션의 할인가';
+COMMENT ON COLUMN PRODUCTLISTING.MINEFFECTIVEPRICE IS '최저 실판매가 (할인가 우선, 없으면 원가) - 가격순 정렬용';
+COMMENT ON COLUMN PRODUCTLISTING.MAINIMAGEURL IS '대표 이미지 경로';
+COMMENT ON COLUMN PRODUCTLISTING.COLORS IS '옵션 컬러 목록 (소문자, 쉼표 구분)';
+COMMENT ON COLUMN PRODUCTLISTING.SIZES IS '옵션 사이즈 목록 (쉼표 구분)';
+COMMENT ON COLUMN PRODUCTLISTING.UPDATEDAT IS '요약 정보 갱신 날짜';
+
+-- 가격순 정렬 인덱스
+CREATE INDEX IDX_PRODUCTLISTING_MINPRICE ON PRODUCTLISTING(MINEFFECTIVEPRICE);
+
+-- ============================================
+-- 판매자 일별 판매 집계 (SELLERDAILYSALES)
+-- 비어 있으면 서버 기동 시 ORDERITEM 기준으로 채워지므로 데이터 이관은 필요 없음
+-- ============================================
+CREATE TABLE SELLERDAILYSALES (
+    USERID_SEQ NUMBER NOT NULL,
+    SALEDATE DATE NOT NULL,
+    POSTID_SEQ NUMBER NOT NULL,
+    PRODUCTID_SEQ NUMBER NOT NULL,
+    ORDEREDQTY NUMBER DEFAULT 0 NOT NULL,
+    ORDEREDAMOUNT NUMBER DEFAULT 0 NOT NULL,
+    DELIVEREDQTY NUMBER DEFAULT 0 NOT NULL,
+    CONFIRMEDQTY NUMBER DEFAULT 0 NOT NULL,
+    CANCELEDQTY NUMBER DEFAULT 0 NOT NULL,
+    CANCELEDAMOUNT NUMBER DEFAULT 0 NOT NULL,
+    REFUNDEDQTY NUMBER DEFAULT 0 NOT NULL,
+    REFUNDEDAMOUNT NUMBER DEFAULT 0 NOT NULL,
+    UPDATEDAT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT PK_SELLERDAILYSALES PRIMARY KEY (USERID_SEQ, SALEDATE, POSTID_SEQ, PRODUCTID_SEQ)
+);
+
+COMMENT ON TABLE SELLERDAILYSALES IS '판매자 일별 판매 집계 테이블 (판매자/주문일/게시물/상품당 1행)';
+COMMENT ON COLUMN SELLERDAILYSALES.USERID_SEQ IS '판매자ID';
+COMMENT ON COLUMN SELLERDAILYSALES.SALEDATE IS '주문일';
+COMMENT ON COLUMN SELLERDAILYSALES.POSTID_SEQ IS '게시물ID';
+COMMENT ON COLUMN SELLERDAILYSALES.PRODUCTID_SEQ IS '상품ID';
+COMMENT ON COLUMN SELLERDAILYSALES.ORDEREDQTY IS '주문 수량';
+COMMENT ON COLUMN SELLERDAILYSALES.ORDEREDAMOUNT IS '주문 금액 (가격 x 수량)';
+COMMENT ON COLUMN SELLERDAILYSALES.DELIVEREDQTY IS '배송완료 상태 수량';
+COMMENT ON COLUMN SELLERDAILYSALES.CONFIRMEDQTY IS '구매확정 상태 수량';
+COMMENT ON COLUMN SELLERDAILYSALES.CANCELEDQTY IS '취소 수량';
+COMMENT ON COLUMN SELLERDAILYSALES.CANCELEDAMOUNT IS '취소 금액';
+COMMENT ON COLUMN SELLERDAILYSALES.REFUNDEDQTY IS '환불 수량';
+COMMENT ON COLUMN SELLERDAILYSALES.REFUNDEDAMOUNT IS '환불 금액';
+COMMENT ON COLUMN SELLERDAILYSALES.UPDATEDAT IS '집계 갱신 시간';
+
+CREATE INDEX IDX_SELLERDAILYSALES_POST ON SELLERDAILYSALES(POSTID_SEQ, SALEDATE);
+
+-- ============================================
+-- 주문 상태별 주문상세 개수 (ORDER.CNT_*)
+-- ============================================
+ALTER TABLE "order" ADD (
+    CNT_PAY NUMBER DEFAULT 0 NOT NULL,
+    CNT_DLV NUMBER DEFAULT 0 NOT NULL,
+    CNT_DLD NUMBER DEFAULT 0 NOT NULL,
+    CNT_CNF NUMBER DEFAULT 0 NOT NULL,
+    CNT_CAN NUMBER DEFAULT 0 NOT NULL,
+    CNT_REF NUMBER DEFAULT 0 NOT NULL
+);
+
+COMMENT ON COLUMN "order".CNT_PAY IS '결제완료 주문상세 수';
+COMMENT ON COLUMN "order".CNT_DLV IS '배송중 주문상세 수';
+COMMENT ON COLUMN "order".CNT_DLD IS '배송완료 주문상세 수';
+COMMENT ON COLUMN "order".CNT_CNF IS '구매확정 주문상세 수';
+COMMENT ON COLUMN "order".CNT_CAN IS '취소 주문상세 수';
+COMMENT ON COLUMN "order".CNT_REF IS '환불 주문상세 수';
+
+-- 기존 주문은 ORDERITEM 상태로 개수 채움 (상태 없음은 결제완료, 'con'은 구매확정으로 집계)
+UPDATE "order" o SET (CNT_PAY, CNT_DLV, CNT_DLD, CNT_CNF, CNT_CAN, CNT_REF) = (
+    SELECT SUM(CASE WHEN i.STATUS IS NULL OR i.STATUS = 'pay' THEN 1 ELSE 0 END),
+           SUM(CASE WHEN i.STATUS = 'dlv' THEN 1 ELSE 0 END),
+           SUM(CASE WHEN i.STATUS = 'dld' THEN 1 ELSE 0 END),
+           SUM(CASE WHEN i.STATUS IN ('cnf', 'con') THEN 1 ELSE 0 END),
+           SUM(CASE WHEN i.STATUS = 'can' THEN 1 ELSE 0 END),
+           SUM(CASE WHEN i.STATUS = 'ref' THEN 1 ELSE 0 END)
+    FROM ORDERITEM i
+    WHERE i.ORDERID_SEQ = o.ORDERID_SEQ
+)
+WHERE EXISTS (SELECT 1 FROM ORDERITEM i WHERE i.ORDERID_SEQ = o.ORDERID_SEQ);
+
+COMMIT;
+
+-- ============================================
+-- 멱등 키 (IDEMPOTENCYKEY)
+-- ============================================
+CREATE TABLE IDEMPOTENCYKEY (
+    IDEMKEY VARCHAR2(150) PRIMARY KEY,
+    USERID_SEQ NUMBER NOT NULL,
+    REQUESTHASH VARCHAR2(64) NOT NULL,
+    STATUS VARCHAR2(3) NOT NULL,
+    RESPONSEBODY CLOB,
+    CREATEDAT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE IDEMPOTENCYKEY IS '멱등 키 테이블 (보관 기간이 지나면 삭제)';
+COMMENT ON COLUMN IDEMPOTENCYKEY.IDEMKEY IS '멱등 키 (요청 종류 + Idempotency-Key 헤더 또는 토스 주문번호)';
+COMMENT ON COLUMN IDEMPOTENCYKEY.USERID_SEQ IS '요청한 유저ID';
+COMMENT ON COLUMN IDEMPOTENCYKEY.REQUESTHASH IS '요청 본문 SHA-256 (같은 키로 다른 요청을 보내면 거부)';
+COMMENT ON COLUMN IDEMPOTENCYKEY.STATUS IS '상태 (PRG: 처리 중, COM: 완료)';
+COMMENT ON COLUMN IDEMPOTENCYKEY.RESPONSEBODY IS '완료된 응답 (JSON)';
+COMMENT ON COLUMN IDEMPOTENCYKEY.CREATEDAT IS '처리 시작 시간';
+
+CREATE INDEX IDX_IDEMPOTENCYKEY_CREATEDAT ON IDEMPOTENCYKEY(CREATEDAT);
+
+-- ============================================
+-- 결제 전 재고 선점 (STOCKHOLD, STOCKHOLDITEM)
+-- ============================================
+-- 재고 선점 시퀀스
+CREATE SEQUENCE SEQ_STOCKHOLD_HOLDID_SEQ
+    START WITH 1
+    INCREMENT BY 1
+    NOCACHE
+    NOCYCLE;
+
+-- 재고 선점 상품 시퀀스
+CREATE SEQUENCE SEQ_STOCKHOLDITEM_HOLDITEMID_SEQ
+    START WITH 1
+    INCREMENT BY 1
+    NOCACHE
+    NOCYCLE;
+
+-- 재고 선점(StockHold) - 결제창을 열 때 재고를 차감해 두고 결제 승인 시 주문으로 확정, 만료 시 복구
+CREATE TABLE STOCKHOLD (
+    HOLDID_SEQ NUMBER PRIMARY KEY,
+    TOSSORDERID VARCHAR2(64) NOT NULL UNIQUE,
+    USERID_SEQ NUMBER NOT NULL,
+    STATUS VARCHAR2(3) DEFAULT 'HLD' NOT NULL CHECK (STATUS IN ('HLD', 'UNK', 'CNF', 'REL')),
+    AMOUNT NUMBER NOT NULL,
+    EXPIRESAT TIMESTAMP NOT NULL,
+    PAYMENTKEY VARCHAR2(200),
+    ORDERREQUEST CLOB,
+    CREATEDAT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    UPDATEDAT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT FK_STOCKHOLD_USERID_SEQ FOREIGN KEY (USERID_SEQ) REFERENCES "user"(USERID_SEQ)
+);
+
+COMMENT ON TABLE STOCKHOLD IS '재고 선점 테이블';
+COMMENT ON COLUMN STOCKHOLD.HOLDID_SEQ IS '재고 선점 고유ID';
+COMMENT ON COLUMN STOCKHOLD.TOSSORDERID IS '토스페이먼츠 결제 요청 orderId';
+COMMENT ON COLUMN STOCKHOLD.USERID_SEQ IS '구매자ID (FK -> User)';
+COMMENT ON COLUMN STOCKHOLD.STATUS IS '상태 (HLD=선점, UNK=승인 결과 확인 중, CNF=주문 확정, REL=해제)';
+COMMENT ON COLUMN STOCKHOLD.AMOUNT IS '결제 예정 금액';
+COMMENT ON COLUMN STOCKHOLD.EXPIRESAT IS '선점 만료 시간';
+COMMENT ON COLUMN STOCKHOLD.PAYMENTKEY IS '결제 키 (승인 결과 확인 중일 때 취소용)';
+COMMENT ON COLUMN STOCKHOLD.ORDERREQUEST IS '주문 요청 JSON (승인 결과 확인 중일 때 승인 확인 후 주문 생성용)';
+COMMENT ON COLUMN STOCKHOLD.CREATEDAT IS '선점 시간';
+COMMENT ON COLUMN STOCKHOLD.UPDATEDAT IS '상태 변경 시간';
+
+-- 재고 선점 상품(StockHoldItem)
+CREATE TABLE STOCKHOLDITEM (
+    HOLDITEMID_SEQ NUMBER PRIMARY KEY,
+    HOLDID_SEQ NUMBER NOT NULL,
+    PRODUCTID_SEQ NUMBER NOT NULL,
+    QUANTITY NUMBER NOT NULL,
+    CONSTRAINT FK_STOCKHOLDITEM_HOLDID_SEQ FOREIGN KEY (HOLDID_SEQ) REFERENCES STOCKHOLD(HOLDID_SEQ),
+    CONSTRAINT FK_STOCKHOLDITEM_PRODUCTID_SEQ FOREIGN KEY (PRODUCTID_SEQ) REFERENCES PRODUCT(PRODUCTID_SEQ)
+);
+
+COMMENT ON TABLE STOCKHOLDITEM IS '재고 선점 상품 테이블';
+COMMENT ON COLUMN STOCKHOLDITEM.HOLDITEMID_SEQ IS '재고 선점 상품 고유ID';
+COMMENT ON COLUMN STOCKHOLDITEM.HOLDID_SEQ IS '재고 선점ID (FK -> StockHold)';
+COMMENT ON COLUMN STOCKHOLDITEM.PRODUCTID_SEQ IS '상품ID (FK -> Product)';
+COMMENT ON COLUMN STOCKHOLDITEM.QUANTITY IS '선점 수량';
+
+-- 재고 선점 인덱스 (만료 선점 점검, 회원별 선점 수/탈퇴 시 정리, 선점 상품 조회, 상품 삭제 시 정리)
+CREATE INDEX IDX_STOCKHOLD_STATUS_EXPIRESAT ON STOCKHOLD(STATUS, EXPIRESAT);
+CREATE INDEX IDX_STOCKHOLD_USERID_STATUS ON STOCKHOLD(USERID_SEQ, STATUS);
+CREATE INDEX IDX_STOCKHOLDITEM_HOLDID_SEQ ON STOCKHOLDITEM(HOLDID_SEQ);
+CREATE INDEX IDX_STOCKHOLDITEM_PRODUCTID_SEQ ON STOCKHOLDITEM(PRODUCTID_SEQ);
+
+-- 재고 선점 ID 자동 증가 트리거
+CREATE OR REPLACE TRIGGER TRG_STOCKHOLD_HOLDID_SEQ
+    BEFORE INSERT ON STOCKHOLD
+    FOR EACH ROW
+BEGIN
+    IF :NEW.HOLDID_SEQ IS NULL THEN
+        :NEW.HOLDID_SEQ := SEQ_STOCKHOLD_HOLDID_SEQ.NEXTVAL;
+    END IF;
+END;
+/
+
+-- 재고 선점 상품 ID 자동 증가 트리거
+CREATE OR REPLACE TRIGGER TRG_STOCKHOLDITEM_HOLDITEMID_SEQ
+    BEFORE INSERT ON STOCKHOLDITEM
+    FOR EACH ROW
+BEGIN
+    IF :NEW.HOLDITEMID_SEQ IS NULL THEN
+        :NEW.HOLDITEMID_SEQ := SEQ_STOCKHOLDITEM_HOLDITEMID_SEQ.NEXTVAL;
+    END IF;
+END;
+/